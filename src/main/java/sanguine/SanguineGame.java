@@ -5,11 +5,15 @@ import sanguine.controller.GameStateListener;
 import sanguine.controller.StubController;
 import sanguine.controller.machineplayers.StrategyPlayer;
 import sanguine.model.BasicSanguine;
+import sanguine.model.BitboardSanguine;
 import sanguine.model.CardFileReader;
 import sanguine.model.Player;
 import sanguine.model.SanguineModel;
+import sanguine.model.SparseSanguine;
 import sanguine.model.strategy.FillFirstStrategy;
 import sanguine.model.strategy.MaxRowScoreStrategy;
+import sanguine.model.strategy.MctsStrategy;
+import sanguine.model.strategy.MinimaxStrategy;
 import sanguine.view.BasicSanguineView;
 
 /**
@@ -51,6 +55,9 @@ public class SanguineGame {
    *                      <li>"Human" for a gui based player the user can control</li>
    *                      <li>"FillFirst" for a fill-first strategy player</li>
    *                      <li>"MaxRowScore" for the max-row-score strategy</li>
+   *                      <li>"Minimax" for an alpha-beta search strategy</li>
+   *                      <li>"MCTS" for a Monte Carlo tree search strategy, printing how each
+   *                      search went</li>
    *                    </ul>
    *                  </th>
    *             </tr>
@@ -58,11 +65,21 @@ public class SanguineGame {
    *                  <th>5</th>
    *                  <th>The Player for Blue</th>
    *             </tr>
+   *             <tr>
+   *                  <th>6 (optional)</th>
+   *                  <th>The model implementation
+   *                    <ul>
+   *                      <li>"Basic" for a {@link BasicSanguine} (the default)</li>
+   *                      <li>"Bitboard" for a {@link BitboardSanguine}</li>
+   *                      <li>"Sparse" for a {@link SparseSanguine}</li>
+   *                    </ul>
+   *                  </th>
+   *             </tr>
    *             </table>
    * @throws IllegalArgumentException if the arguments don't follow the documentation
    */
   public static void main(String[] args) {
-    if (args.length != 6) {
+    if (args.length != 6 && args.length != 7) {
       throw new IllegalArgumentException("Invalid number of arguments");
     }
     int rows = numFromString(args[0], "Invalid row number formatting");
@@ -70,12 +87,10 @@ public class SanguineGame {
     String redDeckString = args[2];
     String blueDeckString = args[3];
 
-    SanguineModel model;
-    try {
-      model = new BasicSanguine(columns, rows, 4, redDeckString, blueDeckString, false, null);
-    } catch (IllegalArgumentException e) {
-      throw new IllegalArgumentException("Invalid board-size/deck arguments");
-    }
+    String modelString = (args.length == 7) ? args[6] : "Basic";
+
+    SanguineModel model = modelFromString(modelString, columns, rows, redDeckString,
+        blueDeckString);
     GameStateListener redPlayer = strategyFromString(args[4], "Invalid red player string",
         model, Player.RED);
     GameStateListener bluePlayer = strategyFromString(args[5], "Invalid blue player string",
@@ -101,6 +116,36 @@ public class SanguineGame {
     }
   }
 
+  /**
+   * returns a new model of the type represented by the given string.
+   *
+   * @param modelString    the model type as a string (as formatted in the docs of
+   *                       {@link #main(String[])}
+   * @param columns        the number of columns on the board
+   * @param rows           the number of rows on the board
+   * @param redDeckString  the path for the red deck's file
+   * @param blueDeckString the path for the blue deck's file
+   * @return the model represented by {@code modelString}
+   * @throws IllegalArgumentException if {@code modelString} is not a model type, or if the
+   *                                  board-size/deck arguments are invalid for the model
+   */
+  private static SanguineModel modelFromString(String modelString, int columns, int rows,
+                                               String redDeckString, String blueDeckString) {
+    try {
+      return switch (modelString) {
+        case "Basic" -> new BasicSanguine(columns, rows, 4, redDeckString, blueDeckString,
+            false, null);
+        case "Bitboard" -> new BitboardSanguine(columns, rows, 4, redDeckString, blueDeckString,
+            false, null);
+        case "Sparse" -> new SparseSanguine(columns, rows, 4, redDeckString, blueDeckString,
+            false, null);
+        default -> throw new IllegalArgumentException("Invalid model string");
+      };
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException("Invalid board-size/deck/model arguments");
+    }
+  }
+
   /**
    * returns the player type represented by the given string.
    *
@@ -111,8 +156,9 @@ public class SanguineGame {
    * @param model          the model the {@link GameStateListener} is working on
    * @param player         the player the {@link GameStateListener} is playing for
    * @return the {@link GameStateListener} representation of {@code strategyString}
-   * @throws IllegalArgumentException if {@code numString} has invalid formatting.
-   *                                  Thrown with {@code errorMessage}
+   * @throws IllegalArgumentException if {@code numString} has invalid formatting, thrown with
+   *                                  {@code errorMessage}, or if the strategy searches and the
+   *                                  model can't be forked
    */
   private static GameStateListener strategyFromString(String strategyString, String errorMessage,
                                                       SanguineModel model, Player player) {
@@ -121,8 +167,29 @@ public class SanguineGame {
           new BasicSanguineView(model, player), player);
       case "FillFirst" -> new StrategyPlayer(model, player, new FillFirstStrategy());
       case "MaxRowScore" -> new StrategyPlayer(model, player, new MaxRowScoreStrategy());
+      case "Minimax" -> new StrategyPlayer(requireForkable(model), player,
+          new MinimaxStrategy());
+      case "MCTS" -> new StrategyPlayer(requireForkable(model), player, new MctsStrategy(),
+          report -> System.out.println(player + ": " + report));
       default -> throw new IllegalArgumentException(errorMessage);
     };
   }
 
+  /**
+   * returns the given model if it can be forked, as the strategies that search need, so that
+   * they don't quietly play their fallback strategy all game instead. The model is asked with
+   * {@link SanguineModel#canFork()}, so it is left as it was.
+   *
+   * @param model the model the strategy is playing on
+   * @return the model
+   * @throws IllegalArgumentException if the model can't be forked
+   */
+  private static SanguineModel requireForkable(SanguineModel model) {
+    if (!model.canFork()) {
+      throw new IllegalArgumentException("Minimax and MCTS players need a model that can be "
+          + "forked");
+    }
+    return model;
+  }
+
 }
\ No newline at end of file
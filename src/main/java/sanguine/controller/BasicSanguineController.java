@@ -1,9 +1,9 @@
 package sanguine.controller;
 
-import java.util.List;
 import sanguine.model.Card;
 import sanguine.model.Player;
 import sanguine.model.SanguineModel;
+import sanguine.model.moves.MoveResult;
 import sanguine.view.SanguineView;
 
 /**
@@ -108,41 +108,25 @@ public class BasicSanguineController implements SanguineController {
     int row = tile[0];
     int col = tile[1];
 
-    List<Card> hand = model.getHand(player);
-    int indexInHand = hand.indexOf(selectedCard);
+    int indexInHand = indexInHand(selectedCard);
     if (indexInHand < 0) {
       view.alertIllegalMove("Cannot Place Card");
       return;
     }
 
-    if (!model.canPlayCard(player, indexInHand, row, col)) {
-      view.alertIllegalMove("Illegal Move!");
+    MoveResult result = model.tryPlaceCard(player, indexInHand, row, col);
+    if (result != MoveResult.OK) {
+      view.alertIllegalMove("Illegal Move! " + result.reason());
       return;
-
     }
-    model.placeCard(indexInHand, row, col);
     view.refresh();
   }
 
   @Override
   public void pass() {
-    Player current;
-    try {
-      current = model.getTurn();
-    } catch (IllegalStateException e) {
-      view.alertIllegalMove("Game is over");
-      return;
-    }
-
-    if (current != player) {
-      view.alertIllegalMove("Not your turn");
-      return;
-    }
-
-    try {
-      model.pass();
-    } catch (IllegalStateException e) {
-      view.alertIllegalMove(e.getMessage());
+    MoveResult result = model.tryPass(player);
+    if (result != MoveResult.OK) {
+      view.alertIllegalMove(result.reason());
     }
   }
 
@@ -163,4 +147,18 @@ public class BasicSanguineController implements SanguineController {
   public void startGame() {
     view.showImage();
   }
+
+  /**
+   * returns the index of the first card in this player's hand equal to the given card, or -1 if
+   * the hand has no such card. The hand is read in place rather than copied.
+   */
+  private int indexInHand(Card card) {
+    int handSize = model.handSize(player);
+    for (int indexInHand = 0; indexInHand < handSize; indexInHand++) {
+      if (model.handCardAt(player, indexInHand).equals(card)) {
+        return indexInHand;
+      }
+    }
+    return -1;
+  }
 }
@@ -16,6 +16,18 @@ public interface GameStateListener {
    */
   void alertTurn(Player player);
 
+  /**
+   * behavior for when the given {@code player} makes a move, given as its
+   * {@link sanguine.model.moves.MoveCodec} code. Called once the move is made, before the turn
+   * or the end of the game it leads to is alerted. Moves that can't be encoded, like placements
+   * on columns too far for a code, aren't alerted. Does nothing by default.
+   *
+   * @param player the player who made the move
+   * @param move   the code of the move
+   */
+  default void moveMade(Player player, int move) {
+  }
+
   /**
    * behavior for when the game of Sanguine is over.
    */
@@ -1,21 +1,27 @@
 package sanguine.controller.machineplayers;
 
+import java.util.function.Consumer;
 import sanguine.controller.GameStateListener;
 import sanguine.model.Player;
 import sanguine.model.SanguineModel;
+import sanguine.model.moves.MoveResult;
+import sanguine.model.moves.SanguineMove;
 import sanguine.model.strategy.SanguineStrategy;
+import sanguine.model.strategy.SearchReport;
 
 /**
  * A player controlled by a machine that listens for turn notifications and
  * on its own turn asks a {@link sanguine.model.strategy.SanguineStrategy}
  * for a {@link sanguine.model.moves.SanguineMove} and applies it to the
- * underlying {@link sanguine.model.SanguineModel}.
+ * underlying {@link sanguine.model.SanguineModel}. Strategies that search report each search,
+ * with how fast it played out games, to the consumer the player is given.
  */
 public class StrategyPlayer implements GameStateListener {
 
   private final SanguineModel model;
   private final Player player;
   private final SanguineStrategy strategy;
+  private final Consumer<SearchReport> reports;
 
   /**
    * constructs a strategy player that plays the given strategy's move when it's the given player's
@@ -27,20 +33,62 @@ public class StrategyPlayer implements GameStateListener {
    * @throws IllegalArgumentException if any arguments are null
    */
   public StrategyPlayer(SanguineModel model, Player player, SanguineStrategy strategy) {
-    if (model == null || player == null || strategy == null) {
-      throw new IllegalArgumentException("model or player is null");
+    this(model, player, strategy, report -> { });
+  }
+
+  /**
+   * constructs a strategy player that plays the given strategy's move when it's the given player's
+   * turn, giving the report of the search behind each move to the given consumer.
+   *
+   * @param model the model the moves are made on
+   * @param player the player the moves are made for
+   * @param strategy the strategy that picks the moves
+   * @param reports the consumer of the reports of the strategy's searches
+   * @throws IllegalArgumentException if any arguments are null
+   */
+  public StrategyPlayer(SanguineModel model, Player player, SanguineStrategy strategy,
+                        Consumer<SearchReport> reports) {
+    if (model == null || player == null || strategy == null || reports == null) {
+      throw new IllegalArgumentException("model, player, strategy or reports is null");
     }
 
     this.model = model;
     this.player = player;
     this.strategy = strategy;
+    this.reports = reports;
     model.register(this);
   }
 
+  /**
+   * returns the report of the strategy's last search, or null if it doesn't search or hasn't
+   * yet.
+   *
+   * @return the last report
+   */
+  public SearchReport lastReport() {
+    return strategy.lastReport();
+  }
+
+  /**
+   * makes the strategy's move when it is this player's turn. Alerts are dispatched while moves
+   * made by earlier alerts are still being made, so an alert the game has moved past since, by
+   * ending or by another turn, is ignored.
+   *
+   * @param player the player whose turn it is
+   * @throws IllegalStateException if the strategy chooses a move that isn't legal
+   */
   @Override
   public void alertTurn(Player player) {
-    if (player == this.player) {
-      strategy.chooseMove(model, player).affect(model);
+    if (player == this.player && !model.isGameOver() && model.getTurn() == player) {
+      SanguineMove move = strategy.chooseMove(model, player);
+      SearchReport report = strategy.lastReport();
+      if (report != null) {
+        reports.accept(report);
+      }
+      MoveResult result = model.tryMakeTurn(player, move);
+      if (result != MoveResult.OK) {
+        throw new IllegalStateException("strategy chose an illegal move: " + result.reason());
+      }
     }
     // ADD BEHAVIOR IF NEEDED
   }
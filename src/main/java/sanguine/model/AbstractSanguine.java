@@ -0,0 +1,983 @@
+package sanguine.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import sanguine.controller.GameStateListener;
+import sanguine.model.moves.MoveCodec;
+import sanguine.model.moves.PackedPlacement;
+import sanguine.model.moves.SanguineMove;
+
+/**
+ * the rules of Sanguine that don't depend on how the board is stored, shared by
+ * {@link BasicSanguine}, {@link BitboardSanguine} and {@link SparseSanguine}: reading and checking
+ * the decks, dealing, hands, turns and passing, row and total scores, and alerting listeners.
+ * Subclasses store the board, saying whether a card can be placed on a tile and placing it with
+ * its influence, and answer the queries about tiles.
+ *
+ * <p>Moves are applied and undone with an {@link UndoJournal}, forks share the hands and decks
+ * until either model changes them, and snapshots reuse the rows and hands that didn't change.
+ * Subclasses take part by recording the board changes they make with {@link #recordChange} or
+ * {@link #recordWord}, putting them back in {@link #undoBoardChange}, marking the rows they
+ * change with {@link #rowChanged(int)}, and copying their board in {@link #copy()}.</p>
+ *
+ * <p>Coordinates are represented as (row,col), being 0-indexed from the top
+ * and left respectively.</p>
+ */
+abstract class AbstractSanguine implements SanguineModel {
+
+  private static final Player[] PLAYERS = Player.values();
+
+  protected final int width;
+  protected final int height;
+  private final int maxHandSize;
+  private final Map<Player, List<Card>> hands;
+  // INVARIANT: Lists in value set have maximum size maxHandSize
+  private final HandViews handViews = new HandViews();
+
+  private final List<GameStateListener> listeners = new ArrayList<>();
+  private Deck redDeck;
+  private Deck blueDeck;
+  private final boolean[] sharedHands;
+  private final boolean[] sharedDecks;
+  // INVARIANT: shared hands and decks (by player ordinal) may be referenced by a fork of this
+  // model, and must be copied before they are changed
+
+  protected final RowScores scores;
+  private int emptyTiles;
+  private Player turn;
+  private int consecutivePasses;
+  private boolean started = false;
+  private long handHash;
+  // INVARIANT: emptyTiles is the number of tiles without a card, and handHash is the sum of the
+  // ZobristHash keys of every card in hands
+  private final boolean publishesSnapshots;
+  private final boolean[] dirtyRows;
+  private final boolean[] dirtyHands;
+  private volatile GameState snapshot;
+  // INVARIANT: dirtyRows and dirtyHands (by player ordinal) mark the rows and hands changed since
+  // snapshot was taken. snapshot is null until the first one is taken
+  private final UndoJournal journal = new UndoJournal();
+  private boolean applying = false;
+  // INVARIANT: changes are recorded in journal and listeners aren't alerted while applying
+  private boolean batching = false;
+  private int[] batchMoves = new int[16];
+  private int batchMoveCount;
+  // INVARIANT: while applyAll is making moves, batching is true and the first batchMoveCount
+  // entries of batchMoves are the player ordinal and code of each move made so far, in pairs
+
+  /**
+   * constructs a game with the specified parameters, dealing out the hands but leaving the board
+   * to the subclass, which takes the first snapshot with {@link #publishSnapshot()} once its board
+   * is set up. Deck formats are specified in the documentation for {@link CardFileReader}.
+   *
+   * @param width            the width of the board
+   * @param height           the height of the board
+   * @param handSize         the maximum number of cards in a player's hand
+   * @param redDeckFilePath  the path for the file describing the red deck
+   * @param blueDeckFilePath the path for the file specifying the blue deck
+   * @param shuffle          whether the decks are shuffled before play
+   * @param seed             the seed used to shuffle the decks, or null for a random seed
+   * @throws IllegalArgumentException if any argument is void, if the files for either deck cannot
+   *                                  be read, or if the width, height or decks does not match the
+   *                                  rules specified in the documentation of
+   *                                  {@link BasicSanguine}
+   */
+  protected AbstractSanguine(int width, int height, int handSize,
+                             String redDeckFilePath, String blueDeckFilePath,
+                             boolean shuffle, Long seed)
+      throws IllegalArgumentException {
+    throwExceptionIfInvalidGridSize(width, height);
+
+    this.width = width;
+    this.height = height;
+
+    hands = new EnumMap<>(Player.class);
+    hands.put(Player.RED, new ArrayList<>());
+    hands.put(Player.BLUE, new ArrayList<>());
+
+    this.redDeck = new Deck(CardFileReader.read(redDeckFilePath));
+    this.blueDeck = new Deck(CardFileReader.read(blueDeckFilePath));
+
+    testDecks(redDeck, blueDeck, width, height);
+    throwExceptionIfInvalidHandSize(handSize, redDeck, blueDeck);
+    this.maxHandSize = handSize;
+
+    sharedHands = new boolean[PLAYERS.length];
+    sharedDecks = new boolean[PLAYERS.length];
+    dirtyRows = new boolean[height];
+    dirtyHands = new boolean[PLAYERS.length];
+    publishesSnapshots = true;
+    scores = new RowScores(height);
+    emptyTiles = width * height;
+
+    Random rng = (seed == null) ? new Random() : new Random(seed);
+    if (shuffle) {
+      redDeck.shuffle(rng);
+      blueDeck.shuffle(rng);
+    }
+    turn = Player.RED;
+    consecutivePasses = 0;
+    dealOutCards();
+  }
+
+  /**
+   * constructs a fork of the given model, as documented by {@link #fork()}, leaving the board to
+   * the subclass. The hands and decks of {@code parent} must already be marked as shared.
+   *
+   * @param parent the model being forked
+   */
+  protected AbstractSanguine(AbstractSanguine parent) {
+    width = parent.width;
+    height = parent.height;
+    maxHandSize = parent.maxHandSize;
+    hands = new EnumMap<>(parent.hands);
+    redDeck = parent.redDeck;
+    blueDeck = parent.blueDeck;
+    sharedHands = parent.sharedHands.clone();
+    sharedDecks = parent.sharedDecks.clone();
+    scores = new RowScores(parent.scores);
+    emptyTiles = parent.emptyTiles;
+    turn = parent.turn;
+    consecutivePasses = parent.consecutivePasses;
+    started = parent.started;
+    handHash = parent.handHash;
+    publishesSnapshots = false;
+    dirtyRows = new boolean[height];
+    dirtyHands = new boolean[PLAYERS.length];
+  }
+
+  /**
+   * throws {@link IllegalArgumentException} if a board with the given dimensions breaks the rules
+   * specified in the documentation of {@link BasicSanguine}.
+   *
+   * @param width  the width of the board
+   * @param height the height of the board
+   * @throws IllegalArgumentException if the width or height is invalid
+   */
+  static void throwExceptionIfInvalidGridSize(int width, int height) {
+    if (height <= 0) {
+      throw new IllegalArgumentException("width less than 1");
+    }
+    if (width <= 1) {
+      throw new IllegalArgumentException("height less than 2");
+    }
+    if (width % 2 == 0) {
+      throw new IllegalArgumentException("width is even");
+    }
+  }
+
+  /**
+   * throws {@link IllegalArgumentException} if the given hand size isn't positive or is more than
+   * a third of either deck.
+   *
+   * @param handSize the maximum number of cards in a player's hand
+   * @param redDeck  the deck of the red player
+   * @param blueDeck the deck of the blue player
+   * @throws IllegalArgumentException if the hand size is invalid
+   */
+  static void throwExceptionIfInvalidHandSize(int handSize, Deck redDeck, Deck blueDeck)
+      throws IllegalArgumentException {
+    if (handSize <= 0) {
+      throw new IllegalArgumentException("hand size less than 1");
+    }
+    if (handSize > redDeck.size() / 3 || handSize > blueDeck.size() / 3) {
+      throw new IllegalArgumentException("hand size more than a third of deck size");
+    }
+  }
+
+  /**
+   * throws {@link IllegalArgumentException} if the given decks are invalid.
+   *
+   * @param redDeck  the deck of the red player
+   * @param blueDeck the deck of the blue player
+   * @param width    the width of the board the decks are for
+   * @param height   the height of the board the decks are for
+   * @throws IllegalArgumentException if the given decks are invalid
+   */
+  static void testDecks(Deck redDeck, Deck blueDeck, int width, int height)
+      throws IllegalArgumentException {
+    if (redDeck.size() + blueDeck.size() < width * height) {
+      throw new IllegalArgumentException("gameTiles must have at least " + width + " x " + height);
+    }
+
+    redDeck.throwExceptionIfMoreThanTwoCopies("redDeck");
+    blueDeck.throwExceptionIfMoreThanTwoCopies("blueDeck");
+  }
+
+  /**
+   * throws {@link IllegalStateException} if the given player can't place the given card on the
+   * given tile, and otherwise places the card there for them and applies its influence to the
+   * board. The card, the coordinates and the game have already been checked.
+   *
+   * @param who  the player placing the card, whose turn it is
+   * @param card the card placed
+   * @param row  the row the card is placed on
+   * @param col  the column the card is placed on
+   * @throws IllegalStateException if the tile has a card, isn't the player's, or doesn't have
+   *                               enough pawns
+   */
+  protected abstract void placeOnBoard(Player who, Card card, int row, int col)
+      throws IllegalStateException;
+
+  /**
+   * returns whether the given player may place a card of the given cost on the given tile of the
+   * board: the tile has no card, belongs to the player, and has at least {@code cost} pawns.
+   *
+   * @param player the player placing the card
+   * @param cost   the cost of the card
+   * @param row    the row of the tile, which is on the board
+   * @param col    the column of the tile, which is on the board
+   * @return whether the card can be placed there
+   */
+  protected abstract boolean canPlaceOn(Player player, int cost, int row, int col);
+
+  /**
+   * puts back a board change recorded by the subclass with {@link #recordChange} or
+   * {@link #recordWord}, as the move that made it is undone. Changes are put back from the last
+   * one recorded to the first.
+   *
+   * @param kind the kind of the change, one of the {@link UndoJournal} kinds
+   * @param a    the first int recorded with the change
+   * @param b    the second int recorded with the change
+   * @param c    the third int recorded with the change, or 0 if it was recorded with a word
+   * @param word the word recorded with the change, or 0 if it was recorded with three ints
+   */
+  protected abstract void undoBoardChange(int kind, int a, int b, int c, long word);
+
+  /**
+   * returns the snapshot of the given row of the board.
+   *
+   * @param row the row
+   * @return the snapshot of the row
+   */
+  protected abstract GameState.Row snapshotRow(int row);
+
+  /**
+   * returns the XOR of the {@link ZobristHash} keys of every owned tile of the board.
+   *
+   * @return the hash of the board
+   */
+  protected abstract long boardHash();
+
+  /**
+   * returns a fork of this model with a board of its own, made with
+   * {@link #AbstractSanguine(AbstractSanguine)}. The hands and decks are already marked as shared.
+   *
+   * @return the fork
+   */
+  protected abstract AbstractSanguine copy();
+
+  /**
+   * records a change to the board, with {@code a}, {@code b} and {@code c} as the subclass
+   * defines for {@code kind}, if a move is being applied. Changes must be recorded before they
+   * are made.
+   *
+   * @param kind the kind of the change, one of the {@link UndoJournal} kinds
+   * @param a    the first int of the change
+   * @param b    the second int of the change
+   * @param c    the third int of the change
+   */
+  protected final void recordChange(int kind, int a, int b, int c) {
+    if (applying) {
+      journal.record(kind, a, b, c);
+    }
+  }
+
+  /**
+   * records a change to the board with a word, as {@link #recordChange} does.
+   *
+   * @param kind the kind of the change, one of the {@link UndoJournal} kinds
+   * @param a    the first int of the change
+   * @param b    the second int of the change
+   * @param word the word of the change
+   */
+  protected final void recordWord(int kind, int a, int b, long word) {
+    if (applying) {
+      journal.record(kind, a, b, word);
+    }
+  }
+
+  /**
+   * marks the given row as changed since the last snapshot.
+   *
+   * @param row the row
+   */
+  protected final void rowChanged(int row) {
+    dirtyRows[row] = true;
+  }
+
+  private void dealOutCards() {
+    for (int i = 0; i < maxHandSize; i++) {
+      dealCardIfAllowed(Player.RED);
+      dealCardIfAllowed(Player.BLUE);
+    }
+  }
+
+  private void dealCardIfAllowed(Player player) {
+    Deck deck = switch (player) {
+      case BLUE -> blueDeck;
+      case RED -> redDeck;
+    };
+
+    if (hands.get(player).size() < maxHandSize && !deck.isEmpty()) {
+      Card drawn = writableDeck(player).draw();
+      writableHand(player).add(drawn);
+      handHash += ZobristHash.handKey(player, drawn);
+      if (applying) {
+        journal.record(UndoJournal.DRAW, player.ordinal(), 0, 0);
+      }
+    }
+  }
+
+  /**
+   * returns the hand of the given player, first copying it if it is shared with a fork. Hands
+   * that are about to be changed must be accessed through this method.
+   *
+   * @param player the player whose hand is returned
+   * @return the hand of the given player, which is safe to change
+   */
+  private List<Card> writableHand(Player player) {
+    dirtyHands[player.ordinal()] = true;
+    if (sharedHands[player.ordinal()]) {
+      hands.put(player, new ArrayList<>(hands.get(player)));
+      sharedHands[player.ordinal()] = false;
+    }
+    return hands.get(player);
+  }
+
+  /**
+   * returns the deck of the given player, first copying it if it is shared with a fork. Decks
+   * that are about to be changed must be accessed through this method.
+   *
+   * @param player the player whose deck is returned
+   * @return the deck of the given player, which is safe to change
+   */
+  private Deck writableDeck(Player player) {
+    if (sharedDecks[player.ordinal()]) {
+      sharedDecks[player.ordinal()] = false;
+      switch (player) {
+        case RED -> redDeck = redDeck.copy();
+        case BLUE -> blueDeck = blueDeck.copy();
+      }
+    }
+    return switch (player) {
+      case RED -> redDeck;
+      case BLUE -> blueDeck;
+    };
+  }
+
+  /**
+   * returns the given player's hand itself, which must not be changed.
+   *
+   * @param player the player whose hand is returned
+   * @return the player's hand
+   */
+  protected List<Card> hand(Player player) {
+    return hands.get(player);
+  }
+
+  @Override
+  public int width() {
+    return width;
+  }
+
+  @Override
+  public int height() {
+    return height;
+  }
+
+  @Override
+  public boolean isGameOver() {
+    return emptyTiles == 0 || consecutivePasses >= 2;
+  }
+
+  @Override
+  public int consecutivePasses() {
+    return consecutivePasses;
+  }
+
+  @Override
+  public int remainingEmptyTiles() {
+    return emptyTiles;
+  }
+
+  @Override
+  public void pass() throws IllegalStateException {
+    if (isGameOver()) {
+      throw new IllegalStateException("game over");
+    }
+
+    incrementTurn();
+    setConsecutivePasses(consecutivePasses + 1);
+
+    if (!isGameOver()) {
+      dealCardIfAllowed(turn);
+    }
+
+    alertMoveListeners(opponent(turn), MoveCodec.PASS);
+    publishSnapshotIfNeeded();
+    alertTurnListenersIfGameIsntOver();
+    alertGameOverListenersIfNeeded();
+  }
+
+  @Override
+  public void placeCard(int indexInHand, int row, int col)
+      throws IllegalArgumentException, IllegalStateException {
+    throwIllegalArgumentExceptionIfInvalidCoordinates(row, col);
+
+    List<Card> hand = hands.get(turn);
+    if (indexInHand < 0 || indexInHand >= hand.size()) {
+      throw new IllegalArgumentException("index out of bounds for hand");
+    }
+
+    Card card = hand.get(indexInHand);
+    if (card == null) {
+      throw new IllegalArgumentException("null card");
+    }
+    if (isGameOver()) {
+      throw new IllegalStateException("game over");
+    }
+
+    placeOnBoard(turn, card, row, col);
+    if (applying) {
+      journal.record(UndoJournal.PLACE, row, col, turn.ordinal(), card);
+      journal.record(UndoJournal.HAND, turn.ordinal(), indexInHand, 0, card);
+    }
+    emptyTiles -= 1;
+    scores.add(turn, row, card.value());
+    writableHand(turn).remove(indexInHand);
+    handHash -= ZobristHash.handKey(turn, card);
+    setConsecutivePasses(0);
+
+    incrementTurn();
+
+    if (!isGameOver()) {
+      dealCardIfAllowed(turn);
+    }
+
+    if (MoveCodec.canEncode(indexInHand, row, col)) {
+      alertMoveListeners(opponent(turn), MoveCodec.placement(indexInHand, row, col));
+    }
+    publishSnapshotIfNeeded();
+    alertTurnListenersIfGameIsntOver();
+    alertGameOverListenersIfNeeded();
+  }
+
+  @Override
+  public void makeTurn(SanguineMove move) throws IllegalArgumentException, IllegalStateException {
+    if (move == null) {
+      throw new IllegalArgumentException("move is null");
+    }
+    try {
+      move.affect(this);
+    } catch (IllegalArgumentException e) {
+      throw new IllegalStateException("invalid move");
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The moves are made as if applied with {@link #apply(SanguineMove)}, so nothing but the
+   * game itself is updated until the last one, and an illegal move is rolled back with
+   * {@link #undo()} together with every move before it. The snapshot, if this model publishes
+   * them, is then taken once. Made while a move applied with {@link #apply(SanguineMove)} is yet
+   * to be undone, the batch is undone with it, so no snapshot is taken and no one is alerted.</p>
+   */
+  @Override
+  public void applyAll(List<SanguineMove> moves)
+      throws IllegalArgumentException, IllegalStateException {
+    if (moves == null) {
+      throw new IllegalArgumentException("moves is null");
+    }
+    for (SanguineMove move : moves) {
+      if (move == null) {
+        throw new IllegalArgumentException("move is null");
+      }
+    }
+    beginBatch();
+    for (int i = 0; i < moves.size(); i++) {
+      try {
+        moves.get(i).affect(this);
+      } catch (IllegalArgumentException | IllegalStateException e) {
+        rollBackBatch();
+        throw new IllegalStateException("invalid move at index " + i + ": " + moves.get(i));
+      }
+    }
+    finishBatch(moves.size());
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The moves are made all or none, as by {@link #applyAll(List)}.</p>
+   */
+  @Override
+  public void applyAll(int[] moves, int count)
+      throws IllegalArgumentException, IllegalStateException {
+    MoveCodec.checkMoves(moves, count);
+    beginBatch();
+    for (int i = 0; i < count; i++) {
+      int move = moves[i];
+      try {
+        if (MoveCodec.isPass(move)) {
+          pass();
+        } else {
+          placeCard(PackedPlacement.indexInHand(move), PackedPlacement.row(move),
+              PackedPlacement.col(move));
+        }
+      } catch (IllegalArgumentException | IllegalStateException e) {
+        rollBackBatch();
+        throw new IllegalStateException(
+            "invalid move at index " + i + ": " + MoveCodec.toString(move));
+      }
+    }
+    finishBatch(count);
+  }
+
+  /**
+   * starts a batch of moves made by {@code applyAll}.
+   */
+  private void beginBatch() {
+    journal.mark();
+    applying = true;
+    batching = true;
+    batchMoveCount = 0;
+  }
+
+  /**
+   * takes back every move of the batch being made by {@code applyAll}.
+   */
+  private void rollBackBatch() {
+    applying = false;
+    batching = false;
+    undo();
+  }
+
+  /**
+   * keeps the moves of the batch being made by {@code applyAll}, then alerts listeners of each
+   * move, and publishes the snapshot and alerts listeners of the turn once if any were made. How
+   * to undo the moves is forgotten, unless they were made after a move applied with
+   * {@link #apply(SanguineMove)}: undoing that move then undoes them too, so, like it, they
+   * alert no one.
+   *
+   * @param made the number of moves made
+   */
+  private void finishBatch(int made) {
+    int start = journal.popMark();
+    applying = false;
+    batching = false;
+    if (journal.hasMark()) {
+      return;
+    }
+    journal.truncate(start);
+    for (int i = 0; i < batchMoveCount; i += 2) {
+      alertMoveListeners(PLAYERS[batchMoves[i]], batchMoves[i + 1]);
+    }
+    if (made > 0) {
+      publishSnapshotIfNeeded();
+      alertTurnListenersIfGameIsntOver();
+      alertGameOverListenersIfNeeded();
+    }
+  }
+
+  @Override
+  public void apply(SanguineMove move) throws IllegalArgumentException, IllegalStateException {
+    if (move == null) {
+      throw new IllegalArgumentException("move is null");
+    }
+    journal.mark();
+    applying = true;
+    try {
+      move.affect(this);
+    } catch (IllegalArgumentException | IllegalStateException e) {
+      applying = false;
+      undo();
+      throw new IllegalStateException("invalid move");
+    } finally {
+      applying = false;
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The move is made directly with {@link #pass()} or {@link #placeCard}, without decoding
+   * it.</p>
+   */
+  @Override
+  public void apply(int move) throws IllegalArgumentException, IllegalStateException {
+    if (!MoveCodec.isMove(move)) {
+      throw new IllegalArgumentException("not a move code: " + move);
+    }
+    journal.mark();
+    applying = true;
+    try {
+      if (MoveCodec.isPass(move)) {
+        pass();
+      } else {
+        placeCard(PackedPlacement.indexInHand(move), PackedPlacement.row(move),
+            PackedPlacement.col(move));
+      }
+    } catch (IllegalArgumentException | IllegalStateException e) {
+      applying = false;
+      undo();
+      throw new IllegalStateException("invalid move");
+    } finally {
+      applying = false;
+    }
+  }
+
+  @Override
+  public void undo() throws IllegalStateException {
+    if (!journal.hasMark()) {
+      throw new IllegalStateException("no move to undo");
+    }
+    int start = journal.popMark();
+    for (int i = journal.size() - 1; i >= start; i--) {
+      switch (journal.kind(i)) {
+        case UndoJournal.PLACE -> {
+          scores.add(PLAYERS[journal.c(i)], journal.a(i), -journal.card(i).value());
+          emptyTiles += 1;
+        }
+        case UndoJournal.HAND -> {
+          Player player = PLAYERS[journal.a(i)];
+          writableHand(player).add(journal.b(i), journal.card(i));
+          handHash += ZobristHash.handKey(player, journal.card(i));
+        }
+        case UndoJournal.DRAW -> {
+          Player player = PLAYERS[journal.a(i)];
+          List<Card> hand = writableHand(player);
+          Card drawn = hand.remove(hand.size() - 1);
+          writableDeck(player).push(drawn);
+          handHash -= ZobristHash.handKey(player, drawn);
+        }
+        case UndoJournal.PASSES -> consecutivePasses = journal.a(i);
+        case UndoJournal.TURN -> turn = opponent(turn);
+        default -> undoBoardChange(journal.kind(i), journal.a(i), journal.b(i), journal.c(i),
+            journal.word(i));
+      }
+    }
+    journal.truncate(start);
+  }
+
+  /**
+   * sets the number of consecutive passes, recording the change if a move is being applied.
+   *
+   * @param passes the new number of consecutive passes
+   */
+  private void setConsecutivePasses(int passes) {
+    if (applying) {
+      journal.record(UndoJournal.PASSES, consecutivePasses, 0, 0);
+    }
+    consecutivePasses = passes;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>A snapshot is taken after every move made with {@link #placeCard}, {@link #pass()} or
+   * {@link #makeTurn}, and reuses the rows and hands of the snapshot before it that the move
+   * didn't change. Moves made with {@link #apply} and {@link #undo()} aren't published; readers
+   * see them with the next move that is. A {@link #fork()} is meant to be used by one thread, so
+   * it takes its snapshot when this method is called instead.</p>
+   */
+  @Override
+  public GameState snapshot() {
+    if (!publishesSnapshots) {
+      publishSnapshot();
+    }
+    return snapshot;
+  }
+
+  /**
+   * publishes a snapshot of the game if this model publishes snapshots after every move and a
+   * move isn't being applied with {@link #apply(SanguineMove)}.
+   */
+  private void publishSnapshotIfNeeded() {
+    if (publishesSnapshots && !applying) {
+      publishSnapshot();
+    }
+  }
+
+  /**
+   * takes a snapshot of the current state of the game and publishes it to {@code snapshot},
+   * reusing the rows and hands of the last snapshot that haven't changed since.
+   */
+  protected final void publishSnapshot() {
+    GameState previous = snapshot;
+    GameState.Row[] rows = new GameState.Row[height];
+    for (int row = 0; row < height; row++) {
+      if (previous == null || dirtyRows[row]) {
+        rows[row] = snapshotRow(row);
+      } else {
+        rows[row] = previous.row(row);
+      }
+      dirtyRows[row] = false;
+    }
+    snapshot = new GameState(width, height, maxHandSize, rows,
+        snapshotHand(previous, Player.RED), snapshotHand(previous, Player.BLUE),
+        redDeck.size(), blueDeck.size(), scores.copyOf(Player.RED), scores.copyOf(Player.BLUE),
+        scores.total(Player.RED), scores.total(Player.BLUE), emptyTiles, turn, consecutivePasses,
+        hash());
+  }
+
+  private List<Card> snapshotHand(GameState previous, Player player) {
+    if (previous != null && !dirtyHands[player.ordinal()]) {
+      return previous.hand(player);
+    }
+    dirtyHands[player.ordinal()] = false;
+    return List.copyOf(hands.get(player));
+  }
+
+  @Override
+  public boolean canFork() {
+    return true;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The fork shares the cards, hands and decks of this model; a hand or deck is only copied
+   * (by either model) the first time it is changed after the fork. The board is copied as the
+   * subclass documents.</p>
+   */
+  @Override
+  public SanguineModel fork() {
+    Arrays.fill(sharedHands, true);
+    Arrays.fill(sharedDecks, true);
+    return copy();
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The hash of the hands is kept up to date as moves are made and undone, and the board is
+   * hashed as the subclass documents for {@link #boardHash()}.</p>
+   */
+  @Override
+  public long stateHash() {
+    return hash();
+  }
+
+  /**
+   * returns the hash returned by {@link #stateHash()}, which {@link #publishSnapshot()} uses
+   * rather than the overridable {@link #stateHash()}.
+   */
+  private long hash() {
+    boolean over = emptyTiles == 0 || consecutivePasses >= 2;
+    return boardHash() ^ handHash ^ ZobristHash.turnKey(over ? null : turn, consecutivePasses);
+  }
+
+  @Override
+  public Player getTurn() throws IllegalStateException {
+    if (isGameOver()) {
+      throw new IllegalStateException("Game over");
+    }
+    return turn;
+  }
+
+  @Override
+  public List<Card> getHand(Player player) throws IllegalStateException {
+    if (player == null) {
+      throw new IllegalArgumentException("player is null");
+    }
+    return new ArrayList<>(hands.get(player));
+  }
+
+  @Override
+  public int handSize(Player player) throws IllegalArgumentException {
+    if (player == null) {
+      throw new IllegalArgumentException("player is null");
+    }
+    return hands.get(player).size();
+  }
+
+  @Override
+  public Card handCardAt(Player player, int indexInHand) throws IllegalArgumentException {
+    if (player == null) {
+      throw new IllegalArgumentException("player is null");
+    }
+    List<Card> hand = hands.get(player);
+    if (indexInHand < 0 || indexInHand >= hand.size()) {
+      throw new IllegalArgumentException("index out of bounds for hand");
+    }
+    return hand.get(indexInHand);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The view is made once per player and keeps up with the hand even after it is copied
+   * because a fork shared it.</p>
+   */
+  @Override
+  public List<Card> handView(Player player) throws IllegalArgumentException {
+    return handViews.of(this, player);
+  }
+
+  @Override
+  public Optional<Player> getRowWinner(int row) throws IllegalArgumentException {
+    throwIllegalArgumentExceptionIfInvalidRow(row);
+    return scores.rowWinner(row);
+  }
+
+  @Override
+  public int getScoreOfRow(int row) throws IllegalArgumentException {
+    throwIllegalArgumentExceptionIfInvalidRow(row);
+    return scores.scoreOfRow(row);
+  }
+
+  @Override
+  public int getRowScore(Player player, int row) throws IllegalArgumentException {
+    if (player == null) {
+      throw new IllegalArgumentException("player is null");
+    }
+    throwIllegalArgumentExceptionIfInvalidRow(row);
+    return scores.rowScore(player, row);
+  }
+
+  @Override
+  public Optional<Player> getWinning() {
+    return scores.winning();
+  }
+
+  @Override
+  public int getScore() {
+    return scores.score();
+  }
+
+  @Override
+  public boolean canPlayCard(Player player, int indexInHand, int row, int col) {
+    if (player == null) {
+      throw new IllegalArgumentException("player is null");
+    }
+    throwIllegalArgumentExceptionIfInvalidCoordinates(row, col);
+    if (isGameOver() || player != this.turn) {
+      return false;
+    }
+
+    List<Card> hand = hands.get(player);
+    if (indexInHand < 0 || indexInHand >= hand.size()) {
+      return false;
+    }
+    Card card = hand.get(indexInHand);
+    if (card == null) {
+      return false;
+    }
+    return canPlaceOn(player, card.cost(), row, col);
+  }
+
+  @Override
+  public int getMaxHandSize() {
+    return this.maxHandSize;
+  }
+
+  protected static Player opponent(Player player) {
+    return switch (player) {
+      case RED -> Player.BLUE;
+      case BLUE -> Player.RED;
+    };
+  }
+
+  /**
+   * switches turn from {@code RED} to {@code BLUE} or vice versa.
+   */
+  private void incrementTurn() {
+    if (applying) {
+      journal.record(UndoJournal.TURN, 0, 0, 0);
+    }
+    turn = opponent(turn);
+  }
+
+  protected boolean validCoordinates(int row, int col) {
+    return row >= 0 && row < height && col >= 0 && col < width;
+  }
+
+  protected void throwIllegalArgumentExceptionIfInvalidCoordinates(int row, int col)
+      throws IllegalArgumentException {
+    if (!validCoordinates(row, col)) {
+      throw new IllegalArgumentException("invalid coordinates");
+    }
+  }
+
+  private void throwIllegalArgumentExceptionIfInvalidRow(int row)
+      throws IllegalArgumentException {
+    if (row < 0 || row >= height) {
+      throw new IllegalArgumentException("invalid row");
+    }
+  }
+
+  /**
+   * alerts the {@link GameStateListener}s that the given player made the move with the given
+   * {@link MoveCodec} code, or holds the alert back until the end of the batch if the move is
+   * being made by {@code applyAll}. No one is alerted of moves made with
+   * {@link #apply(SanguineMove)}.
+   */
+  private void alertMoveListeners(Player player, int move) {
+    if (!applying) {
+      for (GameStateListener listener : listeners) {
+        listener.moveMade(player, move);
+      }
+    } else if (batching) {
+      if (batchMoveCount == batchMoves.length) {
+        batchMoves = Arrays.copyOf(batchMoves, batchMoves.length * 2);
+      }
+      batchMoves[batchMoveCount++] = player.ordinal();
+      batchMoves[batchMoveCount++] = move;
+    }
+  }
+
+  /**
+   * alerts the {@link GameStateListener}s that the turn has switched to the current {@code turn} if
+   * the game isn't over and a move isn't being applied with {@link #apply(SanguineMove)}.
+   */
+  protected void alertTurnListenersIfGameIsntOver() {
+    if (!applying && !isGameOver()) {
+      listeners.forEach(listener -> listener.alertTurn(turn));
+    }
+  }
+
+  /**
+   * alerts {@link GameStateListener}s that the game is over, with
+   * {@link GameStateListener#gameOver()}, if the game is over and a move isn't being applied with
+   * {@link #apply(SanguineMove)}.
+   */
+  protected void alertGameOverListenersIfNeeded() {
+    if (!applying && isGameOver()) {
+      listeners.forEach(GameStateListener::gameOver);
+    }
+  }
+
+  @Override
+  public void register(GameStateListener listener) {
+    if (listener == null) {
+      throw new IllegalArgumentException("listener is null");
+    }
+    listeners.add(listener);
+  }
+
+  @Override
+  public void startGame() throws IllegalStateException {
+    if (started) {
+      throw new IllegalStateException("Game already started");
+    }
+    started = true;
+
+    alertGameStateListenersStartGame();
+    alertTurnListenersIfGameIsntOver();
+  }
+
+  /**
+   * alerts all {@link GameStateListener}s registered to this model that the game has started
+   * through the {@link GameStateListener#startGame()} method.
+   */
+  protected void alertGameStateListenersStartGame() {
+    listeners.forEach(GameStateListener::startGame);
+  }
+}
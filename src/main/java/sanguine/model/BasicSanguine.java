@@ -1,17 +1,11 @@
 package sanguine.model;
 
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
-import java.util.Optional;
-import java.util.Random;
-import java.util.Stack;
-import sanguine.controller.GameStateListener;
+import sanguine.model.moves.PackedPlacement;
 import sanguine.model.moves.SanguineMove;
 
-
 /**
  * the behaviors needed to play aMR game of sanguine.Sanguine. To make a turn, a player can either
  * pass with {@code pass}, or can place a card with {@code placeCard}, or can make a move
@@ -28,24 +22,28 @@ import sanguine.model.moves.SanguineMove;
  *   </ul>
  * </p>
  *
+ * <p>The board is a grid of {@link GameTile}s. The rest of the rules, along with applying and
+ * undoing moves, forking and snapshots, are shared with {@link BitboardSanguine} and
+ * {@link SparseSanguine} through {@link AbstractSanguine}.</p>
+ *
  * <p>Coordinates are represented as (row,col), being 0-indexed from the top
  * and left respectively.</p>
  */
-public class BasicSanguine implements SanguineModel {
+public final class BasicSanguine extends AbstractSanguine {
 
-  private final int width;
-  private final int height;
-  private final int maxHandSize;
-  private final Map<Player, List<Card>> hands;
-  // INVARIANT: Lists in value set have maximum size maxHandSize
+  private static final Player[] PLAYERS = Player.values();
+  private static final int MAX_COST = 3;
 
-  private final List<GameStateListener> listeners;
   private final List<List<GameTile>> grid;
-  private final Stack<Card> redDeck;
-  private final Stack<Card> blueDeck;
-  private Player turn;
-  private int consecutivePasses;
-  private boolean started = false;
+  private final boolean[] sharedRows;
+  // INVARIANT: shared rows may be referenced by a fork of this model, and must be copied before
+  // they are changed
+  private long boardHash;
+  // INVARIANT: boardHash is the XOR of the ZobristHash keys of every owned tile in grid
+  private final long[][][] legalTiles;
+  // INVARIANT: legalTiles[player ordinal][cost - 1] is the bitset, by row * width + col, of the
+  // tiles without a card that the player owns with at least cost pawns. The bits of a tile are
+  // updated whenever it changes, so queries never write to the model
 
   /**
    * constructs a {@link BasicSanguine} with the specified parameters. Deck formats are specified in
@@ -63,50 +61,21 @@ public class BasicSanguine implements SanguineModel {
                        String redDeckFilePath, String blueDeckFilePath,
                        boolean shuffle, Long seed)
       throws IllegalArgumentException {
-    hands = new HashMap<Player, List<Card>>();
-    hands.put(Player.BLUE, new ArrayList<>());
-    hands.put(Player.RED, new ArrayList<>());
-
-    throwExceptionIfInvalidGridSize(width, height);
-
-    this.width = width;
-    this.height = height;
-
-    try {
-      this.redDeck = new Stack<>();
-      redDeck.addAll(CardFileReader.read(redDeckFilePath).reversed());
-      this.blueDeck = new Stack<>();
-      blueDeck.addAll(CardFileReader.read(blueDeckFilePath).reversed());
-    } catch (IllegalArgumentException e) {
-      throw new IllegalArgumentException(e.getMessage());
-    }
-
-    testDecks(redDeck, blueDeck);
-
-    if (handSize <= 0) {
-      throw new IllegalArgumentException("hand size less than 1");
-    }
-    if (handSize > redDeck.size() / 3 || handSize > blueDeck.size() / 3) {
-      throw new IllegalArgumentException("hand size more than a third of deck size");
-    }
-    this.maxHandSize = handSize;
+    super(width, height, handSize, redDeckFilePath, blueDeckFilePath, shuffle, seed);
 
     grid = constructGrid(width, height);
+    sharedRows = new boolean[height];
+    legalTiles = new long[PLAYERS.length][MAX_COST][(width * height + 63) / 64];
 
     for (int row = 0; row < height; row++) {
       grid.get(row).get(0).addPawn(Player.RED);
       grid.get(row).get(width - 1).addPawn(Player.BLUE);
+      boardHash ^= ZobristHash.pawnsKey(row, 0, Player.RED, 1);
+      boardHash ^= ZobristHash.pawnsKey(row, width - 1, Player.BLUE, 1);
+      updateLegalTiles(row, 0, grid.get(row).get(0));
+      updateLegalTiles(row, width - 1, grid.get(row).get(width - 1));
     }
-
-    Random rng = (seed == null) ? new java.util.Random() : new java.util.Random(seed);
-    if (shuffle) {
-      java.util.Collections.shuffle(redDeck, rng);
-      java.util.Collections.shuffle(blueDeck, rng);
-    }
-    turn = Player.RED;
-    consecutivePasses = 0;
-    dealOutCards();
-    listeners = new ArrayList<>();
+    publishSnapshot();
   }
 
   /**
@@ -127,38 +96,55 @@ public class BasicSanguine implements SanguineModel {
     this(width, height, handSize, redDeckFilePath, blueDeckFilePath, true, null);
   }
 
-  private static void throwExceptionIfInvalidGridSize(int width, int height) {
-    if (height <= 0) {
-      throw new IllegalArgumentException("width less than 1");
-    }
-    if (width <= 1) {
-      throw new IllegalArgumentException("height less than 2");
-    }
-    if (width % 2 == 0) {
-      throw new IllegalArgumentException("width is even");
+  /**
+   * constructs a fork of the given model, as documented by {@link #fork()}. The rows, hands and
+   * decks of {@code parent} must already be marked as shared.
+   *
+   * @param parent the model being forked
+   */
+  private BasicSanguine(BasicSanguine parent) {
+    super(parent);
+    grid = new ArrayList<>(parent.grid);
+    sharedRows = parent.sharedRows.clone();
+    boardHash = parent.boardHash;
+    legalTiles = new long[PLAYERS.length][MAX_COST][];
+    for (Player player : PLAYERS) {
+      for (int cost = 1; cost <= MAX_COST; cost++) {
+        legalTiles[player.ordinal()][cost - 1] = parent.legalTiles[player.ordinal()][cost - 1]
+            .clone();
+      }
     }
   }
 
-  private void dealOutCards() {
-    for (int i = 0; i < maxHandSize; i++) {
-      dealCardIfAllowed(Player.RED);
-      dealCardIfAllowed(Player.BLUE);
+  /**
+   * returns the tile at the given coordinates, first copying its row if the row is shared with a
+   * fork. Tiles that are about to be changed must be accessed through this method.
+   *
+   * @param row the row of the tile
+   * @param col the column of the tile
+   * @return the tile at the given coordinates, which is safe to change
+   */
+  private GameTile writableTile(int row, int col) {
+    rowChanged(row);
+    if (sharedRows[row]) {
+      List<GameTile> copy = new ArrayList<>(width);
+      for (GameTile tile : grid.get(row)) {
+        copy.add(copyOf(tile));
+      }
+      grid.set(row, copy);
+      sharedRows[row] = false;
     }
+    return grid.get(row).get(col);
   }
 
-  private void dealCardIfAllowed(Player player) {
-    if (player == null) {
-      throw new IllegalArgumentException("player is null");
-    }
-
-    Stack<Card> deck = switch (player) {
-      case BLUE -> blueDeck;
-      case RED -> redDeck;
-    };
-
-    if (hands.get(player).size() < maxHandSize && !deck.isEmpty()) {
-      hands.get(player).add(deck.pop());
+  private static GameTile copyOf(GameTile tile) {
+    GameTile copy = new SanguineTile();
+    if (tile.hasCard()) {
+      copy.addCard(tile.getCard(), tile.owner());
+    } else if (tile.hasOwner()) {
+      copy.restore(tile.owner(), tile.pawns());
     }
+    return copy;
   }
 
   private List<List<GameTile>> constructGrid(int width, int height) {
@@ -174,16 +160,6 @@ public class BasicSanguine implements SanguineModel {
     return grid;
   }
 
-  @Override
-  public int width() {
-    return width;
-  }
-
-  @Override
-  public int height() {
-    return height;
-  }
-
   @Override
   public Card cardAt(int row, int col) throws IllegalArgumentException, IllegalStateException {
     throwIllegalArgumentExceptionIfInvalidCoordinates(row, col);
@@ -222,52 +198,20 @@ public class BasicSanguine implements SanguineModel {
   }
 
   @Override
-  public boolean isGameOver() {
-    return grid.stream().allMatch(gameTiles -> gameTiles.stream().allMatch(GameTile::hasCard))
-        || consecutivePasses >= 2;
-  }
-
-  @Override
-  public void pass() throws IllegalStateException {
-    if (isGameOver()) {
-      throw new IllegalStateException("game over");
-    }
-
-    incrementTurn();
-    consecutivePasses += 1;
-
-    if (!isGameOver()) {
-      dealCardIfAllowed(turn);
-    }
-
-    alertTurnListenersIfGameIsntOver();
-    alertGameOverListenersIfNeeded();
+  public boolean hasOwner(int row, int col) throws IllegalArgumentException {
+    throwIllegalArgumentExceptionIfInvalidCoordinates(row, col);
+    return grid.get(row).get(col).hasOwner();
   }
 
-
   @Override
-  public void placeCard(int indexInHand, int row, int col)
-      throws IllegalArgumentException, IllegalStateException {
-    throwIllegalArgumentExceptionIfInvalidCoordinates(row, col);
-
-    if (indexInHand < 0 || indexInHand >= hands.get(turn).size()) {
-      throw new IllegalArgumentException("index out of bounds for hand");
-    }
-
-    Card card = hands.get(turn).get(indexInHand);
-    if (card == null) {
-      throw new IllegalArgumentException("null card");
-    }
-    if (isGameOver()) {
-      throw new IllegalStateException("game over");
-    }
-
+  protected void placeOnBoard(Player who, Card card, int row, int col)
+      throws IllegalStateException {
     GameTile tile = grid.get(row).get(col);
 
     if (tile.hasCard()) {
       throw new IllegalStateException("card at given tile");
     }
-    if (!tile.hasOwner() || tile.owner() != turn) {
+    if (!tile.hasOwner() || tile.owner() != who) {
       throw new IllegalStateException("other player owns this tile");
     }
     int cost = card.cost();
@@ -275,333 +219,236 @@ public class BasicSanguine implements SanguineModel {
       throw new IllegalStateException("not enough pawns to cover card cost");
     }
 
-    tile.addCard(card, turn);
-    applyInfluence(card, row, col, turn);
-    hands.get(turn).remove(indexInHand);
-    consecutivePasses = 0;
-
-    incrementTurn();
-
-    if (!isGameOver()) {
-      dealCardIfAllowed(turn);
-    }
-
-    alertTurnListenersIfGameIsntOver();
-    alertGameOverListenersIfNeeded();
+    recordChange(UndoJournal.TILE, row, col, tileState(tile));
+    boardHash ^= tileKey(row, col, tile);
+    tile = writableTile(row, col);
+    tile.addCard(card, who);
+    boardHash ^= tileKey(row, col, tile);
+    updateLegalTiles(row, col, tile);
+    applyInfluence(card, row, col, who);
   }
 
   @Override
-  public void makeTurn(SanguineMove move) throws IllegalArgumentException, IllegalStateException {
-    if (move == null) {
-      throw new IllegalArgumentException("move is null");
-    }
-    try {
-      move.affect(this);
-    } catch (IllegalArgumentException e) {
-      throw new IllegalStateException("invalid move");
-    }
+  protected boolean canPlaceOn(Player player, int cost, int row, int col) {
+    int tile = row * width + col;
+    return (legalTiles[player.ordinal()][cost - 1][tile >>> 6] & (1L << tile)) != 0;
   }
 
   @Override
-  public Player getTurn() throws IllegalStateException {
-    if (isGameOver()) {
-      throw new IllegalStateException("Game over");
+  protected void undoBoardChange(int kind, int a, int b, int c, long word) {
+    if (kind != UndoJournal.TILE) {
+      throw new IllegalStateException("invalid journal entry");
     }
-    return turn;
+    restoreTile(a, b, c);
   }
 
-  @Override
-  public List<Card> getHand(Player player) throws IllegalStateException {
-    if (player == null) {
-      throw new IllegalArgumentException("player is null");
+  /**
+   * returns the state of the given tile as recorded in the {@link UndoJournal}: 0 if the tile has
+   * no owner, otherwise {@code (owner ordinal + 1) * 4 + pawns}. Only call on tiles without a card.
+   *
+   * @param tile the tile whose state is returned
+   * @return the state of the tile
+   */
+  private static int tileState(GameTile tile) {
+    if (!tile.hasOwner()) {
+      return 0;
     }
-    List<Card> hand = hands.get(player);
-    return new ArrayList<>(hand);
+    return (tile.owner().ordinal() + 1) * 4 + tile.pawns();
   }
 
-  @Override
-  public Optional<Player> getRowWinner(int row) throws IllegalArgumentException {
-    if (row < 0 || row >= height) {
-      throw new IllegalArgumentException("invalid row");
-    }
-    int[] rowScores = rowScores(row);
-    int redScore = rowScores[0];
-    int blueScore = rowScores[1];
-    if (redScore > blueScore) {
-      return Optional.of(Player.RED);
-    }
-    if (redScore < blueScore) {
-      return Optional.of(Player.BLUE);
-    }
-    return Optional.empty();
+  /**
+   * puts the tile at the given coordinates back into the given state, as returned by
+   * {@link #tileState(GameTile)}, along with its bits in {@link #legalTiles}.
+   */
+  private void restoreTile(int row, int col, int state) {
+    Player owner = (state == 0) ? null : PLAYERS[state / 4 - 1];
+    GameTile tile = writableTile(row, col);
+    boardHash ^= tileKey(row, col, tile);
+    tile.restore(owner, state % 4);
+    boardHash ^= tileKey(row, col, tile);
+    updateLegalTiles(row, col, tile);
   }
 
-  @Override
-  public int getScoreOfRow(int row) throws IllegalArgumentException {
-    if (row < 0 || row >= height) {
-      throw new IllegalArgumentException("invalid row");
+  /**
+   * returns the {@link ZobristHash} key of the given tile, or 0 if it has no owner.
+   */
+  private static long tileKey(int row, int col, GameTile tile) {
+    if (tile.hasCard()) {
+      return ZobristHash.cardKey(row, col, tile.owner(), tile.getCard());
+    }
+    if (!tile.hasOwner()) {
+      return 0;
     }
-    int[] rowScores = rowScores(row);
-    return Math.max(rowScores[0], rowScores[1]);
+    return ZobristHash.pawnsKey(row, col, tile.owner(), tile.pawns());
   }
 
   @Override
-  public int getRowScore(Player player, int row) throws IllegalArgumentException {
-    if (player == null) {
-      throw new IllegalArgumentException("player is null");
-    }
-    if (row < 0 || row >= height) {
-      throw new IllegalArgumentException("invalid row");
-    }
-    int[] scores = rowScores(row);
-    return switch (player) {
-      case RED -> scores[0];
-      case BLUE -> scores[1];
-    };
+  protected GameState.Row snapshotRow(int row) {
+    return new GameState.Row(grid.get(row));
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The hash is kept up to date as tiles change, so this takes constant time.</p>
+   */
   @Override
-  public Optional<Player> getWinning() {
-    Map<Player, Integer> scores = getScores();
-    if (scores.get(Player.RED) > scores.get(Player.BLUE)) {
-      return Optional.of(Player.RED);
-    }
-    if (scores.get(Player.BLUE) > scores.get(Player.RED)) {
-      return Optional.of(Player.BLUE);
-    }
-    return Optional.empty();
+  protected long boardHash() {
+    return boardHash;
   }
 
-  private Map<Player, Integer> getScores() {
-    Map<Player, Integer> scores = new HashMap<>();
-    scores.put(Player.RED, 0);
-    scores.put(Player.BLUE, 0);
-
-    for (int row = 0; row < height; row++) {
-      Optional<Player> player = getRowWinner(row);
-      if (player.isPresent()) {
-        scores.put(player.get(), scores.get(player.get()) + getScoreOfRow(row));
-      }
-    }
-    return scores;
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The rows of the board are shared with the fork too, and a row is only copied (by either
+   * model) the first time it is changed after the fork, so forking costs O(height) regardless of
+   * what is later played.</p>
+   */
+  @Override
+  public SanguineModel fork() {
+    Arrays.fill(sharedRows, true);
+    return super.fork();
   }
 
   @Override
-  public int getScore() {
-    Map<Player, Integer> scores = getScores();
-    return Math.max(scores.get(Player.RED), scores.get(Player.BLUE));
+  protected AbstractSanguine copy() {
+    return new BasicSanguine(this);
   }
 
-  private int[] rowScores(int row) {
-    int[] scores = {0, 0};
-    for (GameTile tile : grid.get(row)) {
-      if (tile.hasCard()) {
-        switch (tile.owner()) {
-          case RED:
-            scores[0] += tile.getCard().value();
-            break;
-          case BLUE:
-            scores[1] += tile.getCard().value();
-            break;
-          default:
-            throw new IllegalArgumentException("invalid owner: " + tile.owner());
+  @Override
+  public void copyBoardInto(BoardBuffer buffer) throws IllegalArgumentException {
+    if (buffer == null || !buffer.fits(width, height)) {
+      throw new IllegalArgumentException("buffer is null or doesn't fit the board");
+    }
+    for (int row = 0; row < height; row++) {
+      List<GameTile> tiles = grid.get(row);
+      for (int col = 0; col < width; col++) {
+        GameTile tile = tiles.get(col);
+        if (!tile.hasOwner()) {
+          buffer.setTile(row, col, BoardBuffer.NONE, 0, BoardBuffer.NONE);
+        } else if (tile.hasCard()) {
+          buffer.setTile(row, col, tile.owner().ordinal(), 0, tile.getCard().id());
+        } else {
+          buffer.setTile(row, col, tile.owner().ordinal(), tile.pawns(), BoardBuffer.NONE);
         }
       }
-    }
-    return scores;
-  }
-
-  private boolean validRow(int row) {
-    return row < height() && row >= 0;
-  }
-
-  private boolean validColumn(int col) {
-    return col < width() && col >= 0;
-  }
-
-  private boolean validCoordinates(int row, int col) {
-    return validRow(row) && validColumn(col);
-  }
-
-  private void throwIllegalArgumentExceptionIfInvalidCoordinates(int row, int col)
-      throws IllegalArgumentException {
-    if (!validCoordinates(row, col)) {
-      throw new IllegalArgumentException("invalid coordinates");
+      buffer.setRowScores(row, scores.rowScore(Player.RED, row),
+          scores.rowScore(Player.BLUE, row));
     }
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The tiles are copied from a bitset kept for each player and card cost, whose bits are
+   * updated only for the tiles a move changes, so this and {@link #canPlayCard} are cheap to call
+   * for every card and tile of a turn.</p>
+   */
   @Override
-  public boolean hasOwner(int row, int col) throws IllegalArgumentException {
-    throwIllegalArgumentExceptionIfInvalidCoordinates(row, col);
-    return grid.get(row).get(col).hasOwner();
-  }
-
-  @Override
-  public boolean canPlayCard(Player player, int indexInHand, int row, int col) {
-    if (player == null) {
-      throw new IllegalArgumentException("player is null");
-    }
-    throwIllegalArgumentExceptionIfInvalidCoordinates(row, col);
-    if (isGameOver()) {
-      return false;
-    }
-    if (player != this.turn) {
-      return false;
-    }
-    if (!hands.containsKey(player)) {
-      return false;
-    }
-    if (indexInHand < 0 || indexInHand >= hands.get(player).size()) {
-      return false;
+  public int legalTiles(Player player, int indexInHand, long[] tiles)
+      throws IllegalArgumentException {
+    if (player == null || tiles == null) {
+      throw new IllegalArgumentException("player or buffer is null");
     }
-
-    Card card = hands.get(player).get(indexInHand);
-    if (card == null) {
-      return false;
+    int words = (width * height + 63) / 64;
+    if (tiles.length < words) {
+      throw new IllegalArgumentException("buffer too small for the board");
     }
-
-    GameTile tile = grid.get(row).get(col);
-    if (tile.hasCard()) {
-      return false;
+    List<Card> hand = hand(player);
+    if (isGameOver() || player != getTurn() || indexInHand < 0 || indexInHand >= hand.size()) {
+      Arrays.fill(tiles, 0, words, 0L);
+      return 0;
     }
-    if (!tile.hasOwner() || tile.owner() != player) {
-      return false;
+    long[] legal = legalTiles[player.ordinal()][hand.get(indexInHand).cost() - 1];
+    int count = 0;
+    for (int i = 0; i < words; i++) {
+      tiles[i] = legal[i];
+      count += Long.bitCount(legal[i]);
     }
-    return tile.pawns() >= card.cost();
-  }
-
-  @Override
-  public int getMaxHandSize() {
-    return this.maxHandSize;
-  }
-
-  /**
-   * switches turn from {@code RED} to {@code BLUE} or vice versa.
-   */
-  private void incrementTurn() {
-    turn = switch (turn) {
-      case RED -> Player.BLUE;
-      case BLUE -> Player.RED;
-    };
+    return count;
   }
 
   /**
-   * throws {@link IllegalArgumentException} if the given decks are invalid.
+   * updates the bits of {@link #legalTiles} for the given tile, at the given coordinates, after it
+   * changed. Only the tile's own bits are touched, so a move updates at most the placed tile and
+   * the 24 tiles around it.
    *
-   * @param redDeck  the deck of the red player
-   * @param blueDeck the deck of the blue player
-   * @throws IllegalArgumentException if the given decks are invalid
+   * @param row  the row of the tile
+   * @param col  the column of the tile
+   * @param tile the tile, as it is now
    */
-  private void testDecks(List<Card> redDeck, List<Card> blueDeck) throws IllegalArgumentException {
-    if (redDeck.size() + blueDeck.size() < width * height) {
-      throw new IllegalArgumentException("gameTiles must have at least " + width + " x " + height);
-    }
-
-    for (Card card : redDeck) {
-      if (Collections.frequency(redDeck, card) > 2) {
-        throw new IllegalArgumentException("card more than two of " + card + " in redDeck");
+  private void updateLegalTiles(int row, int col, GameTile tile) {
+    int index = row * width + col;
+    int word = index >>> 6;
+    long bit = 1L << index;
+    for (Player player : PLAYERS) {
+      int pawns = (!tile.hasCard() && tile.hasOwner() && tile.owner() == player)
+          ? tile.pawns() : 0;
+      long[][] byCost = legalTiles[player.ordinal()];
+      for (int cost = 1; cost <= MAX_COST; cost++) {
+        if (pawns >= cost) {
+          byCost[cost - 1][word] |= bit;
+        } else {
+          byCost[cost - 1][word] &= ~bit;
+        }
       }
     }
+  }
 
-    for (Card card : blueDeck) {
-      if (Collections.frequency(blueDeck, card) > 2) {
-        throw new IllegalArgumentException("card more than two of " + card + "in blueDeck");
+  @Override
+  public int legalMoves(Player player, int[] buffer) throws IllegalArgumentException {
+    if (player == null || buffer == null) {
+      throw new IllegalArgumentException("player or buffer is null");
+    }
+    if (isGameOver() || player != getTurn()) {
+      return 0;
+    }
+
+    List<Card> hand = hand(player);
+    int count = 0;
+    for (int indexInHand = 0; indexInHand < hand.size(); indexInHand++) {
+      long[] legal = legalTiles[player.ordinal()][hand.get(indexInHand).cost() - 1];
+      for (int word = 0; word < legal.length; word++) {
+        for (long bits = legal[word]; bits != 0; bits &= bits - 1) {
+          if (count == buffer.length) {
+            throw new IllegalArgumentException("buffer too small for legal moves");
+          }
+          int tile = word * 64 + Long.numberOfTrailingZeros(bits);
+          buffer[count++] = PackedPlacement.pack(indexInHand, tile / width, tile % width);
+        }
       }
     }
+    return count;
   }
 
   private void applyInfluence(Card card, int row, int col, Player who) {
-    for (int gr = 0; gr < 5; gr++) {
-      for (int gc = 0; gc < 5; gc++) {
-        InfluenceGridTile t = card.tileAt(gr, gc);
-        if (t == InfluenceGridTile.UNAFFECTED) {
-          continue;
-        }
-
-        int dr = gr - 2;
-        int dc = gc - 2;
-
-        if (dr == 0 && dc == 0) {
-          continue;
-        }
-
-        if (who == Player.BLUE) {
-          dc = -dc;
-        }
-
-        int rr = row + dr;
-        int cc = col + dc;
-        if (!validCoordinates(rr, cc)) {
-          continue;
-        }
+    InfluenceFootprint footprint = card.footprint(who);
+    for (int i = 0; i < footprint.size(); i++) {
+      int rr = row + footprint.rowOffset(i);
+      int cc = col + footprint.colOffset(i);
+      if (!validCoordinates(rr, cc)) {
+        continue;
+      }
 
-        GameTile gt = grid.get(rr).get(cc);
+      GameTile gt = grid.get(rr).get(cc);
 
-        if (gt.hasCard()) {
-          continue;
-        }
-        if (!gt.hasOwner()) {
-          gt.addPawn(who);
-          continue;
-        }
-        if (gt.owner() == who) {
-          gt.addPawn(who);
-          continue;
-        }
+      if (gt.hasCard()) {
+        continue;
+      }
+      recordChange(UndoJournal.TILE, rr, cc, tileState(gt));
+      gt = writableTile(rr, cc);
+      boardHash ^= tileKey(rr, cc, gt);
+      if (!gt.hasOwner() || gt.owner() == who) {
+        gt.addPawn(who);
+      } else {
         int opponentCount = gt.pawns();
 
         for (int k = 0; k < opponentCount; k++) {
           gt.addPawn(who);
         }
       }
+      boardHash ^= tileKey(rr, cc, gt);
+      updateLegalTiles(rr, cc, gt);
     }
   }
-
-  /**
-   * alerts the {@link GameStateListener}s that the turn has switched to the current {@code turn} if
-   * the game isn't over.
-   */
-  protected void alertTurnListenersIfGameIsntOver() {
-    if (!isGameOver()) {
-      listeners.forEach(listener -> listener.alertTurn(turn));
-    }
-  }
-
-  @Override
-  public void register(GameStateListener listener) {
-    if (listener == null) {
-      throw new IllegalArgumentException("listener is null");
-    }
-    listeners.add(listener);
-  }
-
-  /**
-   * alerts {@link GameStateListener}s that the game is over, with
-   * {@link GameStateListener#gameOver()}, if the game is over.
-   */
-  protected void alertGameOverListenersIfNeeded() {
-    if (isGameOver()) {
-      listeners.forEach(listener -> listener.gameOver());
-    }
-  }
-
-  @Override
-  public void startGame() throws IllegalStateException {
-    if (started) {
-      throw new IllegalStateException("Game already started");
-    }
-    started = true;
-
-    alertGameStateListenersStartGame();
-    alertTurnListenersIfGameIsntOver();
-  }
-
-  /**
-   * alerts all {@link GameStateListener}s registered to this model that the game has started
-   * through the {@link GameStateListener#startGame()} method.
-   */
-  protected void alertGameStateListenersStartGame() {
-    listeners.forEach(listener -> listener.startGame());
-  }
-
 }
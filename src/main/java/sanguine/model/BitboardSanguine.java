@@ -0,0 +1,499 @@
+package sanguine.model;
+
+import java.util.Arrays;
+import java.util.List;
+import sanguine.model.moves.PackedPlacement;
+
+/**
+ * a {@link SanguineModel} that follows the same rules as {@link BasicSanguine}, but stores the
+ * board as packed bitsets instead of {@link GameTile} objects. Every row of the board is
+ * described by five {@code long}s, where bit {@code col} of each describes the tile at
+ * {@code (row, col)}:
+ *
+ * <ul>
+ *   <li>{@code redOwned} / {@code blueOwned}: the owner of the tile's pawns or card</li>
+ *   <li>{@code pawnsLow} / {@code pawnsHigh}: the low and high bit of the pawn count</li>
+ *   <li>{@code cards}: whether there is a card on the tile</li>
+ * </ul>
+ *
+ * <p>The rest of the rules are shared with {@link SparseSanguine} through
+ * {@link AbstractSanguine}, which keeps row scores and the number of empty tiles up to date as
+ * cards are placed, so score queries and {@link #isGameOver()} don't scan the board. Because
+ * every row fits in one {@code long}, the width of the board may not exceed
+ * {@value #MAX_WIDTH}.</p>
+ *
+ * <p>Before a move applied with {@link #apply} changes a row, the five words of the row are
+ * saved, and {@link #undo()} puts them back, so undoing a move costs a few words per row it
+ * touched. A {@link #fork()} copies the bitsets and the cards on the board.</p>
+ *
+ * <p>Coordinates are represented as (row,col), being 0-indexed from the top
+ * and left respectively.</p>
+ */
+public final class BitboardSanguine extends AbstractSanguine {
+
+  /**
+   * the widest board this model supports.
+   */
+  public static final int MAX_WIDTH = 64;
+  private static final int PLANES = 5;
+
+  private final long[] redOwned;
+  private final long[] blueOwned;
+  private final long[] pawnsLow;
+  private final long[] pawnsHigh;
+  private final long[] cards;
+  // INVARIANT: bits set in cards have no pawns, and exactly one of redOwned/blueOwned set
+  private final Card[] placedCards;
+  // cards on the board, indexed by row * width + col. Only the entries of tiles set in cards are
+  // meaningful, so undoing a placement leaves its card behind
+
+  /**
+   * constructs a {@link BitboardSanguine} with the specified parameters. Deck formats are
+   * specified in the documentation for {@link CardFileReader}.
+   *
+   * @param width            the width of the board
+   * @param height           the height of the board
+   * @param handSize         the maximum number of cards in a player's hand
+   * @param redDeckFilePath  the path for the file describing the red deck
+   * @param blueDeckFilePath the path for the file specifying the blue deck
+   * @param shuffle          whether the decks are shuffled before play
+   * @param seed             the seed used to shuffle the decks, or null for a random seed
+   * @throws IllegalArgumentException if any argument is void, if the files for either deck cannot
+   *                                  be read, if the width, height or decks does not match the
+   *                                  rules specified in the documentation of
+   *                                  {@link BasicSanguine}, or if the width is more than
+   *                                  {@value #MAX_WIDTH}
+   */
+  public BitboardSanguine(int width, int height, int handSize,
+                          String redDeckFilePath, String blueDeckFilePath,
+                          boolean shuffle, Long seed)
+      throws IllegalArgumentException {
+    super(checkedWidth(width, height), height, handSize, redDeckFilePath, blueDeckFilePath,
+        shuffle, seed);
+
+    redOwned = new long[height];
+    blueOwned = new long[height];
+    pawnsLow = new long[height];
+    pawnsHigh = new long[height];
+    cards = new long[height];
+    placedCards = new Card[width * height];
+
+    long firstColumn = 1L;
+    long lastColumn = 1L << (width - 1);
+    for (int row = 0; row < height; row++) {
+      redOwned[row] = firstColumn;
+      blueOwned[row] = lastColumn;
+      pawnsLow[row] = firstColumn | lastColumn;
+    }
+    publishSnapshot();
+  }
+
+  /**
+   * constructs a {@link BitboardSanguine} with the specified parameters. Deck formats are
+   * specified in the documentation for {@link CardFileReader} and are shuffled before play.
+   *
+   * @param width            the width of the board
+   * @param height           the height of the board
+   * @param handSize         the maximum number of cards in a player's hand
+   * @param redDeckFilePath  the path for the file describing the red deck
+   * @param blueDeckFilePath the path for the file specifying the blue deck
+   * @throws IllegalArgumentException if any argument is void, if the files for either deck cannot
+   *                                  be read, if the width, height or decks does not match the
+   *                                  rules specified in the documentation of
+   *                                  {@link BasicSanguine}, or if the width is more than
+   *                                  {@value #MAX_WIDTH}
+   */
+  public BitboardSanguine(int width, int height, int handSize,
+                          String redDeckFilePath, String blueDeckFilePath)
+      throws IllegalArgumentException {
+    this(width, height, handSize, redDeckFilePath, blueDeckFilePath, true, null);
+  }
+
+  /**
+   * constructs a fork of the given model, as documented by {@link #fork()}.
+   *
+   * @param parent the model being forked
+   */
+  private BitboardSanguine(BitboardSanguine parent) {
+    super(parent);
+    redOwned = parent.redOwned.clone();
+    blueOwned = parent.blueOwned.clone();
+    pawnsLow = parent.pawnsLow.clone();
+    pawnsHigh = parent.pawnsHigh.clone();
+    cards = parent.cards.clone();
+    placedCards = parent.placedCards.clone();
+  }
+
+  /**
+   * returns the given width if a board of the given dimensions follows the rules and fits this
+   * model.
+   */
+  private static int checkedWidth(int width, int height) throws IllegalArgumentException {
+    throwExceptionIfInvalidGridSize(width, height);
+    if (width > MAX_WIDTH) {
+      throw new IllegalArgumentException("width more than " + MAX_WIDTH);
+    }
+    return width;
+  }
+
+  @Override
+  public Card cardAt(int row, int col) throws IllegalArgumentException, IllegalStateException {
+    throwIllegalArgumentExceptionIfInvalidCoordinates(row, col);
+    if ((cards[row] & (1L << col)) == 0) {
+      throw new IllegalArgumentException("invalid coordinates");
+    }
+    return placedCards[row * width + col];
+  }
+
+  @Override
+  public boolean isCardAt(int row, int col) throws IllegalArgumentException {
+    throwIllegalArgumentExceptionIfInvalidCoordinates(row, col);
+    return (cards[row] & (1L << col)) != 0;
+  }
+
+  @Override
+  public int pawnsAt(int row, int col) throws IllegalArgumentException, IllegalStateException {
+    throwIllegalArgumentExceptionIfInvalidCoordinates(row, col);
+    if ((cards[row] & (1L << col)) != 0) {
+      throw new IllegalStateException("card at given tile");
+    }
+    return pawnCount(row, 1L << col);
+  }
+
+  @Override
+  public Player ownerAt(int row, int col)
+      throws IllegalArgumentException, IllegalStateException {
+    throwIllegalArgumentExceptionIfInvalidCoordinates(row, col);
+    long bit = 1L << col;
+    if ((redOwned[row] & bit) != 0) {
+      return Player.RED;
+    }
+    if ((blueOwned[row] & bit) != 0) {
+      return Player.BLUE;
+    }
+    throw new IllegalStateException("tile has no owner");
+  }
+
+  @Override
+  public boolean hasOwner(int row, int col) throws IllegalArgumentException {
+    throwIllegalArgumentExceptionIfInvalidCoordinates(row, col);
+    return ((redOwned[row] | blueOwned[row]) & (1L << col)) != 0;
+  }
+
+  @Override
+  protected void placeOnBoard(Player who, Card card, int row, int col)
+      throws IllegalStateException {
+    long bit = 1L << col;
+    if ((cards[row] & bit) != 0) {
+      throw new IllegalStateException("card at given tile");
+    }
+    if ((ownedBy(who)[row] & bit) == 0) {
+      throw new IllegalStateException("other player owns this tile");
+    }
+    if (pawnCount(row, bit) < card.cost()) {
+      throw new IllegalStateException("not enough pawns to cover card cost");
+    }
+
+    saveRow(row);
+    cards[row] |= bit;
+    pawnsLow[row] &= ~bit;
+    pawnsHigh[row] &= ~bit;
+    placedCards[row * width + col] = card;
+    applyInfluence(card, row, col, who);
+  }
+
+  @Override
+  protected void undoBoardChange(int kind, int a, int b, int c, long word) {
+    if (kind != UndoJournal.ROW) {
+      throw new IllegalStateException("invalid journal entry");
+    }
+    plane(b)[a] = word;
+    rowChanged(a);
+  }
+
+  @Override
+  protected GameState.Row snapshotRow(int row) {
+    int[] states = new int[width];
+    Card[] rowCards = new Card[width];
+    for (int col = 0; col < width; col++) {
+      long bit = 1L << col;
+      int owner = ownerState(row, bit);
+      if (owner == 0) {
+        continue;
+      }
+      if ((cards[row] & bit) != 0) {
+        states[col] = owner;
+        rowCards[col] = placedCards[row * width + col];
+      } else {
+        states[col] = owner + pawnCount(row, bit);
+      }
+    }
+    return new GameState.Row(states, rowCards);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The owned tiles of every row are visited, so this takes time proportional to the number
+   * of owned tiles.</p>
+   */
+  @Override
+  protected long boardHash() {
+    long hash = 0;
+    for (int row = 0; row < height; row++) {
+      for (long owned = redOwned[row] | blueOwned[row]; owned != 0; owned &= owned - 1) {
+        int col = Long.numberOfTrailingZeros(owned);
+        long bit = 1L << col;
+        Player owner = ((redOwned[row] & bit) != 0) ? Player.RED : Player.BLUE;
+        if ((cards[row] & bit) != 0) {
+          hash ^= ZobristHash.cardKey(row, col, owner, placedCards[row * width + col]);
+        } else {
+          hash ^= ZobristHash.pawnsKey(row, col, owner, pawnCount(row, bit));
+        }
+      }
+    }
+    return hash;
+  }
+
+  @Override
+  protected AbstractSanguine copy() {
+    return new BitboardSanguine(this);
+  }
+
+  @Override
+  public void copyBoardInto(BoardBuffer buffer) throws IllegalArgumentException {
+    if (buffer == null || !buffer.fits(width, height)) {
+      throw new IllegalArgumentException("buffer is null or doesn't fit the board");
+    }
+    for (int row = 0; row < height; row++) {
+      for (int col = 0; col < width; col++) {
+        long bit = 1L << col;
+        int owner;
+        if ((redOwned[row] & bit) != 0) {
+          owner = Player.RED.ordinal();
+        } else if ((blueOwned[row] & bit) != 0) {
+          owner = Player.BLUE.ordinal();
+        } else {
+          owner = BoardBuffer.NONE;
+        }
+        if ((cards[row] & bit) != 0) {
+          buffer.setTile(row, col, owner, 0, placedCards[row * width + col].id());
+        } else {
+          buffer.setTile(row, col, owner, pawnCount(row, bit), BoardBuffer.NONE);
+        }
+      }
+      buffer.setRowScores(row, scores.rowScore(Player.RED, row),
+          scores.rowScore(Player.BLUE, row));
+    }
+  }
+
+  @Override
+  protected boolean canPlaceOn(Player player, int cost, int row, int col) {
+    long bit = 1L << col;
+    if ((cards[row] & bit) != 0 || (ownedBy(player)[row] & bit) == 0) {
+      return false;
+    }
+    return pawnCount(row, bit) >= cost;
+  }
+
+  @Override
+  public int legalMoves(Player player, int[] buffer) throws IllegalArgumentException {
+    if (player == null || buffer == null) {
+      throw new IllegalArgumentException("player or buffer is null");
+    }
+    if (isGameOver() || player != getTurn()) {
+      return 0;
+    }
+
+    long[] mine = ownedBy(player);
+    List<Card> hand = hand(player);
+    int count = 0;
+    for (int indexInHand = 0; indexInHand < hand.size(); indexInHand++) {
+      int cost = hand.get(indexInHand).cost();
+      for (int row = 0; row < height; row++) {
+        long candidates = mine[row] & ~cards[row] & pawnsAtLeast(row, cost);
+        while (candidates != 0) {
+          if (count == buffer.length) {
+            throw new IllegalArgumentException("buffer too small for legal moves");
+          }
+          buffer[count++] = PackedPlacement.pack(indexInHand, row,
+              Long.numberOfTrailingZeros(candidates));
+          candidates &= candidates - 1;
+        }
+      }
+    }
+    return count;
+  }
+
+  @Override
+  public int legalTiles(Player player, int indexInHand, long[] tiles)
+      throws IllegalArgumentException {
+    if (player == null || tiles == null) {
+      throw new IllegalArgumentException("player or buffer is null");
+    }
+    int words = (width * height + 63) / 64;
+    if (tiles.length < words) {
+      throw new IllegalArgumentException("buffer too small for the board");
+    }
+    Arrays.fill(tiles, 0, words, 0L);
+    List<Card> hand = hand(player);
+    if (isGameOver() || player != getTurn() || indexInHand < 0 || indexInHand >= hand.size()) {
+      return 0;
+    }
+
+    long[] mine = ownedBy(player);
+    int cost = hand.get(indexInHand).cost();
+    int count = 0;
+    for (int row = 0; row < height; row++) {
+      long legal = mine[row] & ~cards[row] & pawnsAtLeast(row, cost);
+      if (legal == 0) {
+        continue;
+      }
+      count += Long.bitCount(legal);
+      int first = row * width;
+      int shift = first & 63;
+      tiles[first >>> 6] |= legal << shift;
+      if (shift + width > 64) {
+        tiles[(first >>> 6) + 1] |= legal >>> (64 - shift);
+      }
+    }
+    return count;
+  }
+
+  /**
+   * returns the tiles of the given row that have at least the given number of pawns.
+   *
+   * @param row   the row of the tiles
+   * @param pawns the minimum number of pawns
+   * @return a mask with the bits of the tiles with at least {@code pawns} pawns set
+   */
+  private long pawnsAtLeast(int row, int pawns) {
+    return switch (pawns) {
+      case 0, 1 -> pawnsLow[row] | pawnsHigh[row];
+      case 2 -> pawnsHigh[row];
+      case 3 -> pawnsLow[row] & pawnsHigh[row];
+      default -> pawns < 0 ? pawnsLow[row] | pawnsHigh[row] : 0L;
+    };
+  }
+
+  /**
+   * returns the ownership bitsets of the given player.
+   *
+   * @param player the player whose tiles are described by the returned array
+   * @return one {@code long} per row, with the bits of the tiles owned by {@code player} set
+   */
+  private long[] ownedBy(Player player) {
+    return switch (player) {
+      case RED -> redOwned;
+      case BLUE -> blueOwned;
+    };
+  }
+
+  /**
+   * returns the bitset of the given index: 0 to 4 for {@code redOwned}, {@code blueOwned},
+   * {@code pawnsLow}, {@code pawnsHigh} and {@code cards}.
+   *
+   * @param index the index of the bitset
+   * @return the bitset
+   */
+  private long[] plane(int index) {
+    return switch (index) {
+      case 0 -> redOwned;
+      case 1 -> blueOwned;
+      case 2 -> pawnsLow;
+      case 3 -> pawnsHigh;
+      case 4 -> cards;
+      default -> throw new IllegalArgumentException("invalid bitset: " + index);
+    };
+  }
+
+  /**
+   * records the words of the given row, so that undoing the move being applied puts them back,
+   * and marks the row as changed. Called once per move for every row it changes, before
+   * changing it.
+   *
+   * @param row the row about to change
+   */
+  private void saveRow(int row) {
+    for (int plane = 0; plane < PLANES; plane++) {
+      recordWord(UndoJournal.ROW, row, plane, plane(plane)[row]);
+    }
+    rowChanged(row);
+  }
+
+  /**
+   * returns the owner of the tile in the given row marked by {@code bit} as a snapshot state
+   * without pawns: 0 if it has no owner, otherwise {@code (owner ordinal + 1) * 4}.
+   */
+  private int ownerState(int row, long bit) {
+    if ((redOwned[row] & bit) != 0) {
+      return (Player.RED.ordinal() + 1) * 4;
+    }
+    if ((blueOwned[row] & bit) != 0) {
+      return (Player.BLUE.ordinal() + 1) * 4;
+    }
+    return 0;
+  }
+
+  /**
+   * returns the number of pawns on the tile in the given row marked by {@code bit}.
+   *
+   * @param row the row of the tile
+   * @param bit a mask with only the bit of the tile's column set
+   * @return the number of pawns on the tile
+   */
+  private int pawnCount(int row, long bit) {
+    int low = (pawnsLow[row] & bit) != 0 ? 1 : 0;
+    int high = (pawnsHigh[row] & bit) != 0 ? 2 : 0;
+    return high | low;
+  }
+
+  /**
+   * applies the influence of the given card, placed by {@code who} on the given tile, one row at
+   * a time. The influenced tiles of each row of the card's grid are a 5-bit slice of its
+   * footprint mask, which shifted to the placed column and clipped to the board gives every
+   * influenced tile of the board row at once. The influenced tiles are then updated with a few
+   * bitwise operations on the row's bitsets, with the same result as adding pawns one tile at a
+   * time with {@link SanguineTile#addPawn(Player)}:
+   *
+   * <ul>
+   *   <li>tiles with a card are left alone</li>
+   *   <li>empty tiles and tiles of {@code who} gain a pawn, up to 3, and belong to {@code who}</li>
+   *   <li>tiles of the opponent are taken over by {@code who}, keeping their pawns</li>
+   * </ul>
+   *
+   * @param card the card placed
+   * @param row  the row the card is placed on
+   * @param col  the column the card is placed on
+   * @param who  the player placing the card
+   */
+  private void applyInfluence(Card card, int row, int col, Player who) {
+    long[] mine = ownedBy(who);
+    long[] theirs = ownedBy(opponent(who));
+    int mask = card.footprint(who).mask();
+    long onBoard = (width == Long.SIZE) ? -1L : (1L << width) - 1;
+    for (int gridRow = 0; gridRow < 5; gridRow++) {
+      int rr = row + gridRow - 2;
+      long slice = (mask >>> (gridRow * 5)) & 0x1f;
+      if (slice == 0 || rr < 0 || rr >= height) {
+        continue;
+      }
+      // bit gridCol of the slice is the tile in column col + gridCol - 2
+      long influenced = ((col >= 2) ? slice << (col - 2) : slice >>> (2 - col))
+          & onBoard & ~cards[rr];
+      if (influenced == 0) {
+        continue;
+      }
+      if (rr != row) {
+        saveRow(rr);
+      }
+
+      long takenOver = influenced & theirs[rr];
+      long gaining = influenced & ~theirs[rr] & ~(pawnsLow[rr] & pawnsHigh[rr]);
+      pawnsHigh[rr] ^= gaining & pawnsLow[rr];
+      pawnsLow[rr] ^= gaining;
+      mine[rr] |= influenced;
+      theirs[rr] &= ~takenOver;
+    }
+  }
+}
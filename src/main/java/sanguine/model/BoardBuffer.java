@@ -0,0 +1,192 @@
+package sanguine.model;
+
+/**
+ * a caller-owned copy of the board of a game of Sanguine in primitive arrays, filled in by
+ * {@link ReadOnlySanguineModel#copyBoardInto(BoardBuffer)} in one pass over the board. Readers that
+ * look at every tile, like the views, can copy the board once and then read any tile without
+ * going through the model, and reuse the same buffer every time the board changes.
+ *
+ * <p>Tiles are stored row by row, so the tile at ({@code row}, {@code col}) is at index
+ * {@code row * width() + col} of {@link #owners()}, {@link #pawns()} and {@link #cardIds()}.
+ * Those arrays are the buffer's own, and are overwritten by the next copy.</p>
+ */
+public final class BoardBuffer {
+
+  /**
+   * the value of {@link #owners()} for a tile with no owner, and of {@link #cardIds()} for a tile
+   * with no card.
+   */
+  public static final int NONE = -1;
+
+  private static final Player[] PLAYERS = Player.values();
+
+  private final int width;
+  private final int height;
+  private final int[] owners;
+  private final int[] pawns;
+  private final int[] cardIds;
+  private final int[] redRowScores;
+  private final int[] blueRowScores;
+  // INVARIANT: owners[i] is the ordinal of the owner of tile i, or NONE. cardIds[i] is the
+  // CardRegistry ID of the card on tile i, or NONE, and pawns[i] is 0 when tile i has a card
+
+  /**
+   * constructs an empty buffer for a board of the given size.
+   *
+   * @param width  the width of the board
+   * @param height the height of the board
+   * @throws IllegalArgumentException if the width or height isn't positive
+   */
+  public BoardBuffer(int width, int height) throws IllegalArgumentException {
+    if (width <= 0 || height <= 0) {
+      throw new IllegalArgumentException("width and height must be positive");
+    }
+    this.width = width;
+    this.height = height;
+    owners = new int[width * height];
+    pawns = new int[width * height];
+    cardIds = new int[width * height];
+    redRowScores = new int[height];
+    blueRowScores = new int[height];
+  }
+
+  /**
+   * returns the width of the board this buffer holds.
+   *
+   * @return the width of the board
+   */
+  public int width() {
+    return width;
+  }
+
+  /**
+   * returns the height of the board this buffer holds.
+   *
+   * @return the height of the board
+   */
+  public int height() {
+    return height;
+  }
+
+  /**
+   * returns whether this buffer holds a board of the given size.
+   *
+   * @param width  the width of the board
+   * @param height the height of the board
+   * @return whether this buffer fits a board of the given size
+   */
+  public boolean fits(int width, int height) {
+    return this.width == width && this.height == height;
+  }
+
+  /**
+   * returns the owner of every tile as a player ordinal, or {@link #NONE}.
+   *
+   * @return the owners of the tiles, row by row
+   */
+  public int[] owners() {
+    return owners;
+  }
+
+  /**
+   * returns the number of pawns on every tile, which is 0 for tiles with no owner or a card.
+   *
+   * @return the pawns on the tiles, row by row
+   */
+  public int[] pawns() {
+    return pawns;
+  }
+
+  /**
+   * returns the {@link CardRegistry} ID of the card on every tile, or {@link #NONE}.
+   *
+   * @return the IDs of the cards on the tiles, row by row
+   */
+  public int[] cardIds() {
+    return cardIds;
+  }
+
+  /**
+   * returns the owner of the given tile, or null if it has none.
+   *
+   * @param row the row of the tile
+   * @param col the column of the tile
+   * @return the owner of the tile, or null
+   * @throws IllegalArgumentException if the coordinates aren't on the board
+   */
+  public Player owner(int row, int col) throws IllegalArgumentException {
+    int owner = owners[index(row, col)];
+    return owner == NONE ? null : PLAYERS[owner];
+  }
+
+  /**
+   * returns the number of pawns on the given tile, which is 0 if it has no owner or has a card.
+   *
+   * @param row the row of the tile
+   * @param col the column of the tile
+   * @return the pawns on the tile
+   * @throws IllegalArgumentException if the coordinates aren't on the board
+   */
+  public int pawns(int row, int col) throws IllegalArgumentException {
+    return pawns[index(row, col)];
+  }
+
+  /**
+   * returns the card on the given tile, or null if it has none.
+   *
+   * @param row the row of the tile
+   * @param col the column of the tile
+   * @return the card on the tile, or null
+   * @throws IllegalArgumentException if the coordinates aren't on the board
+   */
+  public Card card(int row, int col) throws IllegalArgumentException {
+    int id = cardIds[index(row, col)];
+    return id == NONE ? null : CardRegistry.byId(id);
+  }
+
+  /**
+   * returns the score of the given player on the given row.
+   *
+   * @param player the player whose score is returned
+   * @param row    the row
+   * @return the player's score on the row
+   * @throws IllegalArgumentException if the player is null or the row isn't on the board
+   */
+  public int rowScore(Player player, int row) throws IllegalArgumentException {
+    if (player == null) {
+      throw new IllegalArgumentException("player is null");
+    }
+    if (row < 0 || row >= height) {
+      throw new IllegalArgumentException("invalid row");
+    }
+    return switch (player) {
+      case RED -> redRowScores[row];
+      case BLUE -> blueRowScores[row];
+    };
+  }
+
+  /**
+   * sets the given tile, as documented by the invariant.
+   */
+  void setTile(int row, int col, int owner, int pawns, int cardId) {
+    int index = row * width + col;
+    owners[index] = owner;
+    this.pawns[index] = pawns;
+    cardIds[index] = cardId;
+  }
+
+  /**
+   * sets the scores of both players on the given row.
+   */
+  void setRowScores(int row, int redScore, int blueScore) {
+    redRowScores[row] = redScore;
+    blueRowScores[row] = blueScore;
+  }
+
+  private int index(int row, int col) throws IllegalArgumentException {
+    if (row < 0 || row >= height || col < 0 || col >= width) {
+      throw new IllegalArgumentException("invalid coordinates");
+    }
+    return row * width + col;
+  }
+}
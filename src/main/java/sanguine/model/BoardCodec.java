@@ -0,0 +1,578 @@
+package sanguine.model;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * packs a {@link GameState} into a {@code long[]} and back. Tiles are packed into a fixed number of
+ * bits each, so a single tile can be read from the packed state in constant time with
+ * {@link #isCardAt}, {@link #hasOwner}, {@link #ownerAt}, {@link #pawnsAt} and {@link #cardAt},
+ * without decoding the rest.
+ *
+ * <p>The packed state is a stream of bits, starting at the lowest bit of the first word:
+ *   <ul>
+ *     <li>a format version (8 bits), the width and height (12 bits each), the bits per tile and
+ *     per card ID (5 bits each), the turn (2 bits), the consecutive passes (2 bits) and the size
+ *     of each hand (7 bits each), filling the first word</li>
+ *     <li>the size of each deck and the maximum hand size (20 bits each), filling the second
+ *     word</li>
+ *     <li>one code per tile, row by row: 0 for a tile without an owner,
+ *     {@code 1 + owner * 3 + pawns - 1} for a tile with pawns, and {@code 7 + id * 2 + owner} for a
+ *     tile with a card, where owner is the owner's ordinal and id is the card's index in the card
+ *     table</li>
+ *     <li>the card table indices of the cards in the red hand, then in the blue hand</li>
+ *     <li>the card table: the number of cards in it (20 bits) and the bits per card value
+ *     (5 bits), then each different card on the board or in a hand, in the order they are first
+ *     seen: its cost minus 1 (2 bits), its value, its influence grid as a 25-bit mask with bit
+ *     {@code gridRow * 5 + gridCol} set for every influenced tile, and its name as a length
+ *     (16 bits) followed by one 16-bit {@code char} per character</li>
+ *   </ul>
+ * </p>
+ *
+ * <p>Tiles take as few bits as the number of different cards in the state allows, which is 6
+ * bits while there are at most 28 of them, so the 15 tiles of a standard 5x3 board take 90 bits
+ * however many cards the program has registered. Cards are stored by their content rather than
+ * their {@link CardRegistry} ID, which is only stable within one run, so a packed state can be
+ * decoded by any program: decoding interns the cards of the table into its own registry.</p>
+ */
+public final class BoardCodec {
+
+  private static final int VERSION = 3;
+  private static final int HEADER_BITS = 2 * Long.SIZE;
+  private static final int TABLE_HEADER_BITS = 25;
+  private static final int NAME_LENGTH_BITS = 16;
+  private static final int CARD_CODES = 7;
+  private static final Player[] PLAYERS = Player.values();
+
+  private BoardCodec() {
+  }
+
+  /**
+   * packs the given snapshot.
+   *
+   * @param state the snapshot to pack
+   * @return the packed snapshot
+   * @throws IllegalArgumentException if the state is null or too large to pack
+   */
+  public static long[] encode(GameState state) throws IllegalArgumentException {
+    if (state == null) {
+      throw new IllegalArgumentException("state is null");
+    }
+    int width = state.width();
+    int height = state.height();
+    List<Card> redHand = state.getHand(Player.RED);
+    List<Card> blueHand = state.getHand(Player.BLUE);
+    if (width >= 1 << 12 || height >= 1 << 12 || redHand.size() >= 1 << 7
+        || blueHand.size() >= 1 << 7 || state.getMaxHandSize() >= 1 << 20
+        || state.deckSize(Player.RED) >= 1 << 20 || state.deckSize(Player.BLUE) >= 1 << 20) {
+      throw new IllegalArgumentException("state too large to pack");
+    }
+
+    // the index of each different card in the table, by its registry ID
+    Map<Integer, Integer> indexOf = new HashMap<>();
+    List<Card> table = new ArrayList<>();
+    for (int row = 0; row < height; row++) {
+      for (int col = 0; col < width; col++) {
+        if (state.isCardAt(row, col)) {
+          addToTable(state.cardAt(row, col), indexOf, table);
+        }
+      }
+    }
+    for (Card card : redHand) {
+      addToTable(card, indexOf, table);
+    }
+    for (Card card : blueHand) {
+      addToTable(card, indexOf, table);
+    }
+    if (table.size() >= 1 << 20) {
+      throw new IllegalArgumentException("state too large to pack");
+    }
+    int largestValue = 0;
+    long tableBits = TABLE_HEADER_BITS;
+    for (Card card : table) {
+      if (card.name().length() >= 1 << NAME_LENGTH_BITS) {
+        throw new IllegalArgumentException("state too large to pack");
+      }
+      largestValue = Math.max(largestValue, card.value());
+      tableBits += 2 + 25 + NAME_LENGTH_BITS + (long) card.name().length() * Character.SIZE;
+    }
+
+    int cards = table.size();
+    int idBits = bitsFor(cards);
+    int tileBits = bitsFor(CARD_CODES + 2 * cards);
+    int valueBits = bitsFor(largestValue + 1);
+    tableBits += (long) cards * valueBits;
+    long tiles = (long) width * height;
+    long handCards = redHand.size() + blueHand.size();
+    long[] packed = new long[wordsFor(HEADER_BITS + tiles * tileBits + handCards * idBits
+        + tableBits)];
+
+    long header = VERSION;
+    header |= (long) width << 8;
+    header |= (long) height << 20;
+    header |= (long) tileBits << 32;
+    header |= (long) idBits << 37;
+    header |= (long) state.turnOrdinal() << 42;
+    header |= (long) state.consecutivePasses() << 44;
+    header |= (long) redHand.size() << 46;
+    header |= (long) blueHand.size() << 53;
+    packed[0] = header;
+    packed[1] = state.deckSize(Player.RED)
+        | (long) state.deckSize(Player.BLUE) << 20
+        | (long) state.getMaxHandSize() << 40;
+
+    long bit = HEADER_BITS;
+    for (int row = 0; row < height; row++) {
+      for (int col = 0; col < width; col++) {
+        put(packed, bit, tileBits, tileCode(state, row, col, indexOf));
+        bit += tileBits;
+      }
+    }
+    for (Card card : redHand) {
+      put(packed, bit, idBits, indexOf.get(card.id()));
+      bit += idBits;
+    }
+    for (Card card : blueHand) {
+      put(packed, bit, idBits, indexOf.get(card.id()));
+      bit += idBits;
+    }
+    put(packed, bit, 20, cards);
+    put(packed, bit + 20, 5, valueBits);
+    bit += TABLE_HEADER_BITS;
+    for (Card card : table) {
+      bit = putCard(packed, bit, valueBits, card);
+    }
+    return packed;
+  }
+
+  /**
+   * adds the given card to the card table if it isn't in it yet.
+   */
+  private static void addToTable(Card card, Map<Integer, Integer> indexOf, List<Card> table) {
+    if (indexOf.putIfAbsent(card.id(), table.size()) == null) {
+      table.add(card);
+    }
+  }
+
+  /**
+   * writes the given card as an entry of the card table at the given bit, and returns the bit
+   * after it.
+   */
+  private static long putCard(long[] packed, long bit, int valueBits, Card card) {
+    put(packed, bit, 2, card.cost() - 1);
+    bit += 2;
+    put(packed, bit, valueBits, card.value());
+    bit += valueBits;
+    int influence = 0;
+    for (int gr = 0; gr < 5; gr++) {
+      for (int gc = 0; gc < 5; gc++) {
+        if (card.tileAt(gr, gc) == InfluenceGridTile.AFFECTED) {
+          influence |= 1 << (gr * 5 + gc);
+        }
+      }
+    }
+    put(packed, bit, 25, influence);
+    bit += 25;
+    String name = card.name();
+    put(packed, bit, NAME_LENGTH_BITS, name.length());
+    bit += NAME_LENGTH_BITS;
+    for (int i = 0; i < name.length(); i++) {
+      put(packed, bit, Character.SIZE, name.charAt(i));
+      bit += Character.SIZE;
+    }
+    return bit;
+  }
+
+  /**
+   * reads the entry of the card table at the given bit and returns the registered card equal to
+   * it, interning it if no equal card is registered yet.
+   */
+  private static Card getCard(long[] packed, long bit, int valueBits)
+      throws IllegalArgumentException {
+    int cost = (int) get(packed, bit, 2) + 1;
+    bit += 2;
+    int value = (int) get(packed, bit, valueBits);
+    bit += valueBits;
+    int influence = (int) get(packed, bit, 25);
+    bit += 25;
+    int length = (int) get(packed, bit, NAME_LENGTH_BITS);
+    bit += NAME_LENGTH_BITS;
+    char[] name = new char[length];
+    for (int i = 0; i < length; i++) {
+      name[i] = (char) get(packed, bit, Character.SIZE);
+      bit += Character.SIZE;
+    }
+    List<List<InfluenceGridTile>> grid = new ArrayList<>();
+    for (int gr = 0; gr < 5; gr++) {
+      List<InfluenceGridTile> tiles = new ArrayList<>();
+      for (int gc = 0; gc < 5; gc++) {
+        if (gr == 2 && gc == 2) {
+          tiles.add(InfluenceGridTile.PLACED);
+        } else if ((influence & (1 << (gr * 5 + gc))) != 0) {
+          tiles.add(InfluenceGridTile.AFFECTED);
+        } else {
+          tiles.add(InfluenceGridTile.UNAFFECTED);
+        }
+      }
+      grid.add(tiles);
+    }
+    try {
+      return CardRegistry.intern(new SanguineCard(new String(name), cost, value, grid));
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException("packed state has an invalid card: " + e.getMessage());
+    }
+  }
+
+  /**
+   * returns the bit after the entry of the card table at the given bit, checking that the entry
+   * fits in the packed state.
+   */
+  private static long skipCard(long[] packed, long bit, int valueBits)
+      throws IllegalArgumentException {
+    long nameBit = bit + 2 + valueBits + 25;
+    if (nameBit + NAME_LENGTH_BITS > (long) packed.length * Long.SIZE) {
+      throw new IllegalArgumentException("packed state is too short");
+    }
+    long end = nameBit + NAME_LENGTH_BITS
+        + get(packed, nameBit, NAME_LENGTH_BITS) * Character.SIZE;
+    if (end > (long) packed.length * Long.SIZE) {
+      throw new IllegalArgumentException("packed state is too short");
+    }
+    return end;
+  }
+
+  /**
+   * unpacks the given packed snapshot.
+   *
+   * @param packed a snapshot packed by {@link #encode(GameState)}
+   * @return the unpacked snapshot
+   * @throws IllegalArgumentException if the packed snapshot is null or malformed, or has an
+   *                                  invalid card
+   */
+  public static GameState decode(long[] packed) throws IllegalArgumentException {
+    int width = width(packed);
+    int height = height(packed);
+    int tileBits = tileBits(packed);
+    int idBits = (int) (packed[0] >>> 37) & 0x1f;
+    int redHandSize = (int) (packed[0] >>> 46) & 0x7f;
+    int blueHandSize = (int) (packed[0] >>> 53) & 0x7f;
+    long tableBit = tableBit(packed);
+    int tableSize = (int) get(packed, tableBit, 20);
+    int valueBits = (int) get(packed, tableBit + 20, 5);
+    long[] entryBits = new long[tableSize];
+    long bits = tableBit + TABLE_HEADER_BITS;
+    for (int i = 0; i < tableSize; i++) {
+      entryBits[i] = bits;
+      bits = skipCard(packed, bits, valueBits);
+    }
+    if (packed.length != wordsFor(bits)) {
+      throw new IllegalArgumentException("packed state has the wrong length");
+    }
+    Card[] table = new Card[tableSize];
+    for (int i = 0; i < tableSize; i++) {
+      table[i] = getCard(packed, entryBits[i], valueBits);
+    }
+
+    GameState.Row[] rows = new GameState.Row[height];
+    int[] redRowScores = new int[height];
+    int[] blueRowScores = new int[height];
+    int emptyTiles = 0;
+    for (int row = 0; row < height; row++) {
+      int[] states = new int[width];
+      Card[] cards = new Card[width];
+      for (int col = 0; col < width; col++) {
+        int code = code(packed, tileBits, row, col);
+        if (code >= CARD_CODES) {
+          Player owner = PLAYERS[(code - CARD_CODES) % 2];
+          cards[col] = fromTable(table, (code - CARD_CODES) / 2);
+          states[col] = (owner.ordinal() + 1) * 4;
+          switch (owner) {
+            case RED -> redRowScores[row] += cards[col].value();
+            case BLUE -> blueRowScores[row] += cards[col].value();
+          }
+        } else {
+          emptyTiles += 1;
+          if (code > 0) {
+            states[col] = ((code - 1) / 3 + 1) * 4 + (code - 1) % 3 + 1;
+          }
+        }
+      }
+      rows[row] = new GameState.Row(states, cards);
+    }
+
+    int redScore = 0;
+    int blueScore = 0;
+    for (int row = 0; row < height; row++) {
+      if (redRowScores[row] > blueRowScores[row]) {
+        redScore += redRowScores[row];
+      } else if (blueRowScores[row] > redRowScores[row]) {
+        blueScore += blueRowScores[row];
+      }
+    }
+
+    long bit = HEADER_BITS + (long) width * height * tileBits;
+    List<Card> redHand = new ArrayList<>();
+    for (int i = 0; i < redHandSize; i++) {
+      redHand.add(fromTable(table, (int) get(packed, bit, idBits)));
+      bit += idBits;
+    }
+    List<Card> blueHand = new ArrayList<>();
+    for (int i = 0; i < blueHandSize; i++) {
+      blueHand.add(fromTable(table, (int) get(packed, bit, idBits)));
+      bit += idBits;
+    }
+
+    int turnOrdinal = (int) (packed[0] >>> 42) & 0x3;
+    if (turnOrdinal >= PLAYERS.length) {
+      throw new IllegalArgumentException("invalid turn");
+    }
+    Player turn = PLAYERS[turnOrdinal];
+    int passes = (int) (packed[0] >>> 44) & 0x3;
+    int redDeckSize = (int) packed[1] & 0xfffff;
+    int blueDeckSize = (int) (packed[1] >>> 20) & 0xfffff;
+    int maxHandSize = (int) (packed[1] >>> 40) & 0xfffff;
+    List<Card> redCards = List.copyOf(redHand);
+    List<Card> blueCards = List.copyOf(blueHand);
+    GameState unhashed = new GameState(width, height, maxHandSize, rows, redCards, blueCards,
+        redDeckSize, blueDeckSize, redRowScores, blueRowScores, redScore, blueScore, emptyTiles,
+        turn, passes, 0);
+    return new GameState(width, height, maxHandSize, rows, redCards, blueCards,
+        redDeckSize, blueDeckSize, redRowScores, blueRowScores, redScore, blueScore, emptyTiles,
+        turn, passes, ZobristHash.of(unhashed));
+  }
+
+  /**
+   * returns the width of the board of the given packed snapshot.
+   *
+   * @param packed a packed snapshot
+   * @return the width of the board
+   * @throws IllegalArgumentException if the packed snapshot is null or malformed
+   */
+  public static int width(long[] packed) throws IllegalArgumentException {
+    throwExceptionIfMalformed(packed);
+    return (int) (packed[0] >>> 8) & 0xfff;
+  }
+
+  /**
+   * returns the height of the board of the given packed snapshot.
+   *
+   * @param packed a packed snapshot
+   * @return the height of the board
+   * @throws IllegalArgumentException if the packed snapshot is null or malformed
+   */
+  public static int height(long[] packed) throws IllegalArgumentException {
+    throwExceptionIfMalformed(packed);
+    return (int) (packed[0] >>> 20) & 0xfff;
+  }
+
+  /**
+   * returns how many bits each tile takes in the given packed snapshot.
+   *
+   * @param packed a packed snapshot
+   * @return the number of bits per tile
+   * @throws IllegalArgumentException if the packed snapshot is null or malformed
+   */
+  public static int tileBits(long[] packed) throws IllegalArgumentException {
+    throwExceptionIfMalformed(packed);
+    return (int) (packed[0] >>> 32) & 0x1f;
+  }
+
+  /**
+   * returns whether the tile at the given coordinates of the packed snapshot has a card.
+   *
+   * @param packed a packed snapshot
+   * @param row    the row of the tile
+   * @param col    the column of the tile
+   * @return whether the tile has a card
+   * @throws IllegalArgumentException if the packed snapshot is malformed or the coordinates are
+   *                                  off the board
+   */
+  public static boolean isCardAt(long[] packed, int row, int col)
+      throws IllegalArgumentException {
+    return tileCode(packed, row, col) >= CARD_CODES;
+  }
+
+  /**
+   * returns whether the tile at the given coordinates of the packed snapshot has an owner.
+   *
+   * @param packed a packed snapshot
+   * @param row    the row of the tile
+   * @param col    the column of the tile
+   * @return whether the tile has an owner
+   * @throws IllegalArgumentException if the packed snapshot is malformed or the coordinates are
+   *                                  off the board
+   */
+  public static boolean hasOwner(long[] packed, int row, int col)
+      throws IllegalArgumentException {
+    return tileCode(packed, row, col) != 0;
+  }
+
+  /**
+   * returns the owner of the tile at the given coordinates of the packed snapshot.
+   *
+   * @param packed a packed snapshot
+   * @param row    the row of the tile
+   * @param col    the column of the tile
+   * @return the owner of the tile
+   * @throws IllegalArgumentException if the packed snapshot is malformed or the coordinates are
+   *                                  off the board
+   * @throws IllegalStateException    if the tile has no owner
+   */
+  public static Player ownerAt(long[] packed, int row, int col)
+      throws IllegalArgumentException, IllegalStateException {
+    int code = tileCode(packed, row, col);
+    if (code == 0) {
+      throw new IllegalStateException("tile has no owner");
+    }
+    return code >= CARD_CODES ? PLAYERS[(code - CARD_CODES) % 2] : PLAYERS[(code - 1) / 3];
+  }
+
+  /**
+   * returns the number of pawns on the tile at the given coordinates of the packed snapshot.
+   *
+   * @param packed a packed snapshot
+   * @param row    the row of the tile
+   * @param col    the column of the tile
+   * @return the number of pawns on the tile
+   * @throws IllegalArgumentException if the packed snapshot is malformed or the coordinates are
+   *                                  off the board
+   * @throws IllegalStateException    if the tile has a card
+   */
+  public static int pawnsAt(long[] packed, int row, int col)
+      throws IllegalArgumentException, IllegalStateException {
+    int code = tileCode(packed, row, col);
+    if (code >= CARD_CODES) {
+      throw new IllegalStateException("card at given tile");
+    }
+    return code == 0 ? 0 : (code - 1) % 3 + 1;
+  }
+
+  /**
+   * returns the card on the tile at the given coordinates of the packed snapshot. Only the card
+   * table up to the card's entry is read.
+   *
+   * @param packed a packed snapshot
+   * @param row    the row of the tile
+   * @param col    the column of the tile
+   * @return the card on the tile
+   * @throws IllegalArgumentException if the packed snapshot is malformed, the coordinates are
+   *                                  off the board, or the tile has no card
+   */
+  public static Card cardAt(long[] packed, int row, int col) throws IllegalArgumentException {
+    int code = tileCode(packed, row, col);
+    if (code < CARD_CODES) {
+      throw new IllegalArgumentException("no card at given tile");
+    }
+    long tableBit = tableBit(packed);
+    int cards = (int) get(packed, tableBit, 20);
+    int valueBits = (int) get(packed, tableBit + 20, 5);
+    int index = (code - CARD_CODES) / 2;
+    if (index >= cards) {
+      throw new IllegalArgumentException("packed state is malformed");
+    }
+    long bit = tableBit + TABLE_HEADER_BITS;
+    for (int i = 0; i < index; i++) {
+      bit = skipCard(packed, bit, valueBits);
+    }
+    skipCard(packed, bit, valueBits);
+    return getCard(packed, bit, valueBits);
+  }
+
+  /**
+   * returns the bit the card table of the given packed snapshot starts at.
+   */
+  private static long tableBit(long[] packed) throws IllegalArgumentException {
+    int idBits = (int) (packed[0] >>> 37) & 0x1f;
+    int handCards = ((int) (packed[0] >>> 46) & 0x7f) + ((int) (packed[0] >>> 53) & 0x7f);
+    long bit = HEADER_BITS + (long) width(packed) * height(packed) * tileBits(packed)
+        + (long) handCards * idBits;
+    if (bit + TABLE_HEADER_BITS > (long) packed.length * Long.SIZE) {
+      throw new IllegalArgumentException("packed state is too short");
+    }
+    return bit;
+  }
+
+  private static Card fromTable(Card[] table, int index) throws IllegalArgumentException {
+    if (index >= table.length) {
+      throw new IllegalArgumentException("packed state is malformed");
+    }
+    return table[index];
+  }
+
+  private static int tileCode(long[] packed, int row, int col) throws IllegalArgumentException {
+    int width = width(packed);
+    if (row < 0 || row >= height(packed) || col < 0 || col >= width) {
+      throw new IllegalArgumentException("invalid coordinates");
+    }
+    return code(packed, tileBits(packed), row, col);
+  }
+
+  private static int code(long[] packed, int tileBits, int row, int col) {
+    int width = (int) (packed[0] >>> 8) & 0xfff;
+    long bit = HEADER_BITS + ((long) row * width + col) * tileBits;
+    if (bit + tileBits > (long) packed.length * Long.SIZE) {
+      throw new IllegalArgumentException("packed state is too short");
+    }
+    return (int) get(packed, bit, tileBits);
+  }
+
+  private static int tileCode(GameState state, int row, int col,
+                              Map<Integer, Integer> indexOf) {
+    if (state.isCardAt(row, col)) {
+      return CARD_CODES + indexOf.get(state.cardAt(row, col).id()) * 2
+          + state.ownerAt(row, col).ordinal();
+    }
+    if (!state.hasOwner(row, col)) {
+      return 0;
+    }
+    return 1 + state.ownerAt(row, col).ordinal() * 3 + state.pawnsAt(row, col) - 1;
+  }
+
+  private static void throwExceptionIfMalformed(long[] packed) throws IllegalArgumentException {
+    if (packed == null) {
+      throw new IllegalArgumentException("packed state is null");
+    }
+    if (packed.length < 2 || (packed[0] & 0xff) != VERSION) {
+      throw new IllegalArgumentException("not a packed state");
+    }
+  }
+
+  /**
+   * returns the number of bits needed to write every number in [0..count).
+   */
+  private static int bitsFor(int count) {
+    return Math.max(1, Integer.SIZE - Integer.numberOfLeadingZeros(count - 1));
+  }
+
+  private static int wordsFor(long bits) {
+    return (int) ((bits + Long.SIZE - 1) / Long.SIZE);
+  }
+
+  /**
+   * writes the lowest {@code bits} bits of the value at the given bit of the words. The bits
+   * written must be 0.
+   */
+  private static void put(long[] words, long bit, int bits, long value) {
+    int word = (int) (bit >>> 6);
+    int offset = (int) (bit & 63);
+    words[word] |= value << offset;
+    if (offset + bits > Long.SIZE) {
+      words[word + 1] |= value >>> (Long.SIZE - offset);
+    }
+  }
+
+  /**
+   * reads {@code bits} bits, at most 32, starting at the given bit of the words.
+   */
+  private static long get(long[] words, long bit, int bits) {
+    int word = (int) (bit >>> 6);
+    int offset = (int) (bit & 63);
+    long value = words[word] >>> offset;
+    if (offset + bits > Long.SIZE) {
+      value |= words[word + 1] << (Long.SIZE - offset);
+    }
+    return value & ((1L << bits) - 1);
+  }
+}
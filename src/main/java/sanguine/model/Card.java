@@ -37,5 +37,27 @@ public interface Card {
    */
   InfluenceGridTile tileAt(int row, int col) throws IllegalArgumentException;
 
+  /**
+   * returns the tiles influenced by this card when it is placed by the given player. The default
+   * implementation compiles the footprint from {@link #tileAt(int, int)} on every call;
+   * implementations should compile it once and return the same footprint each time.
+   *
+   * @param player the player placing this card
+   * @return the footprint of this card for the given player
+   * @throws IllegalArgumentException if the player is null
+   */
+  default InfluenceFootprint footprint(Player player) throws IllegalArgumentException {
+    return InfluenceFootprint.of(this, player);
+  }
+
+  /**
+   * returns the ID {@link CardRegistry} gives this card, which is the same for every equal card.
+   * The default implementation looks the ID up in the registry, registering this card if needed.
+   *
+   * @return the ID of this card
+   */
+  default int id() {
+    return CardRegistry.idOf(this);
+  }
 
 }
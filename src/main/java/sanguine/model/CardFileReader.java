@@ -37,7 +37,7 @@ public final class CardFileReader {
    * creates a file from the file at the given path. Format is specified in the class documentation.
    *
    * @param filePath the path of the file
-   * @return the cards that the file contain
+   * @return the cards that the file contain, as interned by {@link CardRegistry}
    * @throws IllegalArgumentException if the file does not exist, or if it's incorrectly formatted
    */
   public static List<Card> read(String filePath) throws IllegalArgumentException {
@@ -86,7 +86,7 @@ public final class CardFileReader {
     List<List<InfluenceGridTile>> grid = getGrid(lines, firstLine + 1);
 
     try {
-      return new SanguineCard(name, cost, value, grid);
+      return CardRegistry.intern(new SanguineCard(name, cost, value, grid));
     } catch (IllegalArgumentException e) {
       throw new IllegalArgumentException(e);
     }
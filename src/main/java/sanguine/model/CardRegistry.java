@@ -0,0 +1,99 @@
+package sanguine.model;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * the registry of every distinct {@link Card} seen by the game. Each distinct card (by name,
+ * cost, value and influence grid) is interned into one canonical {@link SanguineCard} with a
+ * dense integer ID, starting at 0 in the order cards are first seen. Canonical cards compare and
+ * hash by their ID, so models can store hands and decks as arrays of IDs and look the cards back
+ * up with {@link #byId(int)}.
+ *
+ * <p>The registry is shared by every game in the program and is safe to use from multiple
+ * threads; looking a card up by its ID never blocks. Cards are never removed, and IDs are only
+ * stable within one run of the program.</p>
+ */
+public final class CardRegistry {
+
+  private static final Map<String, SanguineCard> BY_CONTENT = new HashMap<>();
+  private static volatile SanguineCard[] byId = new SanguineCard[0];
+  // INVARIANT: byId[id] is the card with that ID. It is only replaced, never changed, so lookups
+  // don't need to take the lock
+
+  private CardRegistry() {
+  }
+
+  /**
+   * returns the canonical instance of the given card, registering it if no equal card has been
+   * registered before.
+   *
+   * @param card the card to intern
+   * @return the canonical card equal to {@code card}
+   * @throws IllegalArgumentException if the card is null or isn't a valid card, as specified by
+   *                                  the {@link SanguineCard} constructor
+   */
+  public static synchronized Card intern(Card card) throws IllegalArgumentException {
+    if (card == null) {
+      throw new IllegalArgumentException("card is null");
+    }
+    String key = contentKey(card);
+    SanguineCard canonical = BY_CONTENT.get(key);
+    if (canonical == null) {
+      SanguineCard[] cards = Arrays.copyOf(byId, byId.length + 1);
+      canonical = new SanguineCard(card, byId.length);
+      cards[cards.length - 1] = canonical;
+      BY_CONTENT.put(key, canonical);
+      byId = cards;
+    }
+    return canonical;
+  }
+
+  /**
+   * returns the ID of the given card, registering it if no equal card has been registered before.
+   *
+   * @param card the card whose ID is returned
+   * @return the ID of {@code card}
+   * @throws IllegalArgumentException if the card is null or isn't a valid card
+   */
+  public static int idOf(Card card) throws IllegalArgumentException {
+    return intern(card).id();
+  }
+
+  /**
+   * returns the canonical card with the given ID.
+   *
+   * @param id the ID of the card
+   * @return the canonical card with the given ID
+   * @throws IllegalArgumentException if no card has the given ID
+   */
+  public static Card byId(int id) throws IllegalArgumentException {
+    SanguineCard[] cards = byId;
+    if (id < 0 || id >= cards.length) {
+      throw new IllegalArgumentException("no card with id " + id);
+    }
+    return cards[id];
+  }
+
+  /**
+   * returns the number of registered cards, which is one more than the largest ID.
+   *
+   * @return the number of registered cards
+   */
+  public static int size() {
+    return byId.length;
+  }
+
+  private static String contentKey(Card card) {
+    StringBuilder key = new StringBuilder();
+    key.append(card.name()).append(' ').append(card.cost()).append(' ').append(card.value())
+        .append(' ');
+    for (int row = 0; row < 5; row++) {
+      for (int col = 0; col < 5; col++) {
+        key.append(card.tileAt(row, col).ordinal());
+      }
+    }
+    return key.toString();
+  }
+}
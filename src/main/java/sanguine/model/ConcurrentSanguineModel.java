@@ -0,0 +1,504 @@
+package sanguine.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.BooleanSupplier;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import sanguine.controller.GameStateListener;
+import sanguine.model.moves.MoveResult;
+import sanguine.model.moves.SanguineMove;
+
+/**
+ * a {@link SanguineModel} that makes another model safe to share between threads, so that one
+ * thread can make moves while others, like views, spectators and strategies thinking ahead,
+ * query the game. The wrapped model must not be used except through this wrapper.
+ *
+ * <p>Every change to the game takes the write lock of a {@link StampedLock}. Queries first run
+ * without locking, as an optimistic read, and are only run again under the read lock if a move
+ * was made while they ran, so readers don't block each other or the writer while no move is
+ * being made. A query that throws while a move is being made is also retried, since the wrapped
+ * model may have been read halfway through the move.</p>
+ *
+ * <p>{@link GameStateListener}s are registered with this wrapper. The wrapped model's alerts are
+ * collected while the write lock is held and passed on once it is released, in the order they
+ * were made, so listeners can query and move on this model from their callbacks.</p>
+ */
+public class ConcurrentSanguineModel implements SanguineModel {
+
+  private final SanguineModel model;
+  private final StampedLock lock;
+  private final List<GameStateListener> listeners;
+  private final List<Runnable> pendingAlerts;
+  // INVARIANT: pendingAlerts holds the alerts of the wrapped model not yet passed on to
+  // listeners, and is only used while the write lock is held
+  private final HandViews handViews = new HandViews();
+
+  /**
+   * constructs a thread-safe wrapper around the given model, which must have no listeners
+   * registered to it and must not be used except through the wrapper from now on.
+   *
+   * @param model the model to wrap
+   * @throws IllegalArgumentException if the model is null
+   */
+  public ConcurrentSanguineModel(SanguineModel model) throws IllegalArgumentException {
+    if (model == null) {
+      throw new IllegalArgumentException("model is null");
+    }
+    this.model = model;
+    this.lock = new StampedLock();
+    this.listeners = new CopyOnWriteArrayList<>();
+    this.pendingAlerts = new ArrayList<>();
+    model.register(new GameStateListener() {
+      @Override
+      public void alertTurn(Player player) {
+        pendingAlerts.add(() -> listeners.forEach(listener -> listener.alertTurn(player)));
+      }
+
+      @Override
+      public void moveMade(Player player, int move) {
+        pendingAlerts.add(() -> listeners.forEach(listener -> listener.moveMade(player, move)));
+      }
+
+      @Override
+      public void gameOver() {
+        pendingAlerts.add(() -> listeners.forEach(GameStateListener::gameOver));
+      }
+
+      @Override
+      public void startGame() {
+        pendingAlerts.add(() -> listeners.forEach(GameStateListener::startGame));
+      }
+    });
+  }
+
+  @Override
+  public int width() {
+    return model.width();
+  }
+
+  @Override
+  public int height() {
+    return model.height();
+  }
+
+  @Override
+  public Card cardAt(int row, int col) throws IllegalArgumentException, IllegalStateException {
+    return read(() -> model.cardAt(row, col));
+  }
+
+  @Override
+  public boolean isCardAt(int row, int col) throws IllegalArgumentException {
+    return readBoolean(() -> model.isCardAt(row, col));
+  }
+
+  @Override
+  public int pawnsAt(int row, int col) throws IllegalArgumentException, IllegalStateException {
+    return readInt(() -> model.pawnsAt(row, col));
+  }
+
+  @Override
+  public Player ownerAt(int row, int col) throws IllegalArgumentException, IllegalStateException {
+    return read(() -> model.ownerAt(row, col));
+  }
+
+  @Override
+  public boolean hasOwner(int row, int col) throws IllegalArgumentException {
+    return readBoolean(() -> model.hasOwner(row, col));
+  }
+
+  @Override
+  public boolean isGameOver() {
+    return readBoolean(model::isGameOver);
+  }
+
+  @Override
+  public int consecutivePasses() {
+    return readInt(model::consecutivePasses);
+  }
+
+  @Override
+  public int remainingEmptyTiles() {
+    return readInt(model::remainingEmptyTiles);
+  }
+
+  @Override
+  public Player getTurn() throws IllegalStateException {
+    return read(model::getTurn);
+  }
+
+  @Override
+  public List<Card> getHand(Player player) throws IllegalStateException {
+    return read(() -> model.getHand(player));
+  }
+
+  @Override
+  public int handSize(Player player) throws IllegalArgumentException {
+    return readInt(() -> model.handSize(player));
+  }
+
+  @Override
+  public Card handCardAt(Player player, int indexInHand) throws IllegalArgumentException {
+    return read(() -> model.handCardAt(player, indexInHand));
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Every access to the view is a query on this wrapper, so each is consistent on its own,
+   * but a move may be made between two accesses.</p>
+   */
+  @Override
+  public List<Card> handView(Player player) throws IllegalArgumentException {
+    return handViews.of(this, player);
+  }
+
+  @Override
+  public Optional<Player> getRowWinner(int row) throws IllegalArgumentException {
+    return read(() -> model.getRowWinner(row));
+  }
+
+  @Override
+  public int getScoreOfRow(int row) throws IllegalArgumentException {
+    return readInt(() -> model.getScoreOfRow(row));
+  }
+
+  @Override
+  public int getRowScore(Player player, int row) throws IllegalArgumentException {
+    return readInt(() -> model.getRowScore(player, row));
+  }
+
+  @Override
+  public Optional<Player> getWinning() {
+    return read(model::getWinning);
+  }
+
+  @Override
+  public int getScore() {
+    return readInt(model::getScore);
+  }
+
+  @Override
+  public boolean canPlayCard(Player player, int indexInHand, int row, int col) {
+    return readBoolean(() -> model.canPlayCard(player, indexInHand, row, col));
+  }
+
+  @Override
+  public MoveResult placeCardResult(Player player, int indexInHand, int row, int col)
+      throws IllegalArgumentException {
+    return read(() -> model.placeCardResult(player, indexInHand, row, col));
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The moves are written as of one state of the game: if a move is made while they are
+   * being written, they are written again.</p>
+   */
+  @Override
+  public int legalMoves(Player player, int[] buffer) throws IllegalArgumentException {
+    return readInt(() -> model.legalMoves(player, buffer));
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The tiles are written as of one state of the game: if a move is made while they are
+   * being written, they are written again.</p>
+   */
+  @Override
+  public int legalTiles(Player player, int indexInHand, long[] tiles)
+      throws IllegalArgumentException {
+    return readInt(() -> model.legalTiles(player, indexInHand, tiles));
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The board is copied as of one state of the game: if a move is made while it is being
+   * copied, it is copied again.</p>
+   */
+  @Override
+  public void copyBoardInto(BoardBuffer buffer) throws IllegalArgumentException {
+    readBoolean(() -> {
+      model.copyBoardInto(buffer);
+      return true;
+    });
+  }
+
+  @Override
+  public int getMaxHandSize() {
+    return model.getMaxHandSize();
+  }
+
+  @Override
+  public long stateHash() {
+    return readLong(model::stateHash);
+  }
+
+  @Override
+  public GameState snapshot() {
+    return read(model::snapshot);
+  }
+
+  @Override
+  public boolean canFork() {
+    return readBoolean(model::canFork);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The fork is a fork of the wrapped model, and isn't thread-safe. Forking may change how
+   * the wrapped model shares its state, so it takes the write lock.</p>
+   */
+  @Override
+  public SanguineModel fork() {
+    long stamp = lock.writeLock();
+    try {
+      return model.fork();
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  @Override
+  public void pass() throws IllegalStateException {
+    write(() -> {
+      model.pass();
+      return null;
+    });
+  }
+
+  @Override
+  public void placeCard(int indexInHand, int row, int col)
+      throws IllegalArgumentException, IllegalStateException {
+    write(() -> {
+      model.placeCard(indexInHand, row, col);
+      return null;
+    });
+  }
+
+  @Override
+  public void makeTurn(SanguineMove move) throws IllegalArgumentException, IllegalStateException {
+    write(() -> {
+      model.makeTurn(move);
+      return null;
+    });
+  }
+
+  @Override
+  public void applyAll(List<SanguineMove> moves)
+      throws IllegalArgumentException, IllegalStateException {
+    write(() -> {
+      model.applyAll(moves);
+      return null;
+    });
+  }
+
+  @Override
+  public void applyAll(int[] moves, int count)
+      throws IllegalArgumentException, IllegalStateException {
+    write(() -> {
+      model.applyAll(moves, count);
+      return null;
+    });
+  }
+
+  @Override
+  public MoveResult tryPlaceCard(Player player, int indexInHand, int row, int col)
+      throws IllegalArgumentException {
+    return write(() -> model.tryPlaceCard(player, indexInHand, row, col));
+  }
+
+  @Override
+  public MoveResult tryPass(Player player) throws IllegalArgumentException {
+    return write(() -> model.tryPass(player));
+  }
+
+  @Override
+  public MoveResult tryMakeTurn(Player player, SanguineMove move)
+      throws IllegalArgumentException {
+    return write(() -> model.tryMakeTurn(player, move));
+  }
+
+  @Override
+  public void apply(SanguineMove move) throws IllegalArgumentException, IllegalStateException {
+    write(() -> {
+      model.apply(move);
+      return null;
+    });
+  }
+
+  @Override
+  public void apply(int move) throws IllegalArgumentException, IllegalStateException {
+    write(() -> {
+      model.apply(move);
+      return null;
+    });
+  }
+
+  @Override
+  public void undo() throws IllegalStateException {
+    write(() -> {
+      model.undo();
+      return null;
+    });
+  }
+
+  @Override
+  public void startGame() throws IllegalStateException {
+    write(() -> {
+      model.startGame();
+      return null;
+    });
+  }
+
+  @Override
+  public void register(GameStateListener listener) {
+    if (listener == null) {
+      throw new IllegalArgumentException("listener is null");
+    }
+    listeners.add(listener);
+  }
+
+  /**
+   * runs the given change on the wrapped model under the write lock, then passes on the alerts
+   * it made once the lock is released, even if the change threw.
+   *
+   * @param change the change to make
+   * @param <T>    the type of the change's result
+   * @return the change's result
+   */
+  private <T> T write(Supplier<T> change) {
+    List<Runnable> alerts;
+    T result;
+    long stamp = lock.writeLock();
+    try {
+      result = change.get();
+    } finally {
+      alerts = drainPendingAlerts();
+      lock.unlockWrite(stamp);
+      alerts.forEach(Runnable::run);
+    }
+    return result;
+  }
+
+  private List<Runnable> drainPendingAlerts() {
+    if (pendingAlerts.isEmpty()) {
+      return List.of();
+    }
+    List<Runnable> alerts = new ArrayList<>(pendingAlerts);
+    pendingAlerts.clear();
+    return alerts;
+  }
+
+  /**
+   * runs the given query as an optimistic read, running it again under the read lock if a move
+   * was made while it ran.
+   *
+   * @param query the query to run
+   * @param <T>   the type of the query's result
+   * @return the query's result
+   */
+  private <T> T read(Supplier<T> query) {
+    long stamp = lock.tryOptimisticRead();
+    if (stamp != 0) {
+      try {
+        T result = query.get();
+        if (lock.validate(stamp)) {
+          return result;
+        }
+      } catch (RuntimeException e) {
+        if (lock.validate(stamp)) {
+          throw e;
+        }
+      }
+    }
+    stamp = lock.readLock();
+    try {
+      return query.get();
+    } finally {
+      lock.unlockRead(stamp);
+    }
+  }
+
+  /**
+   * runs the given query like {@link #read(Supplier)}, without boxing its result.
+   */
+  private int readInt(IntSupplier query) {
+    long stamp = lock.tryOptimisticRead();
+    if (stamp != 0) {
+      try {
+        int result = query.getAsInt();
+        if (lock.validate(stamp)) {
+          return result;
+        }
+      } catch (RuntimeException e) {
+        if (lock.validate(stamp)) {
+          throw e;
+        }
+      }
+    }
+    stamp = lock.readLock();
+    try {
+      return query.getAsInt();
+    } finally {
+      lock.unlockRead(stamp);
+    }
+  }
+
+  /**
+   * runs the given query like {@link #read(Supplier)}, without boxing its result.
+   */
+  private long readLong(LongSupplier query) {
+    long stamp = lock.tryOptimisticRead();
+    if (stamp != 0) {
+      try {
+        long result = query.getAsLong();
+        if (lock.validate(stamp)) {
+          return result;
+        }
+      } catch (RuntimeException e) {
+        if (lock.validate(stamp)) {
+          throw e;
+        }
+      }
+    }
+    stamp = lock.readLock();
+    try {
+      return query.getAsLong();
+    } finally {
+      lock.unlockRead(stamp);
+    }
+  }
+
+  /**
+   * runs the given query like {@link #read(Supplier)}, without boxing its result.
+   */
+  private boolean readBoolean(BooleanSupplier query) {
+    long stamp = lock.tryOptimisticRead();
+    if (stamp != 0) {
+      try {
+        boolean result = query.getAsBoolean();
+        if (lock.validate(stamp)) {
+          return result;
+        }
+      } catch (RuntimeException e) {
+        if (lock.validate(stamp)) {
+          throw e;
+        }
+      }
+    }
+    stamp = lock.readLock();
+    try {
+      return query.getAsBoolean();
+    } finally {
+      lock.unlockRead(stamp);
+    }
+  }
+}
@@ -0,0 +1,141 @@
+package sanguine.model;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * a deck of {@link Card}s in a game of Sanguine, stored as the {@link CardRegistry} IDs of its
+ * cards in an array, with the top of the deck at the end. Drawing a card moves the end of the
+ * deck down by one and never allocates or locks. Cards are drawn as their canonical instances.
+ */
+final class Deck {
+
+  private int[] ids;
+  private int size;
+  // INVARIANT: ids[0..size) are the IDs of the cards in the deck, ids[size - 1] being the top
+
+  /**
+   * constructs a deck of the given cards, where the first card is the top of the deck.
+   *
+   * @param cards the cards of the deck, from top to bottom
+   * @throws IllegalArgumentException if the list or any of its cards is null
+   */
+  Deck(List<Card> cards) throws IllegalArgumentException {
+    if (cards == null) {
+      throw new IllegalArgumentException("cards is null");
+    }
+    size = cards.size();
+    ids = new int[size];
+    for (int i = 0; i < size; i++) {
+      Card card = cards.get(size - 1 - i);
+      if (card == null) {
+        throw new IllegalArgumentException("card is null");
+      }
+      ids[i] = card.id();
+    }
+  }
+
+  private Deck(int[] ids, int size) {
+    this.ids = ids;
+    this.size = size;
+  }
+
+  /**
+   * returns a copy of this deck that can be changed independently.
+   *
+   * @return a copy of this deck
+   */
+  Deck copy() {
+    return new Deck(Arrays.copyOf(ids, size), size);
+  }
+
+  /**
+   * returns the number of cards in this deck.
+   *
+   * @return the number of cards in this deck
+   */
+  int size() {
+    return size;
+  }
+
+  /**
+   * returns whether this deck has no cards left.
+   *
+   * @return whether this deck is empty
+   */
+  boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * removes the top card of this deck and returns it.
+   *
+   * @return the top card of this deck
+   * @throws IllegalStateException if the deck is empty
+   */
+  Card draw() throws IllegalStateException {
+    if (size == 0) {
+      throw new IllegalStateException("deck is empty");
+    }
+    size -= 1;
+    return CardRegistry.byId(ids[size]);
+  }
+
+  /**
+   * puts the given card back on top of this deck, undoing a {@link #draw()}.
+   *
+   * @param card the card put on top of the deck
+   * @throws IllegalArgumentException if the card is null
+   */
+  void push(Card card) throws IllegalArgumentException {
+    if (card == null) {
+      throw new IllegalArgumentException("card is null");
+    }
+    if (size == ids.length) {
+      ids = Arrays.copyOf(ids, Math.max(1, size * 2));
+    }
+    ids[size] = card.id();
+    size += 1;
+  }
+
+  /**
+   * shuffles this deck in place with the given random number generator. Cards are swapped in the
+   * same order as {@link java.util.Collections#shuffle(List, Random)} would on a list of this
+   * deck's cards from bottom to top, so a seed shuffles a deck the same way it always has.
+   *
+   * @param rng the random number generator to shuffle with
+   * @throws IllegalArgumentException if the generator is null
+   */
+  void shuffle(Random rng) throws IllegalArgumentException {
+    if (rng == null) {
+      throw new IllegalArgumentException("rng is null");
+    }
+    for (int i = size; i > 1; i--) {
+      int j = rng.nextInt(i);
+      int swap = ids[i - 1];
+      ids[i - 1] = ids[j];
+      ids[j] = swap;
+    }
+  }
+
+  /**
+   * throws {@link IllegalArgumentException} if this deck has more than two copies of a card. The
+   * copies of each card are counted in one pass over the deck, in a map sized to the deck rather
+   * than to every card registered.
+   *
+   * @param deckName the name of the deck used in the exception message
+   * @throws IllegalArgumentException if the deck has more than two copies of a card
+   */
+  void throwExceptionIfMoreThanTwoCopies(String deckName) throws IllegalArgumentException {
+    Map<Integer, Integer> copies = new HashMap<>(size * 2);
+    for (int i = 0; i < size; i++) {
+      if (copies.merge(ids[i], 1, Integer::sum) > 2) {
+        throw new IllegalArgumentException("card more than two of " + CardRegistry.byId(ids[i])
+            + " in " + deckName);
+      }
+    }
+  }
+}
@@ -0,0 +1,355 @@
+package sanguine.model;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * an immutable snapshot of a game of Sanguine, as returned by
+ * {@link ReadOnlySanguineModel#snapshot()}. A snapshot holds the board, the hands, the number of
+ * cards left in each deck, whose turn it is and how many consecutive passes were made, and can be
+ * read like any other {@link ReadOnlySanguineModel} from any thread without locking.
+ *
+ * <p>Snapshots are persistent: a model makes the snapshot after a move from the snapshot before
+ * it, reusing every row and hand the move didn't change, so taking a snapshot costs about as much
+ * as the rows the move touched.</p>
+ */
+public final class GameState implements ReadOnlySanguineModel {
+
+  private static final Player[] PLAYERS = Player.values();
+
+  private final int width;
+  private final int height;
+  private final int maxHandSize;
+  private final Row[] rows;
+  private final List<Card> redHand;
+  private final List<Card> blueHand;
+  private final int redDeckSize;
+  private final int blueDeckSize;
+  private final int[] redRowScores;
+  private final int[] blueRowScores;
+  private final int redScore;
+  private final int blueScore;
+  private final int emptyTiles;
+  private final Player turn;
+  private final int consecutivePasses;
+  private final long stateHash;
+
+  /**
+   * one row of the board of a snapshot. Rows are immutable, and are shared between the snapshots
+   * of a game for as long as they don't change.
+   */
+  static final class Row {
+
+    private final int[] states;
+    private final Card[] cards;
+    // INVARIANT: states[col] is 0 if the tile has no owner, and (owner ordinal + 1) * 4 + pawns
+    // otherwise. cards[col] is the card on the tile, or null if it has none
+
+    /**
+     * constructs a row from the given states and cards, as documented by the invariant, which are
+     * kept rather than copied.
+     */
+    Row(int[] states, Card[] cards) {
+      this.states = states;
+      this.cards = cards;
+    }
+
+    /**
+     * constructs the snapshot of the given row of tiles.
+     *
+     * @param tiles the tiles of the row, from left to right
+     */
+    Row(List<GameTile> tiles) {
+      states = new int[tiles.size()];
+      cards = new Card[tiles.size()];
+      for (int col = 0; col < states.length; col++) {
+        GameTile tile = tiles.get(col);
+        if (tile.hasCard()) {
+          cards[col] = tile.getCard();
+          states[col] = (tile.owner().ordinal() + 1) * 4;
+        } else if (tile.hasOwner()) {
+          states[col] = (tile.owner().ordinal() + 1) * 4 + tile.pawns();
+        }
+      }
+    }
+  }
+
+  /**
+   * constructs a snapshot from the given parts, which are kept rather than copied; callers must not
+   * change them afterward.
+   */
+  GameState(int width, int height, int maxHandSize, Row[] rows,
+            List<Card> redHand, List<Card> blueHand, int redDeckSize, int blueDeckSize,
+            int[] redRowScores, int[] blueRowScores, int redScore, int blueScore,
+            int emptyTiles, Player turn, int consecutivePasses, long stateHash) {
+    this.width = width;
+    this.height = height;
+    this.maxHandSize = maxHandSize;
+    this.rows = rows;
+    this.redHand = redHand;
+    this.blueHand = blueHand;
+    this.redDeckSize = redDeckSize;
+    this.blueDeckSize = blueDeckSize;
+    this.redRowScores = redRowScores;
+    this.blueRowScores = blueRowScores;
+    this.redScore = redScore;
+    this.blueScore = blueScore;
+    this.emptyTiles = emptyTiles;
+    this.turn = turn;
+    this.consecutivePasses = consecutivePasses;
+    this.stateHash = stateHash;
+  }
+
+  /**
+   * returns the row of the board at the given index, so a model can share it with its next
+   * snapshot.
+   */
+  Row row(int row) {
+    return rows[row];
+  }
+
+  /**
+   * returns the hand of the given player, so a model can share it with its next snapshot.
+   */
+  List<Card> hand(Player player) {
+    return switch (player) {
+      case RED -> redHand;
+      case BLUE -> blueHand;
+    };
+  }
+
+  /**
+   * returns the ordinal of the player whose turn it is, or was when the game ended.
+   */
+  int turnOrdinal() {
+    return turn.ordinal();
+  }
+
+  /**
+   * returns the number of cards left in the deck of the given player.
+   *
+   * @param player the player whose deck is counted
+   * @return the number of cards in the player's deck
+   * @throws IllegalArgumentException if the player is null
+   */
+  public int deckSize(Player player) throws IllegalArgumentException {
+    if (player == null) {
+      throw new IllegalArgumentException("player is null");
+    }
+    return switch (player) {
+      case RED -> redDeckSize;
+      case BLUE -> blueDeckSize;
+    };
+  }
+
+  @Override
+  public int consecutivePasses() {
+    return consecutivePasses;
+  }
+
+  @Override
+  public int width() {
+    return width;
+  }
+
+  @Override
+  public int height() {
+    return height;
+  }
+
+  @Override
+  public Card cardAt(int row, int col) throws IllegalArgumentException, IllegalStateException {
+    throwIllegalArgumentExceptionIfInvalidCoordinates(row, col);
+    Card card = rows[row].cards[col];
+    if (card == null) {
+      throw new IllegalArgumentException("invalid coordinates");
+    }
+    return card;
+  }
+
+  @Override
+  public boolean isCardAt(int row, int col) throws IllegalArgumentException {
+    throwIllegalArgumentExceptionIfInvalidCoordinates(row, col);
+    return rows[row].cards[col] != null;
+  }
+
+  @Override
+  public int pawnsAt(int row, int col) throws IllegalArgumentException, IllegalStateException {
+    throwIllegalArgumentExceptionIfInvalidCoordinates(row, col);
+    if (rows[row].cards[col] != null) {
+      throw new IllegalStateException("card at given tile");
+    }
+    return rows[row].states[col] % 4;
+  }
+
+  @Override
+  public Player ownerAt(int row, int col) throws IllegalArgumentException, IllegalStateException {
+    throwIllegalArgumentExceptionIfInvalidCoordinates(row, col);
+    int state = rows[row].states[col];
+    if (state == 0) {
+      throw new IllegalStateException("tile has no owner");
+    }
+    return PLAYERS[state / 4 - 1];
+  }
+
+  @Override
+  public boolean hasOwner(int row, int col) throws IllegalArgumentException {
+    throwIllegalArgumentExceptionIfInvalidCoordinates(row, col);
+    return rows[row].states[col] != 0;
+  }
+
+  @Override
+  public boolean isGameOver() {
+    return emptyTiles == 0 || consecutivePasses >= 2;
+  }
+
+  @Override
+  public int remainingEmptyTiles() {
+    return emptyTiles;
+  }
+
+  @Override
+  public Player getTurn() throws IllegalStateException {
+    if (isGameOver()) {
+      throw new IllegalStateException("Game over");
+    }
+    return turn;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The returned list can't be changed.</p>
+   */
+  @Override
+  public List<Card> getHand(Player player) throws IllegalStateException {
+    if (player == null) {
+      throw new IllegalArgumentException("player is null");
+    }
+    return hand(player);
+  }
+
+  @Override
+  public Optional<Player> getRowWinner(int row) throws IllegalArgumentException {
+    throwIllegalArgumentExceptionIfInvalidRow(row);
+    if (redRowScores[row] > blueRowScores[row]) {
+      return Optional.of(Player.RED);
+    }
+    if (redRowScores[row] < blueRowScores[row]) {
+      return Optional.of(Player.BLUE);
+    }
+    return Optional.empty();
+  }
+
+  @Override
+  public int getScoreOfRow(int row) throws IllegalArgumentException {
+    throwIllegalArgumentExceptionIfInvalidRow(row);
+    return Math.max(redRowScores[row], blueRowScores[row]);
+  }
+
+  @Override
+  public int getRowScore(Player player, int row) throws IllegalArgumentException {
+    if (player == null) {
+      throw new IllegalArgumentException("player is null");
+    }
+    throwIllegalArgumentExceptionIfInvalidRow(row);
+    return switch (player) {
+      case RED -> redRowScores[row];
+      case BLUE -> blueRowScores[row];
+    };
+  }
+
+  @Override
+  public Optional<Player> getWinning() {
+    if (redScore > blueScore) {
+      return Optional.of(Player.RED);
+    }
+    if (blueScore > redScore) {
+      return Optional.of(Player.BLUE);
+    }
+    return Optional.empty();
+  }
+
+  @Override
+  public int getScore() {
+    return Math.max(redScore, blueScore);
+  }
+
+  @Override
+  public boolean canPlayCard(Player player, int indexInHand, int row, int col) {
+    if (player == null) {
+      throw new IllegalArgumentException("player is null");
+    }
+    throwIllegalArgumentExceptionIfInvalidCoordinates(row, col);
+    if (isGameOver() || player != turn) {
+      return false;
+    }
+    List<Card> hand = getHand(player);
+    if (indexInHand < 0 || indexInHand >= hand.size()) {
+      return false;
+    }
+    int state = rows[row].states[col];
+    return rows[row].cards[col] == null
+        && state / 4 - 1 == player.ordinal()
+        && state % 4 >= hand.get(indexInHand).cost();
+  }
+
+  @Override
+  public void copyBoardInto(BoardBuffer buffer) throws IllegalArgumentException {
+    if (buffer == null || !buffer.fits(width, height)) {
+      throw new IllegalArgumentException("buffer is null or doesn't fit the board");
+    }
+    for (int row = 0; row < height; row++) {
+      Row tiles = rows[row];
+      for (int col = 0; col < width; col++) {
+        int state = tiles.states[col];
+        if (state == 0) {
+          buffer.setTile(row, col, BoardBuffer.NONE, 0, BoardBuffer.NONE);
+        } else if (tiles.cards[col] != null) {
+          buffer.setTile(row, col, state / 4 - 1, 0, tiles.cards[col].id());
+        } else {
+          buffer.setTile(row, col, state / 4 - 1, state % 4, BoardBuffer.NONE);
+        }
+      }
+      buffer.setRowScores(row, redRowScores[row], blueRowScores[row]);
+    }
+  }
+
+  @Override
+  public int getMaxHandSize() {
+    return maxHandSize;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The hash was taken from the model along with the rest of the snapshot.</p>
+   */
+  @Override
+  public long stateHash() {
+    return stateHash;
+  }
+
+  /**
+   * returns this snapshot, since it never changes.
+   *
+   * @return this snapshot
+   */
+  @Override
+  public GameState snapshot() {
+    return this;
+  }
+
+  private void throwIllegalArgumentExceptionIfInvalidRow(int row) throws IllegalArgumentException {
+    if (row < 0 || row >= height) {
+      throw new IllegalArgumentException("invalid row");
+    }
+  }
+
+  private void throwIllegalArgumentExceptionIfInvalidCoordinates(int row, int col)
+      throws IllegalArgumentException {
+    if (row < 0 || row >= height || col < 0 || col >= width) {
+      throw new IllegalArgumentException("invalid coordinates");
+    }
+  }
+}
@@ -63,6 +63,18 @@ public interface GameTile {
   void addCard(Card card, Player owner);
 
 
+  /**
+   * Puts this tile back into a state with no card and the given pawns, discarding any card on it.
+   * This is used to undo moves, and skips the rules checked by {@link #addPawn(Player)} and
+   * {@link #addCard(Card, Player)}.
+   *
+   * @param owner the owner of the pawns, or null if the tile has no pawns
+   * @param pawns the number of pawns on the tile, in [0..3]
+   * @throws IllegalArgumentException if the pawn count is out of range, or if there is an owner
+   *                                  without pawns (or pawns without an owner)
+   */
+  void restore(Player owner, int pawns);
+
   /**
    * Returns the owner of the card on this tile, or null if no card is present.
    *
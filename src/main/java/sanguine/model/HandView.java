@@ -0,0 +1,41 @@
+package sanguine.model;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * an unmodifiable live view of one player's hand in a model, as returned by
+ * {@link ReadOnlySanguineModel#handView(Player)}. The view holds no cards itself: every access
+ * goes through {@link ReadOnlySanguineModel#handSize(Player)} and
+ * {@link ReadOnlySanguineModel#handCardAt(Player, int)}, so it keeps up with the model even when
+ * the model replaces its hand, and needs to be made only once per player.
+ */
+final class HandView extends AbstractList<Card> implements RandomAccess {
+
+  private final ReadOnlySanguineModel model;
+  private final Player player;
+
+  /**
+   * constructs a view of the given player's hand in the given model.
+   *
+   * @param model  the model whose hand is viewed
+   * @param player the player whose hand is viewed
+   */
+  HandView(ReadOnlySanguineModel model, Player player) {
+    this.model = model;
+    this.player = player;
+  }
+
+  @Override
+  public Card get(int index) {
+    if (index < 0 || index >= model.handSize(player)) {
+      throw new IndexOutOfBoundsException("index out of bounds for hand: " + index);
+    }
+    return model.handCardAt(player, index);
+  }
+
+  @Override
+  public int size() {
+    return model.handSize(player);
+  }
+}
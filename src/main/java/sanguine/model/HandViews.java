@@ -0,0 +1,36 @@
+package sanguine.model;
+
+import java.util.List;
+
+/**
+ * the {@link HandView}s of one model, made the first time each player's hand is viewed and then
+ * reused, as models return from {@link ReadOnlySanguineModel#handView(Player)}. The model is only
+ * passed in once a hand is viewed, so a model can make its views while it is being constructed
+ * without letting itself escape.
+ */
+final class HandViews {
+
+  private final HandView[] views = new HandView[Player.values().length];
+  // views[ordinal] is the view of that player's hand, made on first use
+
+  /**
+   * returns the view of the given player's hand in the given model, which must be the same model
+   * every time.
+   *
+   * @param model  the model whose hands are viewed
+   * @param player the player whose hand is viewed
+   * @return the view of the player's hand
+   * @throws IllegalArgumentException if the player is null
+   */
+  List<Card> of(ReadOnlySanguineModel model, Player player) throws IllegalArgumentException {
+    if (player == null) {
+      throw new IllegalArgumentException("player is null");
+    }
+    HandView view = views[player.ordinal()];
+    if (view == null) {
+      view = new HandView(model, player);
+      views[player.ordinal()] = view;
+    }
+    return view;
+  }
+}
@@ -0,0 +1,150 @@
+package sanguine.model;
+
+import java.util.List;
+
+/**
+ * the tiles influenced by a {@link Card} when it is placed by a specific {@link Player}, compiled
+ * from the card's 5x5 influence grid. Only {@link InfluenceGridTile#AFFECTED} tiles are kept,
+ * each as a (row, column) offset from the tile the card is placed on. Offsets are already
+ * mirrored horizontally for {@code BLUE}, so they can be added to the placed tile's coordinates
+ * directly. Footprints are immutable.
+ *
+ * <p>The footprint also has a 25-bit mask of the influenced tiles, where bit
+ * {@code gridRow * 5 + gridCol} is set if the tile at {@code (gridRow, gridCol)} of the
+ * (mirrored) influence grid is influenced.</p>
+ */
+public final class InfluenceFootprint {
+
+  private final int mask;
+  private final int[] rowOffsets;
+  private final int[] colOffsets;
+
+  private InfluenceFootprint(int mask, int[] rowOffsets, int[] colOffsets) {
+    this.mask = mask;
+    this.rowOffsets = rowOffsets;
+    this.colOffsets = colOffsets;
+  }
+
+  /**
+   * compiles the footprint of the given card as it is placed by the given player.
+   *
+   * @param card   the card whose influence grid is compiled
+   * @param player the player placing the card
+   * @return the footprint of {@code card} for {@code player}
+   * @throws IllegalArgumentException if either argument is null
+   */
+  public static InfluenceFootprint of(Card card, Player player) throws IllegalArgumentException {
+    if (card == null || player == null) {
+      throw new IllegalArgumentException("card or player is null");
+    }
+    InfluenceGridTile[] tiles = new InfluenceGridTile[25];
+    for (int gr = 0; gr < 5; gr++) {
+      for (int gc = 0; gc < 5; gc++) {
+        tiles[gr * 5 + gc] = card.tileAt(gr, gc);
+      }
+    }
+    return compile(tiles, player);
+  }
+
+  /**
+   * compiles the footprint of a card with the given influence grid (as viewed by red) as it is
+   * placed by the given player. Cards use this to compile their footprints while they are being
+   * constructed.
+   *
+   * @param grid   the 5x5 influence grid, by row
+   * @param player the player placing the card
+   * @return the footprint of the grid for {@code player}
+   * @throws IllegalArgumentException if either argument is null or the grid isn't 5x5
+   */
+  public static InfluenceFootprint of(List<List<InfluenceGridTile>> grid, Player player)
+      throws IllegalArgumentException {
+    if (grid == null || player == null) {
+      throw new IllegalArgumentException("grid or player is null");
+    }
+    if (grid.size() != 5) {
+      throw new IllegalArgumentException("grid size not 5x5.");
+    }
+    InfluenceGridTile[] tiles = new InfluenceGridTile[25];
+    for (int gr = 0; gr < 5; gr++) {
+      List<InfluenceGridTile> row = grid.get(gr);
+      if (row == null || row.size() != 5) {
+        throw new IllegalArgumentException("grid size not 5x5.");
+      }
+      for (int gc = 0; gc < 5; gc++) {
+        tiles[gr * 5 + gc] = row.get(gc);
+      }
+    }
+    return compile(tiles, player);
+  }
+
+  /**
+   * compiles the footprint of the given influence grid, with the tile at {@code (gridRow,
+   * gridCol)} at index {@code gridRow * 5 + gridCol}, for the given player.
+   */
+  private static InfluenceFootprint compile(InfluenceGridTile[] tiles, Player player) {
+    int mask = 0;
+    int size = 0;
+    // a card other than a SanguineCard may mark its own tile as influenced too
+    int[] rowOffsets = new int[25];
+    int[] colOffsets = new int[25];
+    for (int gr = 0; gr < 5; gr++) {
+      for (int gc = 0; gc < 5; gc++) {
+        if (tiles[gr * 5 + gc] != InfluenceGridTile.AFFECTED) {
+          continue;
+        }
+        int mirroredCol = (player == Player.BLUE) ? 4 - gc : gc;
+        mask |= 1 << (gr * 5 + mirroredCol);
+        rowOffsets[size] = gr - 2;
+        colOffsets[size] = mirroredCol - 2;
+        size += 1;
+      }
+    }
+
+    int[] rows = new int[size];
+    int[] cols = new int[size];
+    System.arraycopy(rowOffsets, 0, rows, 0, size);
+    System.arraycopy(colOffsets, 0, cols, 0, size);
+    return new InfluenceFootprint(mask, rows, cols);
+  }
+
+  /**
+   * returns the 25-bit mask of the influenced tiles, as documented in
+   * {@link InfluenceFootprint}.
+   *
+   * @return the mask of the influenced tiles
+   */
+  public int mask() {
+    return mask;
+  }
+
+  /**
+   * returns the number of tiles influenced.
+   *
+   * @return the number of tiles influenced
+   */
+  public int size() {
+    return rowOffsets.length;
+  }
+
+  /**
+   * returns the row offset of the influenced tile at the given index.
+   *
+   * @param index the index of the influenced tile, in [0..size)
+   * @return how many rows below the placed tile the influenced tile is (negative for above)
+   * @throws ArrayIndexOutOfBoundsException if the index is out of bounds
+   */
+  public int rowOffset(int index) {
+    return rowOffsets[index];
+  }
+
+  /**
+   * returns the column offset of the influenced tile at the given index.
+   *
+   * @param index the index of the influenced tile, in [0..size)
+   * @return how many columns right of the placed tile the influenced tile is (negative for left)
+   * @throws ArrayIndexOutOfBoundsException if the index is out of bounds
+   */
+  public int colOffset(int index) {
+    return colOffsets[index];
+  }
+}
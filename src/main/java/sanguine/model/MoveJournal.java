@@ -0,0 +1,511 @@
+package sanguine.model;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import sanguine.controller.GameStateListener;
+import sanguine.model.moves.MoveCodec;
+import sanguine.model.moves.PackedPlacement;
+
+/**
+ * a write-ahead log of the moves of one game of sanguine.Sanguine, kept in a file so that the
+ * game can be rebuilt after the JVM playing it dies. The file starts with the setup of the game:
+ * the kind of model playing it, the size of the board and hands, the paths of the deck files and
+ * the seed the decks are shuffled with. Every move is then appended as it is made, as a record of
+ * five bytes: a marker byte and the move's {@link MoveCodec} code.
+ *
+ * <p>The journal follows the game made with {@link #newGame()} as one of its
+ * {@link GameStateListener}s. Moves alerted with {@link #moveMade} are collected in memory and
+ * written together, with a single {@link FileChannel} write, when the turn or end of the game
+ * they lead to is alerted, so a batch made with {@link SanguineModel#applyAll} is one write.
+ * Written moves survive the JVM dying. The file is forced to disk at most once per sync
+ * interval: at the first turn after the interval has passed, or by a background thread once it
+ * passes if no turn comes before, and when the game ends or the journal is closed. So a crash of
+ * the machine loses at most the moves of the last interval.</p>
+ *
+ * <p>A journal opened with {@link #open(Path)} reads the setup and moves back, dropping a last
+ * record torn by a crash, and {@link #newGame()} then rebuilds the game by replaying them with
+ * {@link SanguineModel#applyAll(int[], int)} before following it.</p>
+ */
+public final class MoveJournal implements GameStateListener, Closeable {
+
+  /**
+   * the kinds of model a journaled game can be played on, each made with the setup of the
+   * journal, shuffling the decks by its seed.
+   */
+  public enum ModelKind {
+    /**
+     * a {@link BasicSanguine}.
+     */
+    BASIC,
+    /**
+     * a {@link BitboardSanguine}.
+     */
+    BITBOARD,
+    /**
+     * a {@link SparseSanguine}.
+     */
+    SPARSE;
+
+    private SanguineModel newModel(int width, int height, int handSize, String redDeckFilePath,
+                                   String blueDeckFilePath, long seed) {
+      return switch (this) {
+        case BASIC -> new BasicSanguine(width, height, handSize, redDeckFilePath,
+            blueDeckFilePath, true, seed);
+        case BITBOARD -> new BitboardSanguine(width, height, handSize, redDeckFilePath,
+            blueDeckFilePath, true, seed);
+        case SPARSE -> new SparseSanguine(width, height, handSize, redDeckFilePath,
+            blueDeckFilePath, true, seed);
+      };
+    }
+  }
+
+  /**
+   * the longest a written move goes without being forced to disk by default, in nanoseconds.
+   */
+  public static final long DEFAULT_SYNC_INTERVAL_NANOS = 10_000_000L;
+
+  private static final int MAGIC = 0x53474a32;
+  private static final byte RECORD = 'M';
+  private static final int RECORD_BYTES = 5;
+  private static final int BUFFER_RECORDS = 256;
+  private static final ScheduledThreadPoolExecutor SYNCER = newSyncer();
+
+  private final ModelKind kind;
+  private final int width;
+  private final int height;
+  private final int handSize;
+  private final String redDeckFilePath;
+  private final String blueDeckFilePath;
+  private final long seed;
+  private final FileChannel channel;
+  private final ByteBuffer pending;
+  // INVARIANT: pending holds the records of the moves alerted but not yet written to channel,
+  // which is positioned at the end of the last whole record of the file
+  private int[] recovered;
+  private int moveCount;
+  // INVARIANT: the first moveCount codes of recovered are the moves read back by open, until
+  // the game is made; moveCount is the number of moves in the journal, written or pending
+  private boolean following = false;
+  private boolean closed = false;
+  private boolean unsynced = false;
+  private long lastSync;
+  private long syncIntervalNanos = DEFAULT_SYNC_INTERVAL_NANOS;
+  private ScheduledFuture<?> scheduledSync;
+  // INVARIANT: scheduledSync is the sync scheduled for when the interval since lastSync passes,
+  // or null if none is; one is scheduled only while written moves are unsynced. Every method
+  // touching the fields above is synchronized, as the scheduled sync runs on another thread
+
+  private MoveJournal(ModelKind kind, int width, int height, int handSize,
+                      String redDeckFilePath, String blueDeckFilePath, long seed,
+                      FileChannel channel, int[] recovered, int moveCount) {
+    this.kind = kind;
+    this.width = width;
+    this.height = height;
+    this.handSize = handSize;
+    this.redDeckFilePath = redDeckFilePath;
+    this.blueDeckFilePath = blueDeckFilePath;
+    this.seed = seed;
+    this.channel = channel;
+    this.pending = ByteBuffer.allocateDirect(BUFFER_RECORDS * RECORD_BYTES);
+    this.recovered = recovered;
+    this.moveCount = moveCount;
+    this.lastSync = System.nanoTime();
+  }
+
+  /**
+   * creates a journal for a new game of a {@link BasicSanguine} in a new file, as by
+   * {@link #create(Path, ModelKind, int, int, int, String, String, long)}.
+   *
+   * @param file             the path of the journal file, which must not exist yet
+   * @param width            the width of the board
+   * @param height           the height of the board
+   * @param handSize         the size of the hands
+   * @param redDeckFilePath  the path of the file describing the red deck
+   * @param blueDeckFilePath the path of the file describing the blue deck
+   * @param seed             the seed the decks are shuffled with
+   * @return the journal
+   * @throws IllegalArgumentException if an argument is null, the board or hands are too large for
+   *                                  their moves to be encoded, or the file exists or can't be
+   *                                  written
+   */
+  public static MoveJournal create(Path file, int width, int height, int handSize,
+                                   String redDeckFilePath, String blueDeckFilePath, long seed)
+      throws IllegalArgumentException {
+    return create(file, ModelKind.BASIC, width, height, handSize, redDeckFilePath,
+        blueDeckFilePath, seed);
+  }
+
+  /**
+   * creates a journal for a new game with the given setup in a new file, as the arguments of
+   * {@link BasicSanguine#BasicSanguine(int, int, int, String, String, boolean, Long)} with the
+   * decks shuffled by the given seed, played on the given kind of model. The game itself is made
+   * with {@link #newGame()}.
+   *
+   * @param file             the path of the journal file, which must not exist yet
+   * @param kind             the kind of model the game is played on
+   * @param width            the width of the board
+   * @param height           the height of the board
+   * @param handSize         the size of the hands
+   * @param redDeckFilePath  the path of the file describing the red deck
+   * @param blueDeckFilePath the path of the file describing the blue deck
+   * @param seed             the seed the decks are shuffled with
+   * @return the journal
+   * @throws IllegalArgumentException if an argument is null, the board or hands are too large for
+   *                                  their moves to be encoded, or the file exists or can't be
+   *                                  written
+   */
+  public static MoveJournal create(Path file, ModelKind kind, int width, int height,
+                                   int handSize, String redDeckFilePath, String blueDeckFilePath,
+                                   long seed) throws IllegalArgumentException {
+    if (file == null || kind == null || redDeckFilePath == null || blueDeckFilePath == null) {
+      throw new IllegalArgumentException("file, model kind or deck path is null");
+    }
+    if (width > PackedPlacement.MAX_COORDINATE + 1 || height > PackedPlacement.MAX_COORDINATE + 1
+        || handSize > PackedPlacement.MAX_HAND_INDEX + 1) {
+      throw new IllegalArgumentException("board or hands too large to journal");
+    }
+    ByteArrayOutputStream header = new ByteArrayOutputStream();
+    try (DataOutputStream out = new DataOutputStream(header)) {
+      out.writeInt(MAGIC);
+      out.writeUTF(kind.name());
+      out.writeInt(width);
+      out.writeInt(height);
+      out.writeInt(handSize);
+      out.writeLong(seed);
+      out.writeUTF(redDeckFilePath);
+      out.writeUTF(blueDeckFilePath);
+    } catch (IOException e) {
+      throw new IllegalArgumentException("could not write journal header");
+    }
+    FileChannel channel;
+    try {
+      channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+    } catch (IOException e) {
+      throw new IllegalArgumentException("could not create journal: " + file);
+    }
+    try {
+      ByteBuffer bytes = ByteBuffer.wrap(header.toByteArray());
+      while (bytes.hasRemaining()) {
+        channel.write(bytes);
+      }
+      channel.force(true);
+    } catch (IOException e) {
+      closeQuietly(channel);
+      throw new IllegalArgumentException("could not write journal: " + file);
+    }
+    return new MoveJournal(kind, width, height, handSize, redDeckFilePath, blueDeckFilePath,
+        seed, channel, new int[0], 0);
+  }
+
+  /**
+   * opens the journal in the given file to carry on the game it records, reading back its setup
+   * and moves. A last record torn by a crash is cut from the file. The game is rebuilt with
+   * {@link #newGame()}.
+   *
+   * @param file the path of the journal file
+   * @return the journal
+   * @throws IllegalArgumentException if the file is null, can't be read or written, or isn't a
+   *                                  journal
+   */
+  public static MoveJournal open(Path file) throws IllegalArgumentException {
+    if (file == null) {
+      throw new IllegalArgumentException("file is null");
+    }
+    byte[] bytes;
+    try {
+      bytes = Files.readAllBytes(file);
+    } catch (IOException e) {
+      throw new IllegalArgumentException("could not read journal: " + file);
+    }
+    ByteArrayInputStream header = new ByteArrayInputStream(bytes);
+    DataInputStream in = new DataInputStream(header);
+    ModelKind kind;
+    int width;
+    int height;
+    int handSize;
+    long seed;
+    String redDeckFilePath;
+    String blueDeckFilePath;
+    try {
+      if (in.readInt() != MAGIC) {
+        throw new IllegalArgumentException("not a journal: " + file);
+      }
+      kind = ModelKind.valueOf(in.readUTF());
+      width = in.readInt();
+      height = in.readInt();
+      handSize = in.readInt();
+      seed = in.readLong();
+      redDeckFilePath = in.readUTF();
+      blueDeckFilePath = in.readUTF();
+    } catch (IOException | IllegalArgumentException e) {
+      throw new IllegalArgumentException("not a journal: " + file);
+    }
+
+    int position = bytes.length - header.available();
+    int[] moves = new int[(bytes.length - position) / RECORD_BYTES];
+    int count = 0;
+    ByteBuffer records = ByteBuffer.wrap(bytes);
+    while (position + RECORD_BYTES <= bytes.length && bytes[position] == RECORD) {
+      int move = records.getInt(position + 1);
+      if (!MoveCodec.isMove(move)) {
+        break;
+      }
+      moves[count++] = move;
+      position += RECORD_BYTES;
+    }
+
+    FileChannel channel;
+    try {
+      channel = FileChannel.open(file, StandardOpenOption.WRITE);
+    } catch (IOException e) {
+      throw new IllegalArgumentException("could not open journal: " + file);
+    }
+    try {
+      if (position < bytes.length) {
+        channel.truncate(position);
+        channel.force(true);
+      }
+      channel.position(position);
+    } catch (IOException e) {
+      closeQuietly(channel);
+      throw new IllegalArgumentException("could not repair journal: " + file);
+    }
+    return new MoveJournal(kind, width, height, handSize, redDeckFilePath, blueDeckFilePath,
+        seed, channel, moves, count);
+  }
+
+  /**
+   * makes the game this journal records, on the kind of model it was created for, replays the
+   * moves read back by {@link #open(Path)} on it, and registers this journal to it to record every
+   * move made from then on. Listeners registered to the game afterwards aren't alerted of the
+   * replayed moves, so the game should be started with {@link SanguineModel#startGame()} once
+   * they are registered.
+   *
+   * @return the game, at the last move recorded
+   * @throws IllegalArgumentException if the deck files of the setup can't be read
+   * @throws IllegalStateException    if the game was already made, this journal is closed, or a
+   *                                  recorded move is illegal
+   */
+  public synchronized SanguineModel newGame()
+      throws IllegalArgumentException, IllegalStateException {
+    if (following || closed) {
+      throw new IllegalStateException("journal already follows a game or is closed");
+    }
+    SanguineModel model = kind.newModel(width, height, handSize, redDeckFilePath,
+        blueDeckFilePath, seed);
+    model.applyAll(recovered, moveCount);
+    recovered = null;
+    model.register(this);
+    following = true;
+    return model;
+  }
+
+  /**
+   * returns the number of moves in this journal, including those read back by
+   * {@link #open(Path)}.
+   *
+   * @return the number of moves
+   */
+  public synchronized int moveCount() {
+    return moveCount;
+  }
+
+  /**
+   * returns the kind of model the game this journal records is played on.
+   *
+   * @return the kind of model
+   */
+  public ModelKind modelKind() {
+    return kind;
+  }
+
+  /**
+   * returns whether every move in this journal has been written and forced to disk.
+   *
+   * @return whether the journal is synced
+   */
+  public synchronized boolean isSynced() {
+    return pending.position() == 0 && !unsynced;
+  }
+
+  /**
+   * sets the longest a written move may go without being forced to disk. Zero forces the file
+   * after every turn.
+   *
+   * @param nanos the sync interval, in nanoseconds
+   * @throws IllegalArgumentException if the interval is negative
+   */
+  public synchronized void setSyncInterval(long nanos) throws IllegalArgumentException {
+    if (nanos < 0) {
+      throw new IllegalArgumentException("negative sync interval");
+    }
+    syncIntervalNanos = nanos;
+  }
+
+  /**
+   * writes the moves not yet written and forces the file to disk.
+   *
+   * @throws IllegalStateException if the journal is closed or can't be written
+   */
+  public synchronized void sync() throws IllegalStateException {
+    writePending();
+    if (unsynced) {
+      force();
+    }
+  }
+
+  /**
+   * syncs and closes the journal, which should only be done once the game is over or abandoned:
+   * moves made after the journal is closed aren't journaled.
+   *
+   * @throws IllegalStateException if the journal can't be written
+   */
+  @Override
+  public synchronized void close() throws IllegalStateException {
+    if (closed) {
+      return;
+    }
+    try {
+      sync();
+    } finally {
+      closed = true;
+      cancelScheduledSync();
+      closeQuietly(channel);
+    }
+  }
+
+  @Override
+  public synchronized void moveMade(Player player, int move) {
+    if (closed) {
+      return;
+    }
+    if (pending.remaining() < RECORD_BYTES) {
+      writePending();
+    }
+    pending.put(RECORD);
+    pending.putInt(move);
+    moveCount += 1;
+  }
+
+  @Override
+  public synchronized void alertTurn(Player player) {
+    if (closed) {
+      return;
+    }
+    writePending();
+    if (!unsynced) {
+      return;
+    }
+    long sinceSync = System.nanoTime() - lastSync;
+    if (sinceSync >= syncIntervalNanos) {
+      force();
+    } else if (scheduledSync == null) {
+      scheduledSync = SYNCER.schedule(this::scheduledSync, syncIntervalNanos - sinceSync,
+          TimeUnit.NANOSECONDS);
+    }
+  }
+
+  @Override
+  public synchronized void gameOver() {
+    if (!closed) {
+      sync();
+    }
+  }
+
+  @Override
+  public void startGame() {
+    // the setup was written when the journal was created
+  }
+
+  /**
+   * writes the pending records to the file.
+   *
+   * @throws IllegalStateException if the journal is closed or can't be written
+   */
+  private void writePending() throws IllegalStateException {
+    if (closed) {
+      throw new IllegalStateException("journal is closed");
+    }
+    if (pending.position() == 0) {
+      return;
+    }
+    pending.flip();
+    try {
+      while (pending.hasRemaining()) {
+        channel.write(pending);
+      }
+    } catch (IOException e) {
+      throw new IllegalStateException("could not write journal");
+    } finally {
+      pending.clear();
+    }
+    unsynced = true;
+  }
+
+  private void force() throws IllegalStateException {
+    try {
+      channel.force(false);
+    } catch (IOException e) {
+      throw new IllegalStateException("could not sync journal");
+    }
+    unsynced = false;
+    lastSync = System.nanoTime();
+    cancelScheduledSync();
+  }
+
+  /**
+   * forces the written moves to disk once the sync interval has passed with no turn to do it.
+   */
+  private synchronized void scheduledSync() {
+    scheduledSync = null;
+    if (closed || !unsynced) {
+      return;
+    }
+    try {
+      force();
+    } catch (IllegalStateException e) {
+      // the moves stay unsynced, and the next turn or sync tries again and reports the failure
+    }
+  }
+
+  private void cancelScheduledSync() {
+    if (scheduledSync != null) {
+      scheduledSync.cancel(false);
+      scheduledSync = null;
+    }
+  }
+
+  /**
+   * returns the executor running the scheduled syncs of every journal, on one daemon thread that
+   * is only started once a sync is scheduled.
+   */
+  private static ScheduledThreadPoolExecutor newSyncer() {
+    ScheduledThreadPoolExecutor syncer = new ScheduledThreadPoolExecutor(1, task -> {
+      Thread thread = new Thread(task, "move-journal-sync");
+      thread.setDaemon(true);
+      return thread;
+    });
+    syncer.setRemoveOnCancelPolicy(true);
+    return syncer;
+  }
+
+  private static void closeQuietly(FileChannel channel) {
+    try {
+      channel.close();
+    } catch (IOException e) {
+      // nothing more can be done with the file
+    }
+  }
+}
@@ -1,7 +1,10 @@
 package sanguine.model;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import sanguine.model.moves.MoveResult;
+import sanguine.model.moves.PackedPlacement;
 
 /**
  * A read only model for a game of Sanguine. For a mutable version of the model, use the
@@ -72,6 +75,35 @@ public interface ReadOnlySanguineModel {
    */
   boolean isGameOver();
 
+  /**
+   * returns how many times in a row the players have passed, which ends the game once it reaches
+   * 2. The default implementation returns 0, for models that don't keep track of passes.
+   *
+   * @return the number of consecutive passes
+   */
+  default int consecutivePasses() {
+    return 0;
+  }
+
+  /**
+   * returns the number of tiles on the board that don't have a card on them. The game is over
+   * once this reaches 0. The default implementation checks every tile with
+   * {@link #isCardAt(int, int)}; implementations should keep count as cards are placed.
+   *
+   * @return the number of tiles without a card
+   */
+  default int remainingEmptyTiles() {
+    int empty = 0;
+    for (int row = 0; row < height(); row++) {
+      for (int col = 0; col < width(); col++) {
+        if (!isCardAt(row, col)) {
+          empty += 1;
+        }
+      }
+    }
+    return empty;
+  }
+
   /**
    * returns whether the given tile has an owner. an owner is the player that owns a card or pawn(s)
    * on the tile.
@@ -100,6 +132,50 @@ public interface ReadOnlySanguineModel {
    */
   List<Card> getHand(Player player) throws IllegalStateException;
 
+  /**
+   * returns the number of cards in the given player's hand, without copying the hand.
+   *
+   * @param player the player whose hand is measured
+   * @return the number of cards in the player's hand
+   * @throws IllegalArgumentException if the player is null
+   */
+  default int handSize(Player player) throws IllegalArgumentException {
+    return getHand(player).size();
+  }
+
+  /**
+   * returns the card at the given index of the given player's hand, without copying the hand.
+   *
+   * @param player      the player whose card is returned
+   * @param indexInHand the index of the card in the player's hand (0-indexed)
+   * @return the card at the given index of the player's hand
+   * @throws IllegalArgumentException if the player is null or the index is out of bounds for the
+   *                                  player's hand
+   */
+  default Card handCardAt(Player player, int indexInHand) throws IllegalArgumentException {
+    List<Card> hand = getHand(player);
+    if (indexInHand < 0 || indexInHand >= hand.size()) {
+      throw new IllegalArgumentException("index out of bounds for hand");
+    }
+    return hand.get(indexInHand);
+  }
+
+  /**
+   * returns an unmodifiable view of the given player's hand. Unlike {@link #getHand(Player)}, the
+   * view isn't a copy: it reads the model's hand on every access, so it always shows the hand as
+   * it is now, and reading it never allocates. The view must not be read while the model is being
+   * changed.
+   *
+   * <p>The default implementation returns {@link #getHand(Player)}, which is a copy.</p>
+   *
+   * @param player the player whose hand is viewed
+   * @return a view of the player's hand
+   * @throws IllegalArgumentException if the player is null
+   */
+  default List<Card> handView(Player player) throws IllegalArgumentException {
+    return getHand(player);
+  }
+
 
   /**
    * returns an optional containing the {@link Player} with a higher score at a given row,
@@ -158,6 +234,159 @@ public interface ReadOnlySanguineModel {
    */
   boolean canPlayCard(Player player, int indexInHand, int row, int col);
 
+  /**
+   * returns whether the given player could legally play the card at the given hand index on the
+   * given tile and, if not, why not, without throwing for an illegal placement. The result is
+   * {@link MoveResult#OK} exactly when {@link #canPlayCard} would return true; otherwise it is the
+   * first of {@code INVALID_COORDINATES}, {@code GAME_OVER}, {@code NOT_YOUR_TURN},
+   * {@code INVALID_HAND_INDEX}, {@code OCCUPIED}, {@code NOT_OWNED} and
+   * {@code INSUFFICIENT_PAWNS} that applies.
+   *
+   * @param player      the player attempting to play
+   * @param indexInHand index of the card in that player's hand (0 indexed)
+   * @param row         target row (0 indexed from  top)
+   * @param col         target column (0 indexed from  left)
+   * @return the result the placement would have
+   * @throws IllegalArgumentException if the player is null
+   */
+  default MoveResult placeCardResult(Player player, int indexInHand, int row, int col)
+      throws IllegalArgumentException {
+    if (player == null) {
+      throw new IllegalArgumentException("player is null");
+    }
+    if (row < 0 || row >= height() || col < 0 || col >= width()) {
+      return MoveResult.INVALID_COORDINATES;
+    }
+    if (canPlayCard(player, indexInHand, row, col)) {
+      return MoveResult.OK;
+    }
+    if (isGameOver()) {
+      return MoveResult.GAME_OVER;
+    }
+    if (getTurn() != player) {
+      return MoveResult.NOT_YOUR_TURN;
+    }
+    if (indexInHand < 0 || indexInHand >= handSize(player)) {
+      return MoveResult.INVALID_HAND_INDEX;
+    }
+    if (isCardAt(row, col)) {
+      return MoveResult.OCCUPIED;
+    }
+    if (!hasOwner(row, col) || ownerAt(row, col) != player) {
+      return MoveResult.NOT_OWNED;
+    }
+    return MoveResult.INSUFFICIENT_PAWNS;
+  }
+
+  /**
+   * writes every legal placement of the given player into the given buffer as
+   * {@link PackedPlacement}s, in the order of the card in the hand, then the row, then the
+   * column, and returns how many were written. The entries in the buffer past the returned count
+   * are left as they were, so one buffer can be reused for every call. A placement is legal
+   * exactly when {@link #canPlayCard} would return true for it, so there are none when the game is
+   * over or it isn't the player's turn.
+   *
+   * <p>A buffer of length {@code getMaxHandSize() * width() * height()} is always large enough.
+   * The default implementation calls {@link #canPlayCard} for every combination.</p>
+   *
+   * @param player the player whose placements are written
+   * @param buffer the array the packed placements are written into, starting at index 0
+   * @return the number of legal placements written
+   * @throws IllegalArgumentException if either argument is null or the buffer is too small to
+   *                                  hold every legal placement
+   */
+  default int legalMoves(Player player, int[] buffer) throws IllegalArgumentException {
+    if (player == null || buffer == null) {
+      throw new IllegalArgumentException("player or buffer is null");
+    }
+    int handSize = handSize(player);
+    int count = 0;
+    for (int indexInHand = 0; indexInHand < handSize; indexInHand++) {
+      for (int row = 0; row < height(); row++) {
+        for (int col = 0; col < width(); col++) {
+          if (canPlayCard(player, indexInHand, row, col)) {
+            if (count == buffer.length) {
+              throw new IllegalArgumentException("buffer too small for legal moves");
+            }
+            buffer[count++] = PackedPlacement.pack(indexInHand, row, col);
+          }
+        }
+      }
+    }
+    return count;
+  }
+
+  /**
+   * writes the tiles the card at the given index of the given player's hand can legally be
+   * placed on into the given buffer as a bitset, and returns how many there are. The tile at
+   * (row, col) is bit {@code row * width() + col}, held in bit {@code i % 64} of
+   * {@code tiles[i / 64]}, and is set exactly when {@link #canPlayCard} would return true for it.
+   * Every other bit of the first {@code (width() * height() + 63) / 64} entries is cleared, and
+   * the entries past them are left as they were.
+   *
+   * <p>The default implementation calls {@link #canPlayCard} for every tile.</p>
+   *
+   * @param player      the player placing the card
+   * @param indexInHand the index of the card in the player's hand (0 indexed)
+   * @param tiles       the array the bitset is written into
+   * @return the number of tiles the card can be placed on
+   * @throws IllegalArgumentException if the player or buffer is null, or the buffer is too small
+   *                                  to hold a bit for every tile
+   */
+  default int legalTiles(Player player, int indexInHand, long[] tiles)
+      throws IllegalArgumentException {
+    if (player == null || tiles == null) {
+      throw new IllegalArgumentException("player or buffer is null");
+    }
+    int width = width();
+    int words = (width * height() + 63) / 64;
+    if (tiles.length < words) {
+      throw new IllegalArgumentException("buffer too small for the board");
+    }
+    Arrays.fill(tiles, 0, words, 0L);
+    int count = 0;
+    for (int row = 0; row < height(); row++) {
+      for (int col = 0; col < width; col++) {
+        if (canPlayCard(player, indexInHand, row, col)) {
+          int tile = row * width + col;
+          tiles[tile >>> 6] |= 1L << tile;
+          count += 1;
+        }
+      }
+    }
+    return count;
+  }
+
+  /**
+   * copies the owner, pawns and card of every tile, and both players' scores on every row, into
+   * the given buffer in one pass over the board, as documented by {@link BoardBuffer}. The buffer
+   * keeps nothing from earlier copies, so one buffer can be reused for every copy.
+   *
+   * <p>The default implementation reads every tile through the other methods of this
+   * interface.</p>
+   *
+   * @param buffer the buffer the board is copied into
+   * @throws IllegalArgumentException if the buffer is null or doesn't fit this board
+   */
+  default void copyBoardInto(BoardBuffer buffer) throws IllegalArgumentException {
+    if (buffer == null || !buffer.fits(width(), height())) {
+      throw new IllegalArgumentException("buffer is null or doesn't fit the board");
+    }
+    for (int row = 0; row < height(); row++) {
+      for (int col = 0; col < width(); col++) {
+        if (!hasOwner(row, col)) {
+          buffer.setTile(row, col, BoardBuffer.NONE, 0, BoardBuffer.NONE);
+        } else if (isCardAt(row, col)) {
+          buffer.setTile(row, col, ownerAt(row, col).ordinal(), 0, cardAt(row, col).id());
+        } else {
+          buffer.setTile(row, col, ownerAt(row, col).ordinal(), pawnsAt(row, col),
+              BoardBuffer.NONE);
+        }
+      }
+      buffer.setRowScores(row, getRowScore(Player.RED, row), getRowScore(Player.BLUE, row));
+    }
+  }
+
   /**
    * Returns the maximum hand size for this game.
    * The number of cards in a player's hand cannot exceed this value.
@@ -166,5 +395,54 @@ public interface ReadOnlySanguineModel {
    */
   int getMaxHandSize();
 
+  /**
+   * returns the 64-bit {@link ZobristHash} of the current state of the game: the owners, pawns and
+   * cards of the board, the cards in each hand, whose turn it is and whether the last move was a
+   * pass (or that the game is over).
+   * Equal states have equal hashes, in any model and any run. The default implementation
+   * recomputes the hash from scratch with {@link ZobristHash#of(ReadOnlySanguineModel)}.
+   *
+   * @return the hash of the current state of the game
+   */
+  default long stateHash() {
+    return ZobristHash.of(this);
+  }
+
+  /**
+   * returns an immutable snapshot of the current state of the game, which can be read from any
+   * thread without locking while the game goes on. Each model documents when its snapshot is
+   * taken.
+   *
+   * @return a snapshot of the game
+   * @throws UnsupportedOperationException if this model can't take snapshots
+   */
+  default GameState snapshot() {
+    throw new UnsupportedOperationException("this model can't take snapshots");
+  }
+
+  /**
+   * returns whether {@link #fork()} returns a fork of this model rather than throwing. Asking
+   * doesn't change the model, unlike trying to fork it.
+   *
+   * @return whether this model can be forked
+   */
+  default boolean canFork() {
+    return false;
+  }
+
+  /**
+   * returns an independent copy of this game in its current state. Moves made on the fork don't
+   * change this model and vice versa, and no {@link sanguine.controller.GameStateListener}s are
+   * registered to the fork. Strategies can search through hypothetical moves on a fork with
+   * {@link SanguineModel#apply} and {@link SanguineModel#undo()}.
+   *
+   * @return a copy of this game
+   * @throws UnsupportedOperationException if this model can't be forked, as told by
+   *                                       {@link #canFork()}
+   */
+  default SanguineModel fork() {
+    throw new UnsupportedOperationException("this model can't be forked");
+  }
+
 
 }
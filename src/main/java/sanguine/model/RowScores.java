@@ -0,0 +1,162 @@
+package sanguine.model;
+
+import java.util.Optional;
+
+/**
+ * the row scores of both players in a game of Sanguine, with the total score of each: the sum of
+ * the rows they are winning. The totals are kept up to date as row scores change, so no query
+ * sums the rows. Rows are not checked, so callers must only pass rows of the board.
+ */
+final class RowScores {
+
+  private final int[] redRowScores;
+  private final int[] blueRowScores;
+  private int redScore;
+  private int blueScore;
+  // INVARIANT: redScore/blueScore are the sums of the rows each player is winning
+
+  /**
+   * constructs the scores of a board of the given height, with every row at 0.
+   *
+   * @param height the number of rows
+   */
+  RowScores(int height) {
+    redRowScores = new int[height];
+    blueRowScores = new int[height];
+  }
+
+  /**
+   * constructs a copy of the given scores.
+   *
+   * @param other the scores to copy
+   */
+  RowScores(RowScores other) {
+    redRowScores = other.redRowScores.clone();
+    blueRowScores = other.blueRowScores.clone();
+    redScore = other.redScore;
+    blueScore = other.blueScore;
+  }
+
+  /**
+   * adds the given value to the given player's score on the given row, keeping the total scores
+   * of both players up to date.
+   *
+   * @param player the player whose row score changes
+   * @param row    the row whose score changes
+   * @param value  the value added to the row score (negative to subtract)
+   */
+  void add(Player player, int row, int value) {
+    countRowTowardsTotals(row, -1);
+    switch (player) {
+      case RED -> redRowScores[row] += value;
+      case BLUE -> blueRowScores[row] += value;
+      default -> throw new IllegalArgumentException("invalid player: " + player);
+    }
+    countRowTowardsTotals(row, 1);
+  }
+
+  /**
+   * adds ({@code sign} 1) or removes ({@code sign} -1) the score of the winner of the given row
+   * to or from that winner's total score.
+   *
+   * @param row  the row being counted
+   * @param sign 1 to add the row to the totals, -1 to remove it
+   */
+  private void countRowTowardsTotals(int row, int sign) {
+    if (redRowScores[row] > blueRowScores[row]) {
+      redScore += sign * redRowScores[row];
+    } else if (blueRowScores[row] > redRowScores[row]) {
+      blueScore += sign * blueRowScores[row];
+    }
+  }
+
+  /**
+   * returns the given player's score on the given row.
+   *
+   * @param player the player whose score is returned
+   * @param row    the row
+   * @return the sum of the values of the player's cards on the row
+   */
+  int rowScore(Player player, int row) {
+    return switch (player) {
+      case RED -> redRowScores[row];
+      case BLUE -> blueRowScores[row];
+    };
+  }
+
+  /**
+   * returns the player with the higher score on the given row, or empty if it is a tie.
+   *
+   * @param row the row
+   * @return the winner of the row
+   */
+  Optional<Player> rowWinner(int row) {
+    if (redRowScores[row] > blueRowScores[row]) {
+      return Optional.of(Player.RED);
+    }
+    if (redRowScores[row] < blueRowScores[row]) {
+      return Optional.of(Player.BLUE);
+    }
+    return Optional.empty();
+  }
+
+  /**
+   * returns the higher of the two players' scores on the given row.
+   *
+   * @param row the row
+   * @return the score of the row
+   */
+  int scoreOfRow(int row) {
+    return Math.max(redRowScores[row], blueRowScores[row]);
+  }
+
+  /**
+   * returns the given player's total score.
+   *
+   * @param player the player whose score is returned
+   * @return the sum of the rows the player is winning
+   */
+  int total(Player player) {
+    return switch (player) {
+      case RED -> redScore;
+      case BLUE -> blueScore;
+    };
+  }
+
+  /**
+   * returns the player with the higher total score, or empty if it is a tie.
+   *
+   * @return the player winning the game
+   */
+  Optional<Player> winning() {
+    if (redScore > blueScore) {
+      return Optional.of(Player.RED);
+    }
+    if (blueScore > redScore) {
+      return Optional.of(Player.BLUE);
+    }
+    return Optional.empty();
+  }
+
+  /**
+   * returns the higher of the two players' total scores.
+   *
+   * @return the score of the game
+   */
+  int score() {
+    return Math.max(redScore, blueScore);
+  }
+
+  /**
+   * returns a copy of the given player's row scores, by row.
+   *
+   * @param player the player whose scores are returned
+   * @return a new array of the player's row scores
+   */
+  int[] copyOf(Player player) {
+    return switch (player) {
+      case RED -> redRowScores.clone();
+      case BLUE -> blueRowScores.clone();
+    };
+  }
+}
@@ -1,10 +1,15 @@
 package sanguine.model;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
  * represents a card in a game of sanguine. this card has a 5x5 influence grid, as well as a
  * name, cost (in pawns), and value.
+ *
+ * <p>Equal cards are interned into one canonical instance by {@link CardRegistry}, and compare
+ * and hash by their {@link #id()}. A card made with the public constructor looks its ID up the
+ * first time it is compared, hashed or asked for it.</p>
  */
 public class SanguineCard implements Card {
 
@@ -12,6 +17,10 @@ public class SanguineCard implements Card {
   private final int cost;
   private final int value;
   private final List<List<InfluenceGridTile>> grid;
+  private final InfluenceFootprint redFootprint;
+  private final InfluenceFootprint blueFootprint;
+  private int id;
+  // INVARIANT: id is -1 until this card's ID is known, then the ID given by CardRegistry
 
   /**
    * constructs a {@link SanguineCard} with the given parameters.
@@ -22,6 +31,22 @@ public class SanguineCard implements Card {
    * @param grid  the influence grid of the card (as viewed by red)
    */
   public SanguineCard(String name, int cost, int value, List<List<InfluenceGridTile>> grid) {
+    this(name, cost, value, grid, -1);
+  }
+
+  /**
+   * constructs the canonical {@link SanguineCard} equal to the given card, with the given ID.
+   * Only {@link CardRegistry} makes canonical cards.
+   *
+   * @param card the card to copy
+   * @param id   the ID of the card
+   */
+  SanguineCard(Card card, int id) {
+    this(card.name(), card.cost(), card.value(), gridOf(card), id);
+  }
+
+  private SanguineCard(String name, int cost, int value, List<List<InfluenceGridTile>> grid,
+                       int id) {
     if (name == null) {
       throw new IllegalArgumentException("name is null");
     }
@@ -34,6 +59,9 @@ public class SanguineCard implements Card {
       throw new IllegalArgumentException("value not positive: " + value);
     }
 
+    if (grid == null) {
+      throw new IllegalArgumentException("grid is null");
+    }
     if (grid.size() != 5 || !grid.stream().allMatch(row -> row.size() == 5)) {
       throw new IllegalArgumentException("grid size not 5x5.");
     }
@@ -53,6 +81,21 @@ public class SanguineCard implements Card {
     this.cost = cost;
     this.value = value;
     this.grid = grid.stream().map(row -> row.stream().map(tile -> tile).toList()).toList();
+    this.redFootprint = InfluenceFootprint.of(this.grid, Player.RED);
+    this.blueFootprint = InfluenceFootprint.of(this.grid, Player.BLUE);
+    this.id = id;
+  }
+
+  private static List<List<InfluenceGridTile>> gridOf(Card card) {
+    List<List<InfluenceGridTile>> grid = new ArrayList<>();
+    for (int row = 0; row < 5; row++) {
+      List<InfluenceGridTile> tiles = new ArrayList<>();
+      for (int col = 0; col < 5; col++) {
+        tiles.add(card.tileAt(row, col));
+      }
+      grid.add(tiles);
+    }
+    return grid;
   }
 
   @Override
@@ -81,11 +124,33 @@ public class SanguineCard implements Card {
     return grid.get(row).get(col);
   }
 
+  @Override
+  public InfluenceFootprint footprint(Player player) throws IllegalArgumentException {
+    if (player == null) {
+      throw new IllegalArgumentException("player is null");
+    }
+    return switch (player) {
+      case RED -> redFootprint;
+      case BLUE -> blueFootprint;
+    };
+  }
+
+  @Override
+  public int id() {
+    if (id < 0) {
+      id = CardRegistry.idOf(this);
+    }
+    return id;
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) {
       return true;
     }
+    if (o instanceof SanguineCard other) {
+      return this.id() == other.id();
+    }
     if (!(o instanceof Card other)) {
       return false;
     }
@@ -108,16 +173,7 @@ public class SanguineCard implements Card {
 
   @Override
   public int hashCode() {
-    int hashCode = 17;
-    hashCode = 31 * hashCode + name().hashCode();
-    hashCode = 31 * hashCode + Integer.hashCode(cost());
-    hashCode = 31 * hashCode + Integer.hashCode(value());
-    for (int r = 0; r < 5; r++) {
-      for (int c = 0; c < 5; c++) {
-        hashCode = 31 * hashCode + tileAt(r, c).hashCode();
-      }
-    }
-    return hashCode;
+    return Integer.hashCode(id());
   }
 
   @Override
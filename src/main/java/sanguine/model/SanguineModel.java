@@ -1,6 +1,9 @@
 package sanguine.model;
 
-
+import java.util.List;
+import sanguine.model.moves.MoveCodec;
+import sanguine.model.moves.MoveResult;
+import sanguine.model.moves.PackedPlacement;
 import sanguine.model.moves.SanguineMove;
 
 /**
@@ -41,6 +44,197 @@ public interface SanguineModel extends ReadOnlySanguineModel, GameStateAlerter {
    */
   void makeTurn(SanguineMove move) throws IllegalArgumentException, IllegalStateException;
 
+  /**
+   * makes the move with the given {@link MoveCodec} code on this model, without decoding it into
+   * a {@link SanguineMove}.
+   *
+   * @param move the code of the move to be made on this model
+   * @throws IllegalArgumentException if the code isn't a move
+   * @throws IllegalStateException    if the move is illegal
+   */
+  default void makeTurn(int move) throws IllegalArgumentException, IllegalStateException {
+    if (!MoveCodec.isMove(move)) {
+      throw new IllegalArgumentException("not a move code: " + move);
+    }
+    if (MoveCodec.isPass(move)) {
+      pass();
+      return;
+    }
+    try {
+      placeCard(PackedPlacement.indexInHand(move), PackedPlacement.row(move),
+          PackedPlacement.col(move));
+    } catch (IllegalArgumentException e) {
+      throw new IllegalStateException("invalid move");
+    }
+  }
+
+  /**
+   * makes the given moves on this model in order, as if by {@link #makeTurn(SanguineMove)}. Used
+   * to fast-forward through a recorded game. By default the moves are made one at a time, and
+   * listeners are alerted after each. Models that can {@link #undo()} moves instead alert
+   * listeners only once, after the last move, and make the moves all or none: if one is
+   * illegal, the model is left as it was before the first.
+   *
+   * @param moves the moves to be made on this model, in order
+   * @throws IllegalArgumentException if the list or any of its moves is null
+   * @throws IllegalStateException    if a move is illegal
+   */
+  default void applyAll(List<SanguineMove> moves)
+      throws IllegalArgumentException, IllegalStateException {
+    if (moves == null) {
+      throw new IllegalArgumentException("moves is null");
+    }
+    for (SanguineMove move : moves) {
+      if (move == null) {
+        throw new IllegalArgumentException("move is null");
+      }
+    }
+    for (SanguineMove move : moves) {
+      makeTurn(move);
+    }
+  }
+
+  /**
+   * makes the first {@code count} moves of the given {@link MoveCodec} codes on this model, as
+   * {@link #applyAll(List)} does, without decoding them into {@link SanguineMove}s.
+   *
+   * @param moves the codes of the moves to be made on this model, in order
+   * @param count the number of codes to make, from the start of {@code moves}
+   * @throws IllegalArgumentException if the array is null, the count is negative or larger than
+   *                                  the array, or one of the codes isn't a move
+   * @throws IllegalStateException    if a move is illegal
+   */
+  default void applyAll(int[] moves, int count)
+      throws IllegalArgumentException, IllegalStateException {
+    MoveCodec.checkMoves(moves, count);
+    for (int i = 0; i < count; i++) {
+      makeTurn(moves[i]);
+    }
+  }
+
+  /**
+   * makes the move with the given {@link MoveCodec} code for the given player if it is legal,
+   * and otherwise returns why it isn't, as {@link #tryPlaceCard} and {@link #tryPass} do.
+   *
+   * @param player the player making the move
+   * @param move   the code of the move to be made on this model
+   * @return {@link MoveResult#OK} if the move was made, and why it wasn't otherwise
+   * @throws IllegalArgumentException if the player is null or the code isn't a move
+   */
+  default MoveResult tryMakeTurn(Player player, int move) throws IllegalArgumentException {
+    if (!MoveCodec.isMove(move)) {
+      throw new IllegalArgumentException("not a move code: " + move);
+    }
+    if (MoveCodec.isPass(move)) {
+      return tryPass(player);
+    }
+    return tryPlaceCard(player, PackedPlacement.indexInHand(move), PackedPlacement.row(move),
+        PackedPlacement.col(move));
+  }
+
+  /**
+   * places the card at the given index of the given player's hand on the given tile if that is
+   * legal, and otherwise returns why it isn't without throwing or changing the model. Listeners
+   * are alerted as by {@link #placeCard} when the card is placed.
+   *
+   * @param player      the player placing the card, which must be the player whose turn it is
+   * @param indexInHand the index of the card in the player's hand (0-indexed)
+   * @param row         the row of the tile (0-indexed from the top)
+   * @param col         the column of the tile (0-indexed from the left)
+   * @return {@link MoveResult#OK} if the card was placed, as documented by
+   *         {@link #placeCardResult} otherwise
+   * @throws IllegalArgumentException if the player is null
+   */
+  default MoveResult tryPlaceCard(Player player, int indexInHand, int row, int col)
+      throws IllegalArgumentException {
+    MoveResult result = placeCardResult(player, indexInHand, row, col);
+    if (result == MoveResult.OK) {
+      placeCard(indexInHand, row, col);
+    }
+    return result;
+  }
+
+  /**
+   * passes the given player's turn if it is their turn, and otherwise returns why they can't
+   * without throwing or changing the model.
+   *
+   * @param player the player passing
+   * @return {@link MoveResult#OK} if the player passed, {@link MoveResult#GAME_OVER} if the game
+   *         is over, or {@link MoveResult#NOT_YOUR_TURN} if it is the other player's turn
+   * @throws IllegalArgumentException if the player is null
+   */
+  default MoveResult tryPass(Player player) throws IllegalArgumentException {
+    if (player == null) {
+      throw new IllegalArgumentException("player is null");
+    }
+    if (isGameOver()) {
+      return MoveResult.GAME_OVER;
+    }
+    if (getTurn() != player) {
+      return MoveResult.NOT_YOUR_TURN;
+    }
+    pass();
+    return MoveResult.OK;
+  }
+
+  /**
+   * makes the given move for the given player with {@link SanguineMove#tryAffect}, returning why
+   * the move couldn't be made instead of throwing.
+   *
+   * @param player the player making the move
+   * @param move   the move to be made on this model
+   * @return {@link MoveResult#OK} if the move was made, and why it wasn't otherwise
+   * @throws IllegalArgumentException if the player or move is null
+   */
+  default MoveResult tryMakeTurn(Player player, SanguineMove move)
+      throws IllegalArgumentException {
+    if (player == null || move == null) {
+      throw new IllegalArgumentException("player or move is null");
+    }
+    return move.tryAffect(this, player);
+  }
+
+  /**
+   * makes the given move on this model so that it can be taken back with {@link #undo()}. Unlike
+   * {@link #makeTurn(SanguineMove)}, no listeners are alerted, which lets strategies search
+   * through hypothetical moves on a model. Moves applied this way must be undone in the reverse
+   * order they were applied.
+   *
+   * @param move the move to be made on this model
+   * @throws IllegalArgumentException      if the move is null
+   * @throws IllegalStateException         if the move is illegal, in which case the model is
+   *                                       unchanged
+   * @throws UnsupportedOperationException if this model can't undo moves
+   */
+  default void apply(SanguineMove move) throws IllegalArgumentException, IllegalStateException {
+    throw new UnsupportedOperationException("this model can't undo moves");
+  }
+
+  /**
+   * makes the move with the given {@link MoveCodec} code on this model so that it can be taken
+   * back with {@link #undo()}, as {@link #apply(SanguineMove)} does.
+   *
+   * @param move the code of the move to be made on this model
+   * @throws IllegalArgumentException      if the code isn't a move
+   * @throws IllegalStateException         if the move is illegal, in which case the model is
+   *                                       unchanged
+   * @throws UnsupportedOperationException if this model can't undo moves
+   */
+  default void apply(int move) throws IllegalArgumentException, IllegalStateException {
+    apply(MoveCodec.decode(move));
+  }
+
+  /**
+   * takes back the latest move made with {@link #apply(SanguineMove)} that hasn't been taken
+   * back yet, restoring the board, hands, decks, turn and passes to what they were before it.
+   *
+   * @throws IllegalStateException         if there is no applied move to undo
+   * @throws UnsupportedOperationException if this model can't undo moves
+   */
+  default void undo() throws IllegalStateException {
+    throw new UnsupportedOperationException("this model can't undo moves");
+  }
+
   /**
    * Starts the game and triggers any initial model status notifications.
    * This should be called once after all views/ controllers have registered as listeners.
@@ -1,34 +1,34 @@
 package sanguine.model;
 
-import java.util.Optional;
-
 /**
  * represents a tile in a game of sanguine.Sanguine. This can have either a card or pawns on it.
+ * The card and owner are kept in nullable fields, so changing a tile never allocates.
  */
 public class SanguineTile implements GameTile {
 
   private int pawns;
 
-  private Optional<Card> card;
-  private Optional<Player> owner;
+  private Card card;
+  private Player owner;
+  // INVARIANT: card and owner are null when the tile has no card or no owner respectively
 
   /**
    * constructs a new sanguine tile with 0 pawns and no card.
    */
   public SanguineTile() {
     this.pawns = 0;
-    this.card = Optional.empty();
-    owner = Optional.empty();
+    this.card = null;
+    owner = null;
   }
 
   @Override
   public boolean hasCard() {
-    return this.card.isPresent();
+    return this.card != null;
   }
 
   @Override
   public boolean hasOwner() {
-    return owner.isPresent();
+    return owner != null;
   }
 
   @Override
@@ -42,8 +42,8 @@ public class SanguineTile implements GameTile {
       throw new IllegalArgumentException("given null argument");
     }
 
-    this.card = Optional.of(card);
-    this.owner = Optional.of(owner);
+    this.card = card;
+    this.owner = owner;
     pawns = 0;
   }
 
@@ -53,7 +53,7 @@ public class SanguineTile implements GameTile {
     if (!hasCard()) {
       throw new IllegalStateException("tile doesn't have card");
     }
-    return this.card.get();
+    return this.card;
   }
 
   @Override
@@ -72,21 +72,34 @@ public class SanguineTile implements GameTile {
     if (owner == null) {
       throw new IllegalArgumentException("given null argument");
     }
-    if (this.owner.stream().anyMatch(player -> player != owner)) {
+    if (this.owner != null && this.owner != owner) {
       pawns = 1;
     } else {
       if (pawns <= 2) {
         pawns += 1;
       }
     }
-    this.owner = Optional.of(owner);
+    this.owner = owner;
+  }
+
+  @Override
+  public void restore(Player owner, int pawns) {
+    if (pawns < 0 || pawns > 3) {
+      throw new IllegalArgumentException("pawns out of range [0,3]: " + pawns);
+    }
+    if ((owner == null) != (pawns == 0)) {
+      throw new IllegalArgumentException("pawns must have an owner");
+    }
+    this.card = null;
+    this.owner = owner;
+    this.pawns = pawns;
   }
 
   @Override
   public Player owner() {
-    if (owner.isEmpty()) {
+    if (owner == null) {
       throw new IllegalStateException("no one owns this tile");
     }
-    return owner.get();
+    return owner;
   }
 }
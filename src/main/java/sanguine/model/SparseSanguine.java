@@ -0,0 +1,405 @@
+package sanguine.model;
+
+import java.util.Arrays;
+import java.util.List;
+import sanguine.model.moves.PackedPlacement;
+
+/**
+ * a {@link SanguineModel} that follows the same rules as {@link BasicSanguine}, but only stores
+ * the tiles of the board that have an owner, in a {@link TileMap} keyed by
+ * {@code row * width + col}. Tiles that have never been influenced take no memory, so the memory
+ * of the board grows with the number of owned tiles rather than with its area, which suits very
+ * large boards where most tiles stay empty for the whole game.
+ *
+ * <p>Each stored tile is an {@code int} state: the low two bits are its pawns, the next two bits
+ * are its owner's ordinal plus one, and the bits above those are the {@link CardRegistry} ID of
+ * its card plus one, or 0 if it has no card. The rest of the rules are shared with
+ * {@link BitboardSanguine} through {@link AbstractSanguine}, which keeps row scores, total scores
+ * and the number of empty tiles up to date as cards are placed, so no query scans the board, and
+ * {@link #legalMoves} only visits owned tiles. Placements are packed with
+ * {@link PackedPlacement}, so {@link #legalMoves} can only be used on boards whose rows and
+ * columns fit in it.</p>
+ *
+ * <p>Every tile a move applied with {@link #apply} changes is recorded with its previous state,
+ * and {@link #undo()} puts the states back, removing the tiles that had no owner. A
+ * {@link #fork()} copies the map of stored tiles.</p>
+ *
+ * <p>Coordinates are represented as (row,col), being 0-indexed from the top
+ * and left respectively.</p>
+ */
+public final class SparseSanguine extends AbstractSanguine {
+
+  private static final int NO_OWNER = 0;
+
+  private final TileMap tiles;
+  // INVARIANT: tiles holds the state of every tile with an owner, as documented by the class, and
+  // no other tiles
+  private long[] candidates = new long[0];
+  // the buffer legalMoves collects playable tiles into, reused between calls
+
+  private long boardHash;
+  // INVARIANT: boardHash is the XOR of the ZobristHash keys of every stored tile
+
+  /**
+   * constructs a {@link SparseSanguine} with the specified parameters. Deck formats are
+   * specified in the documentation for {@link CardFileReader}.
+   *
+   * @param width            the width of the board
+   * @param height           the height of the board
+   * @param handSize         the maximum number of cards in a player's hand
+   * @param redDeckFilePath  the path for the file describing the red deck
+   * @param blueDeckFilePath the path for the file specifying the blue deck
+   * @param shuffle          whether the decks are shuffled before play
+   * @param seed             the seed used to shuffle the decks, or null for a random seed
+   * @throws IllegalArgumentException if any argument is void, if the files for either deck cannot
+   *                                  be read, if the width, height or decks does not match the
+   *                                  rules specified in the documentation of
+   *                                  {@link BasicSanguine}, or if the board has more tiles than
+   *                                  fit in an {@code int}
+   */
+  public SparseSanguine(int width, int height, int handSize,
+                        String redDeckFilePath, String blueDeckFilePath,
+                        boolean shuffle, Long seed)
+      throws IllegalArgumentException {
+    super(checkedWidth(width, height), height, handSize, redDeckFilePath, blueDeckFilePath,
+        shuffle, seed);
+
+    tiles = new TileMap(2 * height);
+
+    for (int row = 0; row < height; row++) {
+      setState(row, 0, pawnsState(Player.RED, 1));
+      setState(row, width - 1, pawnsState(Player.BLUE, 1));
+    }
+    publishSnapshot();
+  }
+
+  /**
+   * constructs a {@link SparseSanguine} with the specified parameters. Deck formats are
+   * specified in the documentation for {@link CardFileReader} and are shuffled before play.
+   *
+   * @param width            the width of the board
+   * @param height           the height of the board
+   * @param handSize         the maximum number of cards in a player's hand
+   * @param redDeckFilePath  the path for the file describing the red deck
+   * @param blueDeckFilePath the path for the file specifying the blue deck
+   * @throws IllegalArgumentException if any argument is void, if the files for either deck cannot
+   *                                  be read, if the width, height or decks does not match the
+   *                                  rules specified in the documentation of
+   *                                  {@link BasicSanguine}, or if the board has more tiles than
+   *                                  fit in an {@code int}
+   */
+  public SparseSanguine(int width, int height, int handSize,
+                        String redDeckFilePath, String blueDeckFilePath)
+      throws IllegalArgumentException {
+    this(width, height, handSize, redDeckFilePath, blueDeckFilePath, true, null);
+  }
+
+  /**
+   * constructs a fork of the given model, as documented by {@link #fork()}.
+   *
+   * @param parent the model being forked
+   */
+  private SparseSanguine(SparseSanguine parent) {
+    super(parent);
+    tiles = new TileMap(parent.tiles);
+    boardHash = parent.boardHash;
+  }
+
+  /**
+   * returns the given width if a board of the given dimensions follows the rules and fits this
+   * model.
+   */
+  private static int checkedWidth(int width, int height) throws IllegalArgumentException {
+    throwExceptionIfInvalidGridSize(width, height);
+    if ((long) width * height > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("board has too many tiles");
+    }
+    return width;
+  }
+
+  /**
+   * returns the number of tiles this model stores, which is the number of tiles with an owner.
+   *
+   * @return the number of stored tiles
+   */
+  public int storedTiles() {
+    return tiles.size();
+  }
+
+  @Override
+  public Card cardAt(int row, int col) throws IllegalArgumentException, IllegalStateException {
+    throwIllegalArgumentExceptionIfInvalidCoordinates(row, col);
+    int state = state(row, col);
+    if (!hasCard(state)) {
+      throw new IllegalArgumentException("invalid coordinates");
+    }
+    return CardRegistry.byId(cardId(state));
+  }
+
+  @Override
+  public boolean isCardAt(int row, int col) throws IllegalArgumentException {
+    throwIllegalArgumentExceptionIfInvalidCoordinates(row, col);
+    return hasCard(state(row, col));
+  }
+
+  @Override
+  public int pawnsAt(int row, int col) throws IllegalArgumentException, IllegalStateException {
+    throwIllegalArgumentExceptionIfInvalidCoordinates(row, col);
+    int state = state(row, col);
+    if (hasCard(state)) {
+      throw new IllegalStateException("card at given tile");
+    }
+    return pawns(state);
+  }
+
+  @Override
+  public Player ownerAt(int row, int col)
+      throws IllegalArgumentException, IllegalStateException {
+    throwIllegalArgumentExceptionIfInvalidCoordinates(row, col);
+    int state = state(row, col);
+    if (state == NO_OWNER) {
+      throw new IllegalStateException("tile has no owner");
+    }
+    return owner(state);
+  }
+
+  @Override
+  public boolean hasOwner(int row, int col) throws IllegalArgumentException {
+    throwIllegalArgumentExceptionIfInvalidCoordinates(row, col);
+    return state(row, col) != NO_OWNER;
+  }
+
+  @Override
+  protected void placeOnBoard(Player who, Card card, int row, int col)
+      throws IllegalStateException {
+    int state = state(row, col);
+    if (hasCard(state)) {
+      throw new IllegalStateException("card at given tile");
+    }
+    if (state == NO_OWNER || owner(state) != who) {
+      throw new IllegalStateException("other player owns this tile");
+    }
+    if (pawns(state) < card.cost()) {
+      throw new IllegalStateException("not enough pawns to cover card cost");
+    }
+
+    setState(row, col, cardState(who, card));
+    applyInfluence(card, row, col, who);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The buffer is cleared and then only the stored tiles are copied into it.</p>
+   */
+  @Override
+  public void copyBoardInto(BoardBuffer buffer) throws IllegalArgumentException {
+    if (buffer == null || !buffer.fits(width, height)) {
+      throw new IllegalArgumentException("buffer is null or doesn't fit the board");
+    }
+    Arrays.fill(buffer.owners(), BoardBuffer.NONE);
+    Arrays.fill(buffer.pawns(), 0);
+    Arrays.fill(buffer.cardIds(), BoardBuffer.NONE);
+    for (int slot = 0; slot < tiles.capacity(); slot++) {
+      long key = tiles.keyAt(slot);
+      if (key == TileMap.NO_KEY) {
+        continue;
+      }
+      int state = tiles.valueAt(slot);
+      int row = (int) (key / width);
+      int col = (int) (key % width);
+      if (hasCard(state)) {
+        buffer.setTile(row, col, owner(state).ordinal(), 0, cardId(state));
+      } else {
+        buffer.setTile(row, col, owner(state).ordinal(), pawns(state), BoardBuffer.NONE);
+      }
+    }
+    for (int row = 0; row < height; row++) {
+      buffer.setRowScores(row, scores.rowScore(Player.RED, row),
+          scores.rowScore(Player.BLUE, row));
+    }
+  }
+
+  @Override
+  protected boolean canPlaceOn(Player player, int cost, int row, int col) {
+    int state = state(row, col);
+    if (state == NO_OWNER || hasCard(state) || owner(state) != player) {
+      return false;
+    }
+    return pawns(state) >= cost;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Only the stored tiles are visited: the player's tiles without a card are collected and
+   * sorted once, and then matched against the cost of every card in the hand.</p>
+   */
+  @Override
+  public int legalMoves(Player player, int[] buffer) throws IllegalArgumentException {
+    if (player == null || buffer == null) {
+      throw new IllegalArgumentException("player or buffer is null");
+    }
+    if (isGameOver() || player != getTurn()) {
+      return 0;
+    }
+
+    int playable = 0;
+    for (int slot = 0; slot < tiles.capacity(); slot++) {
+      long key = tiles.keyAt(slot);
+      int state = tiles.valueAt(slot);
+      if (key != TileMap.NO_KEY && !hasCard(state) && owner(state) == player) {
+        if (playable == candidates.length) {
+          candidates = Arrays.copyOf(candidates, Math.max(16, playable * 2));
+        }
+        // the pawns go below the key, so sorting orders the tiles by row, then column
+        candidates[playable++] = key << 2 | pawns(state);
+      }
+    }
+    Arrays.sort(candidates, 0, playable);
+
+    List<Card> hand = hand(player);
+    int count = 0;
+    for (int indexInHand = 0; indexInHand < hand.size(); indexInHand++) {
+      int cost = hand.get(indexInHand).cost();
+      for (int i = 0; i < playable; i++) {
+        if ((candidates[i] & 3) < cost) {
+          continue;
+        }
+        if (count == buffer.length) {
+          throw new IllegalArgumentException("buffer too small for legal moves");
+        }
+        long key = candidates[i] >>> 2;
+        buffer[count++] = PackedPlacement.pack(indexInHand, (int) (key / width),
+            (int) (key % width));
+      }
+    }
+    return count;
+  }
+
+  @Override
+  protected void undoBoardChange(int kind, int a, int b, int c, long word) {
+    if (kind != UndoJournal.TILE) {
+      throw new IllegalStateException("invalid journal entry");
+    }
+    putState(a, b, c);
+  }
+
+  @Override
+  protected GameState.Row snapshotRow(int row) {
+    int[] states = new int[width];
+    Card[] rowCards = new Card[width];
+    for (int col = 0; col < width; col++) {
+      int state = state(row, col);
+      if (hasCard(state)) {
+        rowCards[col] = CardRegistry.byId(cardId(state));
+        states[col] = state & 0xc;
+      } else {
+        states[col] = state;
+      }
+    }
+    return new GameState.Row(states, rowCards);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The hash is kept up to date as tiles change, so this doesn't scan the board.</p>
+   */
+  @Override
+  protected long boardHash() {
+    return boardHash;
+  }
+
+  @Override
+  protected AbstractSanguine copy() {
+    return new SparseSanguine(this);
+  }
+
+  /**
+   * returns the state of the given tile, or {@code NO_OWNER} if it isn't stored.
+   */
+  private int state(int row, int col) {
+    return tiles.get((long) row * width + col, NO_OWNER);
+  }
+
+  /**
+   * stores the given state for the given tile, recording the state it replaces if a move is being
+   * applied.
+   */
+  private void setState(int row, int col, int state) {
+    recordChange(UndoJournal.TILE, row, col, state(row, col));
+    putState(row, col, state);
+  }
+
+  /**
+   * stores the given state for the given tile, removing the tile if the state is
+   * {@code NO_OWNER}, and keeps the board hash up to date.
+   */
+  private void putState(int row, int col, int state) {
+    long key = (long) row * width + col;
+    boardHash ^= tileKey(row, col, tiles.get(key, NO_OWNER)) ^ tileKey(row, col, state);
+    if (state == NO_OWNER) {
+      tiles.remove(key);
+    } else {
+      tiles.put(key, state);
+    }
+    rowChanged(row);
+  }
+
+  private static long tileKey(int row, int col, int state) {
+    if (state == NO_OWNER) {
+      return 0;
+    }
+    if (hasCard(state)) {
+      return ZobristHash.cardKey(row, col, owner(state), CardRegistry.byId(cardId(state)));
+    }
+    return ZobristHash.pawnsKey(row, col, owner(state), pawns(state));
+  }
+
+  private static int pawnsState(Player owner, int pawns) {
+    return (owner.ordinal() + 1) << 2 | pawns;
+  }
+
+  private static int cardState(Player owner, Card card) {
+    return (card.id() + 1) << 4 | (owner.ordinal() + 1) << 2;
+  }
+
+  private static boolean hasCard(int state) {
+    return state >>> 4 != 0;
+  }
+
+  private static int cardId(int state) {
+    return (state >>> 4) - 1;
+  }
+
+  private static Player owner(int state) {
+    return ((state >>> 2) & 3) == 1 ? Player.RED : Player.BLUE;
+  }
+
+  private static int pawns(int state) {
+    return state & 3;
+  }
+
+  private void applyInfluence(Card card, int row, int col, Player who) {
+    InfluenceFootprint footprint = card.footprint(who);
+    for (int i = 0; i < footprint.size(); i++) {
+      int rr = row + footprint.rowOffset(i);
+      int cc = col + footprint.colOffset(i);
+      if (!validCoordinates(rr, cc)) {
+        continue;
+      }
+
+      int state = state(rr, cc);
+      if (hasCard(state)) {
+        continue;
+      }
+      int pawns = pawns(state);
+      if (state == NO_OWNER || owner(state) == who) {
+        setState(rr, cc, pawnsState(who, Math.min(pawns + 1, 3)));
+      } else {
+        setState(rr, cc, pawnsState(who, pawns));
+      }
+    }
+  }
+}
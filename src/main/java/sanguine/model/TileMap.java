@@ -0,0 +1,182 @@
+package sanguine.model;
+
+import java.util.Arrays;
+
+/**
+ * a map from the non-negative {@code long} index of a tile to an {@code int} state, stored in two
+ * open-addressed arrays so that neither keys nor values are boxed. Used by
+ * {@link SparseSanguine} to hold only the tiles of a board that have an owner, removing a tile
+ * when undoing a move leaves it without one.
+ *
+ * <p>Entries are visited by slot: {@link #capacity()} slots, each of which either holds an entry,
+ * read with {@link #keyAt(int)} and {@link #valueAt(int)}, or is empty, in which case its key is
+ * {@link #NO_KEY}. Slots are in no particular order.</p>
+ */
+final class TileMap {
+
+  /**
+   * the key of an empty slot, which can't be used as a key.
+   */
+  static final long NO_KEY = -1L;
+
+  private long[] keys;
+  private int[] values;
+  private int size;
+  // INVARIANT: keys.length is a power of two at least twice size, and every key can be reached
+  // from the slot its hash picks without passing an empty slot
+
+  /**
+   * constructs an empty map with room for the given number of entries before it grows.
+   *
+   * @param expected the number of entries expected
+   */
+  TileMap(int expected) {
+    int capacity = Integer.highestOneBit(Math.max(4, expected) * 2 - 1) << 1;
+    keys = new long[capacity];
+    Arrays.fill(keys, NO_KEY);
+    values = new int[capacity];
+  }
+
+  /**
+   * constructs a copy of the given map.
+   *
+   * @param other the map to copy
+   */
+  TileMap(TileMap other) {
+    keys = other.keys.clone();
+    values = other.values.clone();
+    size = other.size;
+  }
+
+  /**
+   * returns the value of the given key, or {@code absent} if the map has no such key.
+   *
+   * @param key    the key
+   * @param absent the value returned if the key isn't in the map
+   * @return the value of the key, or {@code absent}
+   */
+  int get(long key, int absent) {
+    int mask = keys.length - 1;
+    for (int slot = slotOf(key, mask); keys[slot] != NO_KEY; slot = (slot + 1) & mask) {
+      if (keys[slot] == key) {
+        return values[slot];
+      }
+    }
+    return absent;
+  }
+
+  /**
+   * sets the value of the given key, adding the key if the map doesn't have it.
+   *
+   * @param key   the key, which must not be negative
+   * @param value the value of the key
+   */
+  void put(long key, int value) {
+    int mask = keys.length - 1;
+    int slot = slotOf(key, mask);
+    while (keys[slot] != NO_KEY) {
+      if (keys[slot] == key) {
+        values[slot] = value;
+        return;
+      }
+      slot = (slot + 1) & mask;
+    }
+    keys[slot] = key;
+    values[slot] = value;
+    size += 1;
+    if (size * 2 > keys.length) {
+      grow();
+    }
+  }
+
+  /**
+   * removes the given key, if the map has it. The entries after it that could no longer be
+   * reached from the slots their hashes pick are moved back into the freed slot, so no slot is
+   * marked as deleted.
+   *
+   * @param key the key
+   */
+  void remove(long key) {
+    int mask = keys.length - 1;
+    int gap = slotOf(key, mask);
+    while (keys[gap] != key) {
+      if (keys[gap] == NO_KEY) {
+        return;
+      }
+      gap = (gap + 1) & mask;
+    }
+    for (int slot = (gap + 1) & mask; keys[slot] != NO_KEY; slot = (slot + 1) & mask) {
+      int home = slotOf(keys[slot], mask);
+      // the entry may move back into the gap unless its home slot lies between the two
+      if (((slot - home) & mask) >= ((slot - gap) & mask)) {
+        keys[gap] = keys[slot];
+        values[gap] = values[slot];
+        gap = slot;
+      }
+    }
+    keys[gap] = NO_KEY;
+    size -= 1;
+  }
+
+  /**
+   * returns the number of entries in this map.
+   *
+   * @return the number of entries
+   */
+  int size() {
+    return size;
+  }
+
+  /**
+   * returns the number of slots in this map.
+   *
+   * @return the number of slots
+   */
+  int capacity() {
+    return keys.length;
+  }
+
+  /**
+   * returns the key in the given slot, or {@link #NO_KEY} if the slot is empty.
+   *
+   * @param slot the slot
+   * @return the key in the slot
+   */
+  long keyAt(int slot) {
+    return keys[slot];
+  }
+
+  /**
+   * returns the value in the given slot, which is meaningless if the slot is empty.
+   *
+   * @param slot the slot
+   * @return the value in the slot
+   */
+  int valueAt(int slot) {
+    return values[slot];
+  }
+
+  private void grow() {
+    long[] oldKeys = keys;
+    int[] oldValues = values;
+    keys = new long[oldKeys.length * 2];
+    Arrays.fill(keys, NO_KEY);
+    values = new int[oldValues.length * 2];
+    int mask = keys.length - 1;
+    for (int i = 0; i < oldKeys.length; i++) {
+      if (oldKeys[i] != NO_KEY) {
+        int slot = slotOf(oldKeys[i], mask);
+        while (keys[slot] != NO_KEY) {
+          slot = (slot + 1) & mask;
+        }
+        keys[slot] = oldKeys[i];
+        values[slot] = oldValues[i];
+      }
+    }
+  }
+
+  private static int slotOf(long key, int mask) {
+    long h = key * 0x9e3779b97f4a7c15L;
+    return (int) (h ^ (h >>> 32)) & mask;
+  }
+}
@@ -0,0 +1,173 @@
+package sanguine.model;
+
+import java.util.Arrays;
+
+/**
+ * a journal of the changes made to a model by the moves made with {@link SanguineModel#apply},
+ * used to undo them. Each change is an entry of a kind and up to three ints, with an optional
+ * {@link Card} or {@code long} word; entries are stored in flat arrays that only grow, so
+ * recording a change doesn't allocate once the journal has warmed up.
+ *
+ * <p>A mark is pushed at the start of every applied move, and undoing a move reverts the entries
+ * recorded since its mark, newest first.</p>
+ */
+final class UndoJournal {
+
+  /**
+   * a tile changed. (row, col, the tile's previous state, as the model stores it).
+   */
+  static final int TILE = 0;
+  /**
+   * a card was placed, adding to its owner's row score and covering an empty tile. (row, col,
+   * owner ordinal) with the card.
+   */
+  static final int PLACE = 1;
+  /**
+   * a card was removed from a hand. (player ordinal, index in hand) with the removed card.
+   */
+  static final int HAND = 2;
+  /**
+   * a card was drawn from a deck into the end of a hand. (player ordinal).
+   */
+  static final int DRAW = 3;
+  /**
+   * the consecutive pass count changed. (previous count).
+   */
+  static final int PASSES = 4;
+  /**
+   * the turn switched to the other player.
+   */
+  static final int TURN = 5;
+  /**
+   * a word of a bitboard row changed. (row, the index of the bitset) with the previous word.
+   */
+  static final int ROW = 6;
+
+  private static final int INTS_PER_ENTRY = 4;
+
+  private int[] entries;
+  private Card[] cards;
+  private long[] words;
+  private int size;
+  private int[] marks;
+  private int markCount;
+
+  /**
+   * constructs an empty journal.
+   */
+  UndoJournal() {
+    entries = new int[64 * INTS_PER_ENTRY];
+    cards = new Card[64];
+    words = new long[64];
+    marks = new int[16];
+  }
+
+  /**
+   * marks the start of a new move.
+   */
+  void mark() {
+    if (markCount == marks.length) {
+      marks = Arrays.copyOf(marks, marks.length * 2);
+    }
+    marks[markCount++] = size;
+  }
+
+  /**
+   * returns whether there is a marked move that hasn't been undone.
+   *
+   * @return whether there is a move to undo
+   */
+  boolean hasMark() {
+    return markCount > 0;
+  }
+
+  /**
+   * removes the newest mark and returns the index of the first entry recorded after it.
+   *
+   * @return the index of the first entry of the newest move
+   * @throws IllegalStateException if there is no mark
+   */
+  int popMark() {
+    if (markCount == 0) {
+      throw new IllegalStateException("no move to undo");
+    }
+    return marks[--markCount];
+  }
+
+  /**
+   * records a change without a card.
+   */
+  void record(int kind, int a, int b, int c) {
+    record(kind, a, b, c, null);
+  }
+
+  /**
+   * records a change with the given card.
+   */
+  void record(int kind, int a, int b, int c, Card card) {
+    if (size == cards.length) {
+      entries = Arrays.copyOf(entries, entries.length * 2);
+      cards = Arrays.copyOf(cards, cards.length * 2);
+      words = Arrays.copyOf(words, words.length * 2);
+    }
+    int base = size * INTS_PER_ENTRY;
+    entries[base] = kind;
+    entries[base + 1] = a;
+    entries[base + 2] = b;
+    entries[base + 3] = c;
+    cards[size] = card;
+    words[size] = 0L;
+    size += 1;
+  }
+
+  /**
+   * records a change with the given word.
+   */
+  void record(int kind, int a, int b, long word) {
+    record(kind, a, b, 0, null);
+    words[size - 1] = word;
+  }
+
+  /**
+   * returns the number of recorded entries.
+   */
+  int size() {
+    return size;
+  }
+
+  int kind(int index) {
+    return entries[index * INTS_PER_ENTRY];
+  }
+
+  int a(int index) {
+    return entries[index * INTS_PER_ENTRY + 1];
+  }
+
+  int b(int index) {
+    return entries[index * INTS_PER_ENTRY + 2];
+  }
+
+  int c(int index) {
+    return entries[index * INTS_PER_ENTRY + 3];
+  }
+
+  Card card(int index) {
+    return cards[index];
+  }
+
+  long word(int index) {
+    return words[index];
+  }
+
+  /**
+   * drops every entry from the given index on.
+   *
+   * @param newSize the number of entries kept
+   */
+  void truncate(int newSize) {
+    for (int i = newSize; i < size; i++) {
+      cards[i] = null;
+    }
+    size = newSize;
+  }
+}
@@ -0,0 +1,144 @@
+package sanguine.model;
+
+import java.util.List;
+
+/**
+ * the 64-bit Zobrist hash of the state of a game of Sanguine, as returned by
+ * {@link ReadOnlySanguineModel#stateHash()}. The hash of a state is made of:
+ * <ul>
+ *   <li>the XOR of a key for every tile that has an owner, which depends on the tile's
+ *   coordinates, its owner, and either its pawn count or its card</li>
+ *   <li>the sum of a key for every card in each hand, which depends on the player and the card.
+ *   Hands are summed rather than XORed so that two copies of the same card don't cancel out, and
+ *   the order of the cards in a hand doesn't change the hash</li>
+ *   <li>a key for the player whose turn it is and how many passes in a row led to the turn, or a
+ *   game over key if the game is over. The next pass ends the game only after a pass, so a state
+ *   with a pass pending and the same state without one hash differently</li>
+ * </ul>
+ *
+ * <p>Keys are derived from their inputs by a fixed mixing function rather than drawn at random,
+ * so the hash of a state is the same in every run and on every board size, and can be stored in
+ * opening books. Cards are keyed by their name, cost, value and influence, so equal cards have
+ * equal keys. Decks aren't part of the hash.</p>
+ *
+ * <p>Models that maintain the hash incrementally can use the key methods of this class, and
+ * {@link #of(ReadOnlySanguineModel)} recomputes it from scratch.</p>
+ */
+public final class ZobristHash {
+
+  private static final long PAWNS_SALT = 0x6a09e667f3bcc908L;
+  private static final long CARD_SALT = 0xbb67ae8584caa73bL;
+  private static final long HAND_SALT = 0x3c6ef372fe94f82bL;
+  private static final long TURN_SALT = 0xa54ff53a5f1d36f1L;
+  private static final long PASSES_SALT = 0x9b05688c2b3e6c1fL;
+  private static final long GAME_OVER_KEY = mix(0x510e527fade682d1L);
+
+  private ZobristHash() {
+  }
+
+  /**
+   * computes the hash of the current state of the given model from scratch.
+   *
+   * @param model the model whose state is hashed
+   * @return the hash of the state of {@code model}
+   * @throws IllegalArgumentException if the model is null
+   */
+  public static long of(ReadOnlySanguineModel model) throws IllegalArgumentException {
+    if (model == null) {
+      throw new IllegalArgumentException("model is null");
+    }
+
+    long board = 0;
+    for (int row = 0; row < model.height(); row++) {
+      for (int col = 0; col < model.width(); col++) {
+        if (model.isCardAt(row, col)) {
+          board ^= cardKey(row, col, model.ownerAt(row, col), model.cardAt(row, col));
+        } else if (model.hasOwner(row, col)) {
+          board ^= pawnsKey(row, col, model.ownerAt(row, col), model.pawnsAt(row, col));
+        }
+      }
+    }
+
+    long hands = 0;
+    for (Player player : Player.values()) {
+      List<Card> hand = model.getHand(player);
+      for (Card card : hand) {
+        hands += handKey(player, card);
+      }
+    }
+
+    return board ^ hands
+        ^ turnKey(model.isGameOver() ? null : model.getTurn(), model.consecutivePasses());
+  }
+
+  /**
+   * returns the key of a tile without a card that has the given owner and pawn count.
+   *
+   * @param row   the row of the tile
+   * @param col   the column of the tile
+   * @param owner the owner of the tile
+   * @param pawns the number of pawns on the tile
+   * @return the key of the tile
+   */
+  static long pawnsKey(int row, int col, Player owner, int pawns) {
+    return mix(PAWNS_SALT ^ ((long) row << 40) ^ ((long) col << 16)
+        ^ (owner.ordinal() << 2) ^ pawns);
+  }
+
+  /**
+   * returns the key of a tile that has the given card, placed by the given owner.
+   *
+   * @param row   the row of the tile
+   * @param col   the column of the tile
+   * @param owner the owner of the tile
+   * @param card  the card on the tile
+   * @return the key of the tile
+   */
+  static long cardKey(int row, int col, Player owner, Card card) {
+    return mix(mix(CARD_SALT ^ ((long) row << 40) ^ ((long) col << 16) ^ owner.ordinal())
+        + cardFingerprint(card));
+  }
+
+  /**
+   * returns the key of the given card in the given player's hand.
+   *
+   * @param player the player whose hand the card is in
+   * @param card   the card
+   * @return the key of the card in the hand
+   */
+  static long handKey(Player player, Card card) {
+    return mix(mix(HAND_SALT ^ player.ordinal()) + cardFingerprint(card));
+  }
+
+  /**
+   * returns the key of the given player's turn after the given number of passes in a row, or the
+   * game over key if {@code player} is null.
+   *
+   * @param player the player whose turn it is, or null if the game is over
+   * @param passes the number of consecutive passes
+   * @return the key of the turn
+   */
+  static long turnKey(Player player, int passes) {
+    if (player == null) {
+      return GAME_OVER_KEY;
+    }
+    return mix(TURN_SALT ^ player.ordinal()) ^ ((passes == 0) ? 0 : mix(PASSES_SALT ^ passes));
+  }
+
+  private static long cardFingerprint(Card card) {
+    long fingerprint = card.name().hashCode();
+    fingerprint = fingerprint * 31 + card.cost();
+    fingerprint = fingerprint * 31 + card.value();
+    fingerprint = fingerprint * 31 + card.footprint(Player.RED).mask();
+    return mix(fingerprint);
+  }
+
+  /**
+   * the SplitMix64 finalizer, which spreads every input bit over the whole output.
+   */
+  private static long mix(long z) {
+    z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+    z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+    return z ^ (z >>> 31);
+  }
+}
@@ -0,0 +1,157 @@
+package sanguine.model.moves;
+
+/**
+ * encodes every move of a game of sanguine.Sanguine as a single {@code int}, so move lists,
+ * search tables and logs can be kept in {@code int[]}s instead of as {@link SanguineMove}
+ * objects. Placements are encoded exactly as by {@link PackedPlacement}, so the placements
+ * written by {@link sanguine.model.ReadOnlySanguineModel#legalMoves} are already move codes, and
+ * passing is encoded as {@link #PASS}. Every other negative {@code int} isn't a move.
+ *
+ * <p>Move codes can be made with {@link sanguine.model.SanguineModel#makeTurn(int)} without
+ * decoding them into objects first.</p>
+ */
+public final class MoveCodec {
+
+  /**
+   * the code of passing.
+   */
+  public static final int PASS = -1;
+
+  private MoveCodec() {
+  }
+
+  /**
+   * returns the code of placing the card at the given index of the hand on the given tile.
+   *
+   * @param indexInHand the index of the card in the hand of the player
+   * @param row         the row of the tile
+   * @param col         the column of the tile
+   * @return the code of the placement
+   * @throws IllegalArgumentException if any argument is negative or too large to be packed by
+   *                                  {@link PackedPlacement}
+   */
+  public static int placement(int indexInHand, int row, int col) throws IllegalArgumentException {
+    return PackedPlacement.pack(indexInHand, row, col);
+  }
+
+  /**
+   * returns whether placing the card at the given index of the hand on the given tile can be
+   * encoded with {@link #placement(int, int, int)}.
+   *
+   * @param indexInHand the index of the card in the hand of the player
+   * @param row         the row of the tile
+   * @param col         the column of the tile
+   * @return whether the placement has a code
+   */
+  public static boolean canEncode(int indexInHand, int row, int col) {
+    return indexInHand >= 0 && indexInHand <= PackedPlacement.MAX_HAND_INDEX
+        && row >= 0 && row <= PackedPlacement.MAX_COORDINATE
+        && col >= 0 && col <= PackedPlacement.MAX_COORDINATE;
+  }
+
+  /**
+   * returns whether the given {@code int} is the code of a move.
+   *
+   * @param code the code
+   * @return whether {@code code} is {@link #PASS} or a placement
+   */
+  public static boolean isMove(int code) {
+    return code >= PASS;
+  }
+
+  /**
+   * returns whether the given code is the code of passing.
+   *
+   * @param code the code
+   * @return whether {@code code} is {@link #PASS}
+   */
+  public static boolean isPass(int code) {
+    return code == PASS;
+  }
+
+  /**
+   * returns whether the given code is the code of a placement.
+   *
+   * @param code the code
+   * @return whether {@code code} places a card
+   */
+  public static boolean isPlacement(int code) {
+    return code >= 0;
+  }
+
+  /**
+   * checks that the first {@code count} entries of the given array are all move codes.
+   *
+   * @param codes the codes
+   * @param count the number of codes to check, from the start of {@code codes}
+   * @throws IllegalArgumentException if the array is null, the count is negative or larger than
+   *                                  the array, or one of the codes isn't a move
+   */
+  public static void checkMoves(int[] codes, int count) throws IllegalArgumentException {
+    if (codes == null) {
+      throw new IllegalArgumentException("codes is null");
+    }
+    if (count < 0 || count > codes.length) {
+      throw new IllegalArgumentException("invalid count: " + count);
+    }
+    for (int i = 0; i < count; i++) {
+      if (!isMove(codes[i])) {
+        throw new IllegalArgumentException("not a move code: " + codes[i]);
+      }
+    }
+  }
+
+  /**
+   * returns the code of the given move.
+   *
+   * @param move the move
+   * @return the code of the move
+   * @throws IllegalArgumentException if the move is null, isn't a {@link Pass} or
+   *                                  {@link PlaceCard}, or places a card that can't be packed
+   */
+  public static int encode(SanguineMove move) throws IllegalArgumentException {
+    if (move instanceof Pass) {
+      return PASS;
+    }
+    if (move instanceof PlaceCard placeCard) {
+      return placement(placeCard.indexInHand(), placeCard.row(), placeCard.col());
+    }
+    throw new IllegalArgumentException("move can't be encoded: " + move);
+  }
+
+  /**
+   * returns the move of the given code.
+   *
+   * @param code the code of a move
+   * @return a {@link Pass} or {@link PlaceCard} equal to the encoded move
+   * @throws IllegalArgumentException if the code isn't a move
+   */
+  public static SanguineMove decode(int code) throws IllegalArgumentException {
+    if (code == PASS) {
+      return new Pass();
+    }
+    if (code < 0) {
+      throw new IllegalArgumentException("not a move code: " + code);
+    }
+    return PackedPlacement.toMove(code);
+  }
+
+  /**
+   * returns a short readable form of the given code, for logs: {@code "pass"}, or
+   * {@code "card@row,col"} for a placement.
+   *
+   * @param code the code of a move
+   * @return the readable form of the move
+   * @throws IllegalArgumentException if the code isn't a move
+   */
+  public static String toString(int code) throws IllegalArgumentException {
+    if (code == PASS) {
+      return "pass";
+    }
+    if (code < 0) {
+      throw new IllegalArgumentException("not a move code: " + code);
+    }
+    return PackedPlacement.indexInHand(code) + "@" + PackedPlacement.row(code) + ","
+        + PackedPlacement.col(code);
+  }
+}
@@ -0,0 +1,37 @@
+package sanguine.model.moves;
+
+/**
+ * the outcome of trying to make a move in a game of sanguine.Sanguine with
+ * {@link sanguine.model.SanguineModel#tryMakeTurn},
+ * {@link sanguine.model.SanguineModel#tryPlaceCard} or
+ * {@link sanguine.model.SanguineModel#tryPass}. {@code OK} means the move was made; every other
+ * result names why it wasn't, in which case the model is unchanged. Results are returned rather
+ * than thrown, so rejecting an illegal move costs no more than checking it.
+ */
+public enum MoveResult {
+
+  OK("Move made"),
+  GAME_OVER("Game is over"),
+  NOT_YOUR_TURN("Not your turn"),
+  INVALID_COORDINATES("Tile is off the board"),
+  INVALID_HAND_INDEX("No card at that index in hand"),
+  OCCUPIED("Tile already has a card"),
+  NOT_OWNED("Tile isn't owned by the player"),
+  INSUFFICIENT_PAWNS("Not enough pawns to cover card cost"),
+  ILLEGAL_MOVE("Illegal move");
+
+  private final String reason;
+
+  MoveResult(String reason) {
+    this.reason = reason;
+  }
+
+  /**
+   * returns a short description of this result that can be shown to a player.
+   *
+   * @return the reason for this result
+   */
+  public String reason() {
+    return reason;
+  }
+}
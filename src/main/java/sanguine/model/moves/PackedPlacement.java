@@ -0,0 +1,79 @@
+package sanguine.model.moves;
+
+/**
+ * packs the hand index, row and column of a card placement into a single {@code int}, as filled
+ * in by {@link sanguine.model.ReadOnlySanguineModel#legalMoves}. The column takes the lowest 12
+ * bits, the row the next 12 bits, and the hand index the 7 bits above those, so packed placements
+ * are never negative.
+ */
+public final class PackedPlacement {
+
+  /**
+   * the largest row or column a packed placement can hold.
+   */
+  public static final int MAX_COORDINATE = (1 << 12) - 1;
+  /**
+   * the largest hand index a packed placement can hold.
+   */
+  public static final int MAX_HAND_INDEX = (1 << 7) - 1;
+
+  private PackedPlacement() {
+  }
+
+  /**
+   * packs the given placement.
+   *
+   * @param indexInHand the index of the card in the hand of the player
+   * @param row         the row of the tile
+   * @param col         the column of the tile
+   * @return the packed placement
+   * @throws IllegalArgumentException if any argument is negative or too large to be packed
+   */
+  public static int pack(int indexInHand, int row, int col) throws IllegalArgumentException {
+    if (indexInHand < 0 || indexInHand > MAX_HAND_INDEX
+        || row < 0 || row > MAX_COORDINATE || col < 0 || col > MAX_COORDINATE) {
+      throw new IllegalArgumentException("placement can't be packed");
+    }
+    return (indexInHand << 24) | (row << 12) | col;
+  }
+
+  /**
+   * returns the hand index of the given packed placement.
+   *
+   * @param packed a packed placement
+   * @return the index of the card in the hand of the player
+   */
+  public static int indexInHand(int packed) {
+    return packed >>> 24;
+  }
+
+  /**
+   * returns the row of the given packed placement.
+   *
+   * @param packed a packed placement
+   * @return the row of the tile
+   */
+  public static int row(int packed) {
+    return (packed >>> 12) & MAX_COORDINATE;
+  }
+
+  /**
+   * returns the column of the given packed placement.
+   *
+   * @param packed a packed placement
+   * @return the column of the tile
+   */
+  public static int col(int packed) {
+    return packed & MAX_COORDINATE;
+  }
+
+  /**
+   * returns the {@link PlaceCard} move of the given packed placement.
+   *
+   * @param packed a packed placement
+   * @return the move placing the card
+   */
+  public static PlaceCard toMove(int packed) {
+    return new PlaceCard(row(packed), col(packed), indexInHand(packed));
+  }
+}
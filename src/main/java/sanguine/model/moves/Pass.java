@@ -1,5 +1,6 @@
 package sanguine.model.moves;
 
+import sanguine.model.Player;
 import sanguine.model.SanguineModel;
 
 /**
@@ -20,8 +21,27 @@ public class Pass implements SanguineMove {
     }
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Passes with {@link SanguineModel#tryPass}.</p>
+   */
+  @Override
+  public MoveResult tryAffect(SanguineModel model, Player player)
+      throws IllegalArgumentException {
+    if (model == null) {
+      throw new IllegalArgumentException("Null model");
+    }
+    return model.tryPass(player);
+  }
+
   @Override
   public boolean equals(Object obj) {
     return obj instanceof Pass;
   }
+
+  @Override
+  public int hashCode() {
+    return MoveCodec.PASS;
+  }
 }
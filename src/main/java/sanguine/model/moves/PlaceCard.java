@@ -1,5 +1,6 @@
 package sanguine.model.moves;
 
+import sanguine.model.Player;
 import sanguine.model.SanguineModel;
 
 /**
@@ -30,6 +31,27 @@ public class PlaceCard implements SanguineMove {
     this.indexInHand = indexInHand;
   }
 
+  /**
+   * returns the row of the tile the card is placed on.
+   */
+  int row() {
+    return row;
+  }
+
+  /**
+   * returns the column of the tile the card is placed on.
+   */
+  int col() {
+    return col;
+  }
+
+  /**
+   * returns the index of the placed card in the hand of the player.
+   */
+  int indexInHand() {
+    return indexInHand;
+  }
+
   @Override
   public void affect(SanguineModel model) {
     if (model == null) {
@@ -45,6 +67,20 @@ public class PlaceCard implements SanguineMove {
     }
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Places the card with {@link SanguineModel#tryPlaceCard}.</p>
+   */
+  @Override
+  public MoveResult tryAffect(SanguineModel model, Player player)
+      throws IllegalArgumentException {
+    if (model == null) {
+      throw new IllegalArgumentException("null model");
+    }
+    return model.tryPlaceCard(player, indexInHand, row, col);
+  }
+
   @Override
   public boolean equals(Object o) {
     if (!(o instanceof PlaceCard placeCard)) {
@@ -54,4 +90,9 @@ public class PlaceCard implements SanguineMove {
         && this.indexInHand == placeCard.indexInHand;
   }
 
+  @Override
+  public int hashCode() {
+    return (indexInHand * 31 + row) * 31 + col;
+  }
+
 }
@@ -1,5 +1,6 @@
 package sanguine.model.moves;
 
+import sanguine.model.Player;
 import sanguine.model.SanguineModel;
 
 /**
@@ -15,4 +16,35 @@ public interface SanguineMove {
    * @throws IllegalArgumentException if this move is illegal, or if the model is {@code null}
    */
   void affect(SanguineModel model) throws IllegalArgumentException;
+
+  /**
+   * makes the move on the given model for the given player if it is legal, and otherwise returns
+   * why it isn't without changing the model. Moves should override this to check themselves
+   * rather than relying on exceptions; the default implementation checks that the game isn't
+   * over and that it is the player's turn, then calls {@link #affect} and reports
+   * {@link MoveResult#ILLEGAL_MOVE} if it throws.
+   *
+   * @param model  the model this move should be made on
+   * @param player the player making the move
+   * @return {@link MoveResult#OK} if the move was made, and why it wasn't otherwise
+   * @throws IllegalArgumentException if the model or player is null
+   */
+  default MoveResult tryAffect(SanguineModel model, Player player)
+      throws IllegalArgumentException {
+    if (model == null || player == null) {
+      throw new IllegalArgumentException("model or player is null");
+    }
+    if (model.isGameOver()) {
+      return MoveResult.GAME_OVER;
+    }
+    if (model.getTurn() != player) {
+      return MoveResult.NOT_YOUR_TURN;
+    }
+    try {
+      affect(model);
+    } catch (IllegalArgumentException e) {
+      return MoveResult.ILLEGAL_MOVE;
+    }
+    return MoveResult.OK;
+  }
 }
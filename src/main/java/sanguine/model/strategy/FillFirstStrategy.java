@@ -1,11 +1,9 @@
 package sanguine.model.strategy;
 
-import java.util.List;
-import sanguine.model.Card;
 import sanguine.model.Player;
 import sanguine.model.ReadOnlySanguineModel;
+import sanguine.model.moves.PackedPlacement;
 import sanguine.model.moves.Pass;
-import sanguine.model.moves.PlaceCard;
 import sanguine.model.moves.SanguineMove;
 
 /**
@@ -14,6 +12,9 @@ import sanguine.model.moves.SanguineMove;
  */
 public class FillFirstStrategy implements SanguineStrategy {
 
+  private int[] moves = new int[0];
+  // the buffer legal moves are written into, reused between calls
+
   @Override
   public SanguineMove chooseMove(ReadOnlySanguineModel model, Player player)
       throws IllegalArgumentException {
@@ -25,18 +26,13 @@ public class FillFirstStrategy implements SanguineStrategy {
       return new Pass();
     }
 
-    List<Card> hand = model.getHand(player);
-    int height = model.height();
-    int width = model.width();
-
-    for (int handIndex = 0; handIndex < hand.size(); handIndex++) {
-      for (int row = 0; row < height; row++) {
-        for (int col = 0; col < width; col++) {
-          if (model.canPlayCard(player, handIndex, row, col)) {
-            return new PlaceCard(row, col, handIndex);
-          }
-        }
-      }
+    int size = model.handSize(player) * model.height() * model.width();
+    if (moves.length < size) {
+      moves = new int[size];
+    }
+
+    if (model.legalMoves(player, moves) > 0) {
+      return PackedPlacement.toMove(moves[0]);
     }
 
     return new Pass();
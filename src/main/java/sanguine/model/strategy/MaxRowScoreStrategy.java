@@ -1,11 +1,10 @@
 package sanguine.model.strategy;
 
-import java.util.List;
 import sanguine.model.Card;
 import sanguine.model.Player;
 import sanguine.model.ReadOnlySanguineModel;
+import sanguine.model.moves.PackedPlacement;
 import sanguine.model.moves.Pass;
-import sanguine.model.moves.PlaceCard;
 import sanguine.model.moves.SanguineMove;
 
 /**
@@ -16,6 +15,9 @@ import sanguine.model.moves.SanguineMove;
  */
 public class MaxRowScoreStrategy implements SanguineStrategy {
 
+  private int[] moves = new int[0];
+  // the buffer legal moves are written into, reused between calls
+
   @Override
   public SanguineMove chooseMove(ReadOnlySanguineModel model, Player player)
       throws IllegalArgumentException {
@@ -28,9 +30,8 @@ public class MaxRowScoreStrategy implements SanguineStrategy {
     }
 
     Player opp = (player == Player.RED) ? Player.BLUE : Player.RED;
-    List<Card> hand = model.getHand(player);
     int height = model.height();
-    int width = model.width();
+    int count = -1;
 
     for (int row = 0; row < height; row++) {
       int myScore = model.getRowScore(player, row);
@@ -40,19 +41,24 @@ public class MaxRowScoreStrategy implements SanguineStrategy {
         continue;
       }
 
-      for (int handIndex = 0; handIndex < hand.size(); handIndex++) {
-        Card card = hand.get(handIndex);
-
-        for (int col = 0; col < width; col++) {
-          if (!model.canPlayCard(player, handIndex, row, col)) {
-            continue;
-          }
+      if (count < 0) {
+        int size = model.handSize(player) * height * model.width();
+        if (moves.length < size) {
+          moves = new int[size];
+        }
+        count = model.legalMoves(player, moves);
+      }
 
-          int newMyScore = myScore + card.value();
+      // moves are ordered by hand index, then row, then column
+      for (int i = 0; i < count; i++) {
+        if (PackedPlacement.row(moves[i]) != row) {
+          continue;
+        }
+        Card card = model.handCardAt(player, PackedPlacement.indexInHand(moves[i]));
+        int newMyScore = myScore + card.value();
 
-          if (newMyScore > oppScore) {
-            return new PlaceCard(row, col, handIndex);
-          }
+        if (newMyScore > oppScore) {
+          return PackedPlacement.toMove(moves[i]);
         }
       }
     }
@@ -0,0 +1,356 @@
+package sanguine.model.strategy;
+
+import java.util.Arrays;
+import java.util.Random;
+import sanguine.model.Player;
+import sanguine.model.ReadOnlySanguineModel;
+import sanguine.model.SanguineModel;
+import sanguine.model.moves.MoveCodec;
+import sanguine.model.moves.Pass;
+import sanguine.model.moves.SanguineMove;
+
+/**
+ * a strategy that picks moves by Monte Carlo tree search: it plays many random games out from
+ * the current one and grows a tree of the moves that led to the best results, choosing the move
+ * that was tried most. Moves in the tree are picked by UCT, balancing how well a move has done
+ * against how little it has been tried, and moves of the playouts by a {@link PlayoutPolicy}.
+ *
+ * <p>The search runs on a {@link ReadOnlySanguineModel#fork() fork} of the game, making moves as
+ * {@link MoveCodec} codes with {@link SanguineModel#apply(int)} and taking them all back with
+ * {@link SanguineModel#undo()} after each playout, so only legal moves are ever made and no move
+ * objects or exceptions are made along the way. The tree is kept in flat arrays of nodes.</p>
+ *
+ * <p>A search ends once it has played out the number of games or used the time it is given,
+ * whichever comes first, and is reported by {@link #search} as a {@link SearchReport}. The tree
+ * stops growing once it has as many nodes as it is allowed, and later playouts start from the
+ * leaf they reach, so a long search takes no more memory than a short one. Models that can't be
+ * forked are played by the strategy given to fall back on instead.</p>
+ */
+public class MctsStrategy implements SanguineStrategy {
+
+  /**
+   * the time per move used by default, in milliseconds.
+   */
+  public static final long DEFAULT_MILLIS_PER_MOVE = 500;
+
+  /**
+   * the weight of trying moves that haven't been tried much used by default, the square root of
+   * two.
+   */
+  public static final double DEFAULT_EXPLORATION = Math.sqrt(2);
+
+  /**
+   * the most nodes of the tree used by default, a few megabytes of arrays.
+   */
+  public static final int DEFAULT_MAX_NODES = 1 << 18;
+
+  private static final int NO_CHILDREN = -1;
+
+  private final int maxPlayouts;
+  private final long nanosPerMove;
+  private final int maxNodes;
+  private final PlayoutPolicy policy;
+  private final double exploration;
+  private final Random random;
+  private final SanguineStrategy fallback;
+
+  private int[] moveOf = new int[1024];
+  private int[] parentOf = new int[1024];
+  private int[] firstChildOf = new int[1024];
+  private int[] childCountOf = new int[1024];
+  private int[] visitsOf = new int[1024];
+  private double[] winsOf = new double[1024];
+  private int nodeCount;
+  // INVARIANT: node 0 is the root and nodes 0 to nodeCount - 1 are the tree, no more than
+  // maxNodes of them unless the root alone has more children. Node i was reached by
+  // making moveOf[i] from parentOf[i], its children are the childCountOf[i] nodes from
+  // firstChildOf[i] on (NO_CHILDREN until it is expanded), and winsOf[i] is the wins, counting
+  // ties as half, of the player who made moveOf[i] over the visitsOf[i] playouts through it
+  private int[] moves = new int[0];
+  // the buffer legal moves are written into, reused between calls
+  private SearchReport lastReport;
+
+  /**
+   * constructs a strategy searching for {@link #DEFAULT_MILLIS_PER_MOVE} milliseconds per move
+   * with {@link PlayoutPolicy#PLACE_FIRST} playouts.
+   */
+  public MctsStrategy() {
+    this(Integer.MAX_VALUE, DEFAULT_MILLIS_PER_MOVE, PlayoutPolicy.PLACE_FIRST,
+        DEFAULT_EXPLORATION, new Random());
+  }
+
+  /**
+   * constructs a strategy with the given budget and playouts, falling back on a
+   * {@link MaxRowScoreStrategy} then a {@link FillFirstStrategy} for models that can't be forked.
+   *
+   * @param maxPlayouts   the most games played out per move
+   * @param millisPerMove the most time spent per move, in milliseconds
+   * @param policy        how the moves of playouts are picked
+   * @param exploration   the weight UCT gives trying moves that haven't been tried much
+   * @param random        the source of randomness of the search
+   * @throws IllegalArgumentException if a budget isn't positive, the exploration is negative, or
+   *                                  an argument is null
+   */
+  public MctsStrategy(int maxPlayouts, long millisPerMove, PlayoutPolicy policy,
+                      double exploration, Random random) throws IllegalArgumentException {
+    this(maxPlayouts, millisPerMove, policy, exploration, random,
+        new CombinationStrategy(new MaxRowScoreStrategy(), new FillFirstStrategy()));
+  }
+
+  /**
+   * constructs a strategy with the given settings and a tree of at most
+   * {@link #DEFAULT_MAX_NODES} nodes.
+   *
+   * @param maxPlayouts   the most games played out per move
+   * @param millisPerMove the most time spent per move, in milliseconds
+   * @param policy        how the moves of playouts are picked
+   * @param exploration   the weight UCT gives trying moves that haven't been tried much
+   * @param random        the source of randomness of the search
+   * @param fallback      the strategy playing models that can't be forked
+   * @throws IllegalArgumentException if a budget isn't positive, the exploration is negative, or
+   *                                  an argument is null
+   */
+  public MctsStrategy(int maxPlayouts, long millisPerMove, PlayoutPolicy policy,
+                      double exploration, Random random, SanguineStrategy fallback)
+      throws IllegalArgumentException {
+    this(maxPlayouts, millisPerMove, DEFAULT_MAX_NODES, policy, exploration, random, fallback);
+  }
+
+  /**
+   * constructs a strategy with the given settings.
+   *
+   * @param maxPlayouts   the most games played out per move
+   * @param millisPerMove the most time spent per move, in milliseconds
+   * @param maxNodes      the most nodes of the tree, though the root is always given a child for
+   *                      every move
+   * @param policy        how the moves of playouts are picked
+   * @param exploration   the weight UCT gives trying moves that haven't been tried much
+   * @param random        the source of randomness of the search
+   * @param fallback      the strategy playing models that can't be forked
+   * @throws IllegalArgumentException if a budget isn't positive, the exploration is negative, or
+   *                                  an argument is null
+   */
+  public MctsStrategy(int maxPlayouts, long millisPerMove, int maxNodes, PlayoutPolicy policy,
+                      double exploration, Random random, SanguineStrategy fallback)
+      throws IllegalArgumentException {
+    if (maxPlayouts <= 0 || millisPerMove <= 0 || maxNodes <= 0) {
+      throw new IllegalArgumentException("playouts, time and nodes must be positive");
+    }
+    if (!(exploration >= 0)) {
+      throw new IllegalArgumentException("exploration must not be negative");
+    }
+    if (policy == null || random == null || fallback == null) {
+      throw new IllegalArgumentException("policy, random or fallback is null");
+    }
+    this.maxPlayouts = maxPlayouts;
+    this.nanosPerMove = millisPerMove * 1_000_000L;
+    this.maxNodes = maxNodes;
+    this.policy = policy;
+    this.exploration = exploration;
+    this.random = random;
+    this.fallback = fallback;
+  }
+
+  @Override
+  public SanguineMove chooseMove(ReadOnlySanguineModel model, Player player)
+      throws IllegalArgumentException {
+    return search(model, player).move();
+  }
+
+  /**
+   * chooses a move for the given player as {@link #chooseMove} does, reporting how the search
+   * went.
+   *
+   * @param model  the current game state (readonly)
+   * @param player player this strategy is making a move for
+   * @return the report of the search, with the move to make
+   * @throws IllegalArgumentException if model or player is null
+   */
+  public SearchReport search(ReadOnlySanguineModel model, Player player)
+      throws IllegalArgumentException {
+    if (model == null || player == null) {
+      throw new IllegalArgumentException("model and player must be non-null");
+    }
+    long start = System.nanoTime();
+    if (model.isGameOver() || model.getTurn() != player) {
+      return report(new SearchReport(new Pass(), 0, System.nanoTime() - start, 0));
+    }
+    if (!model.canFork()) {
+      return report(new SearchReport(fallback.chooseMove(model, player), 0,
+          System.nanoTime() - start, 0));
+    }
+    SanguineModel game = model.fork();
+
+    int size = game.getMaxHandSize() * game.width() * game.height() + 1;
+    if (moves.length < size) {
+      moves = new int[size];
+    }
+    nodeCount = 1;
+    moveOf[0] = MoveCodec.PASS;
+    parentOf[0] = -1;
+    firstChildOf[0] = NO_CHILDREN;
+    visitsOf[0] = 0;
+    winsOf[0] = 0;
+    expand(0, game, player);
+
+    long deadline = start + nanosPerMove;
+    int playouts = 0;
+    while (playouts < maxPlayouts && (playouts == 0 || System.nanoTime() - deadline < 0)) {
+      playOut(game, player);
+      playouts += 1;
+    }
+
+    int best = firstChildOf[0];
+    for (int child = best + 1; child < firstChildOf[0] + childCountOf[0]; child++) {
+      if (visitsOf[child] > visitsOf[best]) {
+        best = child;
+      }
+    }
+    double winRate = (visitsOf[best] == 0) ? 0 : winsOf[best] / visitsOf[best];
+    return report(new SearchReport(MoveCodec.decode(moveOf[best]), playouts,
+        System.nanoTime() - start, winRate));
+  }
+
+  @Override
+  public SearchReport lastReport() {
+    return lastReport;
+  }
+
+  /**
+   * returns the number of nodes in the tree of the last search, or 0 if there was none.
+   *
+   * @return the size of the tree
+   */
+  public int treeSize() {
+    return nodeCount;
+  }
+
+  private SearchReport report(SearchReport report) {
+    lastReport = report;
+    return report;
+  }
+
+  /**
+   * walks down the tree from the root by UCT, expands the node it stops at, plays a game out
+   * from there and adds the result to every node on the way, leaving the game as it was.
+   */
+  private void playOut(SanguineModel game, Player player) {
+    int node = 0;
+    int made = 0;
+    Player side = player;
+    while (firstChildOf[node] != NO_CHILDREN) {
+      node = select(node);
+      game.apply(moveOf[node]);
+      made += 1;
+      side = RowPoints.opponent(side);
+    }
+    if (!game.isGameOver() && expand(node, game, side)) {
+      node = firstChildOf[node] + random.nextInt(childCountOf[node]);
+      game.apply(moveOf[node]);
+      made += 1;
+      side = RowPoints.opponent(side);
+    }
+    int depth = made;
+
+    while (!game.isGameOver()) {
+      game.apply(playoutMove(game, side));
+      made += 1;
+      side = RowPoints.opponent(side);
+    }
+    double result = result(game, player);
+    for (int i = 0; i < made; i++) {
+      game.undo();
+    }
+
+    // the move into a node at an odd depth was made by the player searching
+    for (; node >= 0; node = parentOf[node], depth--) {
+      visitsOf[node] += 1;
+      winsOf[node] += (depth % 2 == 1) ? result : 1 - result;
+    }
+  }
+
+  /**
+   * returns the child of the given node with the highest UCT score, or its first child that
+   * hasn't been visited.
+   */
+  private int select(int node) {
+    int first = firstChildOf[node];
+    double logVisits = Math.log(visitsOf[node]);
+    int best = first;
+    double bestScore = Double.NEGATIVE_INFINITY;
+    for (int child = first; child < first + childCountOf[node]; child++) {
+      int visits = visitsOf[child];
+      if (visits == 0) {
+        return child;
+      }
+      double score = winsOf[child] / visits + exploration * Math.sqrt(logVisits / visits);
+      if (score > bestScore) {
+        bestScore = score;
+        best = child;
+      }
+    }
+    return best;
+  }
+
+  /**
+   * adds a child to the given node for every legal move of the given player, and passing, unless
+   * that would make the tree too big. The root is always expanded.
+   *
+   * @return whether the node was expanded
+   */
+  private boolean expand(int node, ReadOnlySanguineModel game, Player side) {
+    int count = game.legalMoves(side, moves);
+    moves[count++] = MoveCodec.PASS;
+    if (node != 0 && nodeCount + count > maxNodes) {
+      return false;
+    }
+    if (nodeCount + count > moveOf.length) {
+      grow(nodeCount + count);
+    }
+    firstChildOf[node] = nodeCount;
+    childCountOf[node] = count;
+    for (int i = 0; i < count; i++) {
+      int child = nodeCount++;
+      moveOf[child] = moves[i];
+      parentOf[child] = node;
+      firstChildOf[child] = NO_CHILDREN;
+      childCountOf[child] = 0;
+      visitsOf[child] = 0;
+      winsOf[child] = 0;
+    }
+    return true;
+  }
+
+  private void grow(int needed) {
+    int capacity = Math.max(needed, Math.min(moveOf.length * 2, maxNodes));
+    moveOf = Arrays.copyOf(moveOf, capacity);
+    parentOf = Arrays.copyOf(parentOf, capacity);
+    firstChildOf = Arrays.copyOf(firstChildOf, capacity);
+    childCountOf = Arrays.copyOf(childCountOf, capacity);
+    visitsOf = Arrays.copyOf(visitsOf, capacity);
+    winsOf = Arrays.copyOf(winsOf, capacity);
+  }
+
+  /**
+   * returns a move of the given player picked by the playout policy.
+   */
+  private int playoutMove(ReadOnlySanguineModel game, Player side) {
+    int count = game.legalMoves(side, moves);
+    return switch (policy) {
+      case RANDOM -> {
+        int pick = random.nextInt(count + 1);
+        yield (pick == count) ? MoveCodec.PASS : moves[pick];
+      }
+      case PLACE_FIRST -> (count == 0) ? MoveCodec.PASS : moves[random.nextInt(count)];
+    };
+  }
+
+  /**
+   * returns 1 if the given player won the given finished game, 0 if they lost, and one half if
+   * it was a tie.
+   */
+  private static double result(ReadOnlySanguineModel game, Player player) {
+    int points = RowPoints.won(game, player);
+    return (points > 0) ? 1 : (points < 0) ? 0 : 0.5;
+  }
+}
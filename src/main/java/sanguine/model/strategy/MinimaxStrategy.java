@@ -0,0 +1,237 @@
+package sanguine.model.strategy;
+
+import sanguine.model.Player;
+import sanguine.model.ReadOnlySanguineModel;
+import sanguine.model.SanguineModel;
+import sanguine.model.moves.MoveCodec;
+import sanguine.model.moves.Pass;
+import sanguine.model.moves.SanguineMove;
+
+/**
+ * a strategy that searches the moves ahead with negamax alpha-beta search on a
+ * {@link ReadOnlySanguineModel#fork() fork} of the game, making and taking back moves with
+ * {@link SanguineModel#apply(int)} and {@link SanguineModel#undo()}. Moves are searched as
+ * {@link MoveCodec} codes, every placement and passing at every turn.
+ *
+ * <p>The search deepens one move at a time until the time per move runs out, the maximum depth
+ * is reached, or every line has been searched to the end of the game. The best move of each
+ * depth is searched first at the next, so when time runs out partway through a depth, the best
+ * move found so far at that depth is at least as good as the last complete depth's. Finished
+ * games are scored by the points won, and positions the search stops at by a
+ * {@link SanguineEvaluation}.</p>
+ *
+ * <p>Models that can't be forked are played by the strategy given to fall back on instead.</p>
+ */
+public class MinimaxStrategy implements SanguineStrategy {
+
+  /**
+   * the time per move used by default, in milliseconds.
+   */
+  public static final long DEFAULT_MILLIS_PER_MOVE = 500;
+
+  /**
+   * the deepest search used by default, in moves.
+   */
+  public static final int DEFAULT_MAX_DEPTH = 64;
+
+  private static final int INFINITY = Integer.MAX_VALUE;
+  private static final int TERMINAL_WEIGHT = 1 << 16;
+  private static final int CLOCK_MASK = (1 << 8) - 1;
+
+  private final long nanosPerMove;
+  private final int maxDepth;
+  private final SanguineEvaluation evaluation;
+  private final SanguineStrategy fallback;
+
+  private int[][] moves = new int[0][];
+  // moves[ply] is the buffer the moves searched at that ply are written into, reused between calls
+  private long deadline;
+  private long nodes;
+  private boolean timedOut;
+  private boolean reachedDepth;
+  private int searchedDepth;
+  // INVARIANT: while searching, timedOut is whether the deadline has passed and reachedDepth is
+  // whether the current depth stopped at a game that isn't over
+
+  /**
+   * constructs a strategy searching for {@link #DEFAULT_MILLIS_PER_MOVE} milliseconds per move.
+   */
+  public MinimaxStrategy() {
+    this(DEFAULT_MILLIS_PER_MOVE);
+  }
+
+  /**
+   * constructs a strategy searching for the given time per move, judging positions with a
+   * {@link RowMarginEvaluation}.
+   *
+   * @param millisPerMove the time per move, in milliseconds
+   * @throws IllegalArgumentException if the time isn't positive
+   */
+  public MinimaxStrategy(long millisPerMove) throws IllegalArgumentException {
+    this(millisPerMove, DEFAULT_MAX_DEPTH, new RowMarginEvaluation(),
+        new CombinationStrategy(new MaxRowScoreStrategy(), new FillFirstStrategy()));
+  }
+
+  /**
+   * constructs a strategy with the given settings.
+   *
+   * @param millisPerMove the time per move, in milliseconds
+   * @param maxDepth      the deepest search, in moves
+   * @param evaluation    the evaluation of positions the search stops at, which should stay well
+   *                      within 65536 points of 0
+   * @param fallback      the strategy playing models that can't be forked
+   * @throws IllegalArgumentException if the time or depth isn't positive or an argument is null
+   */
+  public MinimaxStrategy(long millisPerMove, int maxDepth, SanguineEvaluation evaluation,
+                         SanguineStrategy fallback) throws IllegalArgumentException {
+    if (millisPerMove <= 0 || maxDepth <= 0) {
+      throw new IllegalArgumentException("time and depth must be positive");
+    }
+    if (evaluation == null || fallback == null) {
+      throw new IllegalArgumentException("evaluation or fallback is null");
+    }
+    this.nanosPerMove = millisPerMove * 1_000_000L;
+    this.maxDepth = maxDepth;
+    this.evaluation = evaluation;
+    this.fallback = fallback;
+  }
+
+  @Override
+  public SanguineMove chooseMove(ReadOnlySanguineModel model, Player player)
+      throws IllegalArgumentException {
+    if (model == null || player == null) {
+      throw new IllegalArgumentException("model and player must be non-null");
+    }
+    searchedDepth = 0;
+    if (model.isGameOver() || model.getTurn() != player) {
+      return new Pass();
+    }
+    if (!model.canFork()) {
+      return fallback.chooseMove(model, player);
+    }
+    SanguineModel game = model.fork();
+
+    deadline = System.nanoTime() + nanosPerMove;
+    timedOut = false;
+    nodes = 0;
+    int[] root = new int[maxMoves(game)];
+    int count = legalMovesInto(game, player, root);
+
+    for (int depth = 1; depth <= maxDepth; depth++) {
+      reachedDepth = false;
+      int alpha = -INFINITY;
+      int best = -1;
+      for (int i = 0; i < count; i++) {
+        game.apply(root[i]);
+        int score = -negamax(game, RowPoints.opponent(player), depth - 1, -INFINITY, -alpha, 1);
+        game.undo();
+        if (timedOut) {
+          break;
+        }
+        if (best < 0 || score > alpha) {
+          alpha = score;
+          best = i;
+        }
+      }
+      if (best > 0) {
+        // the best move is searched first at the next depth
+        int move = root[best];
+        System.arraycopy(root, 0, root, 1, best);
+        root[0] = move;
+      }
+      if (timedOut) {
+        break;
+      }
+      searchedDepth = depth;
+      if (!reachedDepth) {
+        break;
+      }
+    }
+    return MoveCodec.decode(root[0]);
+  }
+
+  /**
+   * returns the depth, in moves, of the last search by {@link #chooseMove} that was completed
+   * before its time ran out, or 0 if it didn't search.
+   *
+   * @return the depth of the last complete search
+   */
+  public int searchedDepth() {
+    return searchedDepth;
+  }
+
+  /**
+   * returns the score of the given game for the given player to move, searching the given
+   * number of moves ahead, or 0 if time ran out.
+   */
+  private int negamax(SanguineModel game, Player side, int depth, int alpha, int beta, int ply) {
+    if ((++nodes & CLOCK_MASK) == 0 && System.nanoTime() - deadline >= 0) {
+      timedOut = true;
+    }
+    if (timedOut) {
+      return 0;
+    }
+    if (game.isGameOver()) {
+      return TERMINAL_WEIGHT * RowPoints.won(game, side);
+    }
+    if (depth == 0) {
+      reachedDepth = true;
+      return evaluation.evaluate(game, side);
+    }
+
+    int[] buffer = movesOf(game, ply);
+    int count = legalMovesInto(game, side, buffer);
+    int best = -INFINITY;
+    for (int i = 0; i < count; i++) {
+      game.apply(buffer[i]);
+      int score = -negamax(game, RowPoints.opponent(side), depth - 1, -beta, -alpha, ply + 1);
+      game.undo();
+      if (timedOut) {
+        return 0;
+      }
+      if (score > best) {
+        best = score;
+        if (best > alpha) {
+          alpha = best;
+          if (alpha >= beta) {
+            break;
+          }
+        }
+      }
+    }
+    return best;
+  }
+
+  /**
+   * returns the buffer for the moves at the given ply, large enough for every move of the game.
+   */
+  private int[] movesOf(ReadOnlySanguineModel game, int ply) {
+    if (ply >= moves.length) {
+      int[][] grown = new int[Math.max(ply + 1, moves.length * 2)][];
+      System.arraycopy(moves, 0, grown, 0, moves.length);
+      moves = grown;
+    }
+    int size = maxMoves(game);
+    if (moves[ply] == null || moves[ply].length < size) {
+      moves[ply] = new int[size];
+    }
+    return moves[ply];
+  }
+
+  /**
+   * returns the most moves a player can have in the given game, counting passing.
+   */
+  private static int maxMoves(ReadOnlySanguineModel game) {
+    return game.getMaxHandSize() * game.width() * game.height() + 1;
+  }
+
+  /**
+   * writes every legal placement of the given player and then passing into the buffer, and
+   * returns how many moves were written.
+   */
+  private static int legalMovesInto(ReadOnlySanguineModel game, Player side, int[] buffer) {
+    int count = game.legalMoves(side, buffer);
+    buffer[count] = MoveCodec.PASS;
+    return count + 1;
+  }
+}
@@ -11,6 +11,7 @@ import java.util.Set;
 import sanguine.model.Card;
 import sanguine.model.Player;
 import sanguine.model.ReadOnlySanguineModel;
+import sanguine.model.moves.PackedPlacement;
 
 /**
  * Test mock class for ReadOnlySanguineModel used by strategy tests.
@@ -116,7 +117,7 @@ public class MockReadOnlySanguineModel implements ReadOnlySanguineModel {
   /**
    * Marks the given player, hand index, row, column tuple as a legal move
    * for this mock model. Next calls to {@code canPlayCard} with the
-   * same parameters will return {@code true}.
+   * same parameters will return {@code true}, and {@code legalMoves} will include it.
    *
    * @param player     player for who the move is legal
    * @param handIndex  index of the card in the player's hand
@@ -161,6 +162,26 @@ public class MockReadOnlySanguineModel implements ReadOnlySanguineModel {
     return new ArrayList<Card>(cards);
   }
 
+  @Override
+  public int handSize(Player player) {
+    this.log.append("handSize ").append(player).append("\n");
+    List<Card> cards = this.hands.get(player);
+    return cards == null ? 0 : cards.size();
+  }
+
+  @Override
+  public Card handCardAt(Player player, int indexInHand) {
+    this.log.append("handCardAt ")
+        .append(player)
+        .append(" idx=").append(indexInHand)
+        .append("\n");
+    List<Card> cards = this.hands.get(player);
+    if (cards == null || indexInHand < 0 || indexInHand >= cards.size()) {
+      throw new IllegalArgumentException("index out of bounds for hand");
+    }
+    return cards.get(indexInHand);
+  }
+
   @Override
   public boolean canPlayCard(Player player, int indexInHand, int row, int col) {
     this.log.append("canPlayCard ")
@@ -173,6 +194,23 @@ public class MockReadOnlySanguineModel implements ReadOnlySanguineModel {
     return this.legalMoves.contains(key);
   }
 
+  @Override
+  public int legalMoves(Player player, int[] buffer) {
+    this.log.append("legalMoves ").append(player).append("\n");
+    int handSize = this.hands.get(player).size();
+    int count = 0;
+    for (int handIndex = 0; handIndex < handSize; handIndex++) {
+      for (int row = 0; row < this.height; row++) {
+        for (int col = 0; col < this.width; col++) {
+          if (this.legalMoves.contains(new MoveKey(player, handIndex, row, col))) {
+            buffer[count++] = PackedPlacement.pack(handIndex, row, col);
+          }
+        }
+      }
+    }
+    return count;
+  }
+
   @Override
   public int getRowScore(Player player, int row) throws IllegalArgumentException {
     this.log.append("getRowScore ")
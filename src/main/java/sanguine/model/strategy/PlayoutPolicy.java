@@ -0,0 +1,18 @@
+package sanguine.model.strategy;
+
+/**
+ * how the moves of the random games played out by {@link MctsStrategy} are picked.
+ */
+public enum PlayoutPolicy {
+
+  /**
+   * every placement and passing are equally likely.
+   */
+  RANDOM,
+
+  /**
+   * every placement is equally likely, and players only pass when they can't place a card, so
+   * playouts fill the board like real games do.
+   */
+  PLACE_FIRST
+}
@@ -0,0 +1,52 @@
+package sanguine.model.strategy;
+
+import sanguine.model.Player;
+import sanguine.model.ReadOnlySanguineModel;
+
+/**
+ * a {@link SanguineEvaluation} that judges a game by its row scores: the points the player would
+ * win minus the points the opponent would win if the game ended now, weighted by the row weight,
+ * plus the sum over every row of the player's row score minus the opponent's, weighted by the
+ * margin weight. The first term is the score the game is played for, and the second rewards
+ * leads in rows that could still change hands.
+ */
+public class RowMarginEvaluation implements SanguineEvaluation {
+
+  private final int rowWeight;
+  private final int marginWeight;
+
+  /**
+   * constructs an evaluation weighting won rows four times as much as row margins.
+   */
+  public RowMarginEvaluation() {
+    this(4, 1);
+  }
+
+  /**
+   * constructs an evaluation with the given weights.
+   *
+   * @param rowWeight    the weight of the points won in rows
+   * @param marginWeight the weight of the margins of every row
+   * @throws IllegalArgumentException if either weight is negative
+   */
+  public RowMarginEvaluation(int rowWeight, int marginWeight) throws IllegalArgumentException {
+    if (rowWeight < 0 || marginWeight < 0) {
+      throw new IllegalArgumentException("weights must not be negative");
+    }
+    this.rowWeight = rowWeight;
+    this.marginWeight = marginWeight;
+  }
+
+  @Override
+  public int evaluate(ReadOnlySanguineModel model, Player player) {
+    if (model == null || player == null) {
+      throw new IllegalArgumentException("model or player is null");
+    }
+    Player opponent = RowPoints.opponent(player);
+    int margin = 0;
+    for (int row = 0; row < model.height(); row++) {
+      margin += model.getRowScore(player, row) - model.getRowScore(opponent, row);
+    }
+    return rowWeight * RowPoints.won(model, player) + marginWeight * margin;
+  }
+}
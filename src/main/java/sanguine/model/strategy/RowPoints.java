@@ -0,0 +1,54 @@
+package sanguine.model.strategy;
+
+import sanguine.model.Player;
+import sanguine.model.ReadOnlySanguineModel;
+
+/**
+ * the points a game is played for, shared by the strategies that score games by them: each row
+ * is worth its higher row score to the player who has it, and nothing to either player if the
+ * scores are tied.
+ */
+public final class RowPoints {
+
+  private RowPoints() {
+  }
+
+  /**
+   * returns the points the given player wins in the given game minus the points the opponent
+   * wins, counting only rows each has the higher score in. Once the game is over, this is above
+   * 0 if the player won, below 0 if they lost and 0 if it was a tie.
+   *
+   * @param model  the game
+   * @param player the player the points are counted for
+   * @return the points won by the player minus the points won by the opponent
+   * @throws IllegalArgumentException if model or player is null
+   */
+  public static int won(ReadOnlySanguineModel model, Player player)
+      throws IllegalArgumentException {
+    if (model == null || player == null) {
+      throw new IllegalArgumentException("model or player is null");
+    }
+    Player opponent = opponent(player);
+    int points = 0;
+    for (int row = 0; row < model.height(); row++) {
+      int mine = model.getRowScore(player, row);
+      int theirs = model.getRowScore(opponent, row);
+      if (mine > theirs) {
+        points += mine;
+      } else if (theirs > mine) {
+        points -= theirs;
+      }
+    }
+    return points;
+  }
+
+  /**
+   * returns the other player.
+   *
+   * @param player a player
+   * @return the player that isn't the given one
+   */
+  static Player opponent(Player player) {
+    return (player == Player.RED) ? Player.BLUE : Player.RED;
+  }
+}
@@ -0,0 +1,22 @@
+package sanguine.model.strategy;
+
+import sanguine.model.Player;
+import sanguine.model.ReadOnlySanguineModel;
+
+/**
+ * a heuristic estimate of how good a game of Sanguine that isn't over yet is for a player, used
+ * by searching strategies like {@link MinimaxStrategy} to judge the positions they stop searching
+ * at. Higher is better for the player, and the estimate for one player should be about the
+ * negation of the estimate for the other.
+ */
+public interface SanguineEvaluation {
+
+  /**
+   * returns how good the given game is for the given player.
+   *
+   * @param model  the game, which isn't over
+   * @param player the player the game is judged for
+   * @return the estimate, higher being better for {@code player}
+   */
+  int evaluate(ReadOnlySanguineModel model, Player player);
+}
@@ -21,4 +21,14 @@ public interface SanguineStrategy {
    */
   SanguineMove chooseMove(ReadOnlySanguineModel model, Player player)
       throws IllegalArgumentException;
-}
\ No newline at end of file
+
+  /**
+   * returns the report of the last search this strategy made to choose a move, or null if it
+   * doesn't search or hasn't yet. The default implementation returns null.
+   *
+   * @return the last report
+   */
+  default SearchReport lastReport() {
+    return null;
+  }
+}
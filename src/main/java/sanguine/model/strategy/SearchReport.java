@@ -0,0 +1,102 @@
+package sanguine.model.strategy;
+
+import java.util.Locale;
+import sanguine.model.moves.MoveCodec;
+import sanguine.model.moves.SanguineMove;
+
+/**
+ * the move chosen by a search of {@link MctsStrategy} and how the search went, so the speed of
+ * the engine can be tracked from move to move.
+ */
+public final class SearchReport {
+
+  private final SanguineMove move;
+  private final int playouts;
+  private final long elapsedNanos;
+  private final double winRate;
+
+  /**
+   * constructs a report of a search.
+   *
+   * @param move         the move chosen
+   * @param playouts     the number of games played out
+   * @param elapsedNanos the time the search took, in nanoseconds
+   * @param winRate      the share of the playouts through the chosen move that the player won,
+   *                     counting ties as half
+   * @throws IllegalArgumentException if the move is null or a number is out of range
+   */
+  public SearchReport(SanguineMove move, int playouts, long elapsedNanos, double winRate)
+      throws IllegalArgumentException {
+    if (move == null) {
+      throw new IllegalArgumentException("move is null");
+    }
+    if (playouts < 0 || elapsedNanos < 0 || winRate < 0 || winRate > 1) {
+      throw new IllegalArgumentException("invalid search statistics");
+    }
+    this.move = move;
+    this.playouts = playouts;
+    this.elapsedNanos = elapsedNanos;
+    this.winRate = winRate;
+  }
+
+  /**
+   * returns the move chosen by the search.
+   *
+   * @return the move
+   */
+  public SanguineMove move() {
+    return move;
+  }
+
+  /**
+   * returns the number of games played out by the search.
+   *
+   * @return the number of playouts
+   */
+  public int playouts() {
+    return playouts;
+  }
+
+  /**
+   * returns the time the search took.
+   *
+   * @return the time, in nanoseconds
+   */
+  public long elapsedNanos() {
+    return elapsedNanos;
+  }
+
+  /**
+   * returns the number of games played out per second of search, or 0 if nothing was played out.
+   *
+   * @return the playouts per second
+   */
+  public double playoutsPerSecond() {
+    if (playouts == 0 || elapsedNanos == 0) {
+      return 0;
+    }
+    return playouts * 1e9 / elapsedNanos;
+  }
+
+  /**
+   * returns the share of the playouts through the chosen move that the player won, counting ties
+   * as half a win.
+   *
+   * @return the win rate, from 0 to 1
+   */
+  public double winRate() {
+    return winRate;
+  }
+
+  @Override
+  public String toString() {
+    String name;
+    try {
+      name = MoveCodec.toString(MoveCodec.encode(move));
+    } catch (IllegalArgumentException e) {
+      name = move.toString();
+    }
+    return String.format(Locale.US, "%s after %d playouts in %.1f ms (%.0f/s, %.2f won)",
+        name, playouts, elapsedNanos / 1e6, playoutsPerSecond(), winRate);
+  }
+}
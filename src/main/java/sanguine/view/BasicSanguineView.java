@@ -15,6 +15,7 @@ import javax.swing.JLabel;
 import javax.swing.JOptionPane;
 import javax.swing.JPanel;
 import javax.swing.JSplitPane;
+import sanguine.model.BoardBuffer;
 import sanguine.model.Card;
 import sanguine.model.Player;
 import sanguine.model.ReadOnlySanguineModel;
@@ -34,6 +35,8 @@ public class BasicSanguineView extends JFrame implements SanguineView, SanguineE
   private final List<List<JTilePanel>> tilePanels;
   private final JPanel boardPanel;
   private final Player player;
+  private final BoardBuffer board;
+  // the board as of the last refresh, copied from the model in one call
   private Optional<Card> clickedCard;
   private Optional<int[]> clickedTile;
 
@@ -53,6 +56,7 @@ public class BasicSanguineView extends JFrame implements SanguineView, SanguineE
     }
     this.model = model;
     this.player = player;
+    this.board = new BoardBuffer(model.width(), model.height());
 
 
     setSize(800, 600);
@@ -97,7 +101,9 @@ public class BasicSanguineView extends JFrame implements SanguineView, SanguineE
   protected void refreshHand() {
     cardsPanel.removeAll();
     cardPanels.clear();
-    for (Card card : model.getHand(player)) {
+    int handSize = model.handSize(player);
+    for (int indexInHand = 0; indexInHand < handSize; indexInHand++) {
+      Card card = model.handCardAt(player, indexInHand);
       JCardPanel cardPanel = switch (player) {
         case RED -> new RedJCardPanel(card);
         case BLUE -> new BlueJCardPanel(card);
@@ -114,6 +120,7 @@ public class BasicSanguineView extends JFrame implements SanguineView, SanguineE
    * are up to date with the model.
    */
   protected void refreshGameBoard() {
+    model.copyBoardInto(board);
     boardPanel.removeAll();
     tilePanels.clear();
     for (int row = 0; row < model.height(); row++) {
@@ -131,7 +138,8 @@ public class BasicSanguineView extends JFrame implements SanguineView, SanguineE
   }
 
   /**
-   * constructs and returns a new JTilePanel representing the tile at the given place in the model.
+   * constructs and returns a new JTilePanel representing the tile at the given place in the model,
+   * as of the last copy of the board taken by {@link #refreshGameBoard()}.
    *
    * @param row the row of the tile
    * @param col the column of the tile
@@ -143,20 +151,22 @@ public class BasicSanguineView extends JFrame implements SanguineView, SanguineE
     if (row < 0 || col < 0 || row >= model.height() || col >= model.width()) {
       throw new IllegalArgumentException("row or col is out of bounds");
     }
-    if (!model.hasOwner(row, col)) {
+    Player owner = board.owner(row, col);
+    if (owner == null) {
       return new EmptyJtilePanel(row, col);
     }
 
-    Player owner = model.ownerAt(row, col);
-    if (model.isCardAt(row, col)) {
-      return new CardJtilePanel(row, col, model.cardAt(row, col), owner);
+    Card card = board.card(row, col);
+    if (card != null) {
+      return new CardJtilePanel(row, col, card, owner);
     }
 
-    return new PawnsJtilePanel(row, col, model.pawnsAt(row, col), owner);
+    return new PawnsJtilePanel(row, col, board.pawns(row, col), owner);
   }
 
   /**
-   * returns the score panel on the given players side of the board.
+   * returns the score panel on the given players side of the board, as of the last copy of the
+   * board taken by {@link #refreshGameBoard()}.
    *
    * @param row    the row of the panel
    * @param player the player whose side the panel is on
@@ -164,9 +174,10 @@ public class BasicSanguineView extends JFrame implements SanguineView, SanguineE
    * @throws IllegalArgumentException if the row is out of bounds
    */
   protected JPanel scorePanel(int row, Player player) {
-    Player rowWinner = model.getRowWinner(row).orElse(null);
+    int score = board.rowScore(player, row);
+    int opponentScore = board.rowScore(player == Player.RED ? Player.BLUE : Player.RED, row);
     Color c;
-    if (rowWinner != player) {
+    if (score <= opponentScore) {
       c = Color.LIGHT_GRAY;
     } else {
       c = switch (player) {
@@ -178,7 +189,6 @@ public class BasicSanguineView extends JFrame implements SanguineView, SanguineE
     JPanel scorePanel = new JPanel();
     scorePanel.setBackground(c);
 
-    int score = model.getRowScore(player, row);
     JLabel scoreLabel = new JLabel(String.valueOf(score));
     scoreLabel.setFont(new Font("Arial", Font.BOLD, 24));
     scoreLabel.setForeground(Color.BLACK);
@@ -1,6 +1,6 @@
 package sanguine.view;
 
-import sanguine.model.Card;
+import sanguine.model.BoardBuffer;
 import sanguine.model.Player;
 import sanguine.model.SanguineModel;
 
@@ -19,6 +19,9 @@ import sanguine.model.SanguineModel;
  */
 public final class SanguineTextView {
 
+  private BoardBuffer board;
+  // the buffer the board is copied into, reused while the board size stays the same
+
   /**
    * Renders the entire board + row-scores (one row per line).
    */
@@ -26,37 +29,31 @@ public final class SanguineTextView {
     StringBuilder sb = new StringBuilder();
     int h = m.height();
     int w = m.width();
+    if (board == null || !board.fits(w, h)) {
+      board = new BoardBuffer(w, h);
+    }
+    m.copyBoardInto(board);
+    int[] owners = board.owners();
+    int[] pawns = board.pawns();
+    int[] cardIds = board.cardIds();
 
     for (int r = 0; r < h; r++) {
-      int redScore = 0;
-      int blueScore = 0;
-
       StringBuilder row = new StringBuilder();
       for (int c = 0; c < w; c++) {
-        if (m.isCardAt(r, c)) {
-          Player owner = m.ownerAt(r, c);
-          Card card = m.cardAt(r, c);
-          if (owner == Player.RED) {
-            redScore += card.value();
-            row.append('R');
-          } else {
-            blueScore += card.value();
-            row.append('B');
-          }
+        int tile = r * w + c;
+        if (cardIds[tile] != BoardBuffer.NONE) {
+          row.append(owners[tile] == Player.RED.ordinal() ? 'R' : 'B');
+        } else if (owners[tile] != BoardBuffer.NONE) {
+          row.append((char) ('0' + pawns[tile]));
         } else {
-          if (m.hasOwner(r, c)) {
-            int count = m.pawnsAt(r, c);
-            row.append((char) ('0' + count));
-          } else {
-            row.append('_');
-          }
+          row.append('_');
         }
       }
 
-      sb.append(redScore).append(' ')
+      sb.append(board.rowScore(Player.RED, r)).append(' ')
           .append(row)
           .append(' ')
-          .append(blueScore);
+          .append(board.rowScore(Player.BLUE, r));
 
       if (r < h - 1) {
         sb.append('\n');
@@ -0,0 +1,201 @@
+package sanguine;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+import sanguine.controller.GameStateListener;
+import sanguine.model.ConcurrentSanguineModel;
+import sanguine.model.Player;
+import sanguine.model.ReadOnlySanguineModel;
+import sanguine.model.SanguineModel;
+import sanguine.model.moves.MoveCodec;
+import sanguine.model.moves.Pass;
+import sanguine.model.moves.PlaceCard;
+import sanguine.model.moves.SanguineMove;
+
+/**
+ * tests for {@link SanguineModel#applyAll(List)} and {@link SanguineModel#applyAll(int[], int)}.
+ */
+public class ApplyAllTests {
+
+  /**
+   * returns the moves of a random game played to the end from {@code newGame(seed)}.
+   */
+  private static List<SanguineMove> recordGame(long seed) {
+    SanguineModel g = BasicSanguineUndoTests.newGame(seed);
+    Random rng = new Random(seed);
+    List<SanguineMove> moves = new ArrayList<>();
+    while (!g.isGameOver()) {
+      List<SanguineMove> legal = BasicSanguineUndoTests.legalMoves(g);
+      // only passes when it has to, so that games are long
+      SanguineMove move = legal.get(rng.nextInt(Math.max(1, legal.size() - 1)));
+      g.makeTurn(move);
+      moves.add(move);
+    }
+    return moves;
+  }
+
+  private static int[] encode(List<SanguineMove> moves) {
+    int[] codes = new int[moves.size()];
+    for (int i = 0; i < codes.length; i++) {
+      codes[i] = MoveCodec.encode(moves.get(i));
+    }
+    return codes;
+  }
+
+  private static List<String> listen(SanguineModel g) {
+    List<String> alerts = new ArrayList<>();
+    g.register(new GameStateListener() {
+      @Override
+      public void alertTurn(Player player) {
+        alerts.add("turn " + player);
+      }
+
+      @Override
+      public void gameOver() {
+        alerts.add("game over");
+      }
+
+      @Override
+      public void startGame() {
+        alerts.add("start");
+      }
+    });
+    return alerts;
+  }
+
+  @Test
+  public void applyingEveryPrefixMatchesMakingTheMovesOneByOne() {
+    for (long seed = 0; seed < 10; seed++) {
+      List<SanguineMove> moves = recordGame(seed);
+      int[] codes = encode(moves);
+      SanguineModel oneByOne = BasicSanguineUndoTests.newGame(seed);
+      for (int n = 0; n <= moves.size(); n++) {
+        SanguineModel byList = BasicSanguineUndoTests.newGame(seed);
+        byList.applyAll(moves.subList(0, n));
+        SanguineModel byCode = BasicSanguineUndoTests.newGame(seed);
+        byCode.applyAll(codes, n);
+        String expected = BasicSanguineUndoTests.describe(oneByOne);
+        assertEquals(expected, BasicSanguineUndoTests.describe(byList));
+        assertEquals(expected, BasicSanguineUndoTests.describe(byCode));
+        assertEquals(oneByOne.stateHash(), byList.stateHash());
+        assertEquals(expected, BasicSanguineUndoTests.describe(byCode.snapshot()));
+        assertEquals(BasicSanguineUndoTests.legalCodes(oneByOne), BasicSanguineUndoTests.legalCodes(byList));
+        assertEquals(BasicSanguineUndoTests.legalCodes(oneByOne), BasicSanguineUndoTests.legalCodes(byCode));
+        if (n < moves.size()) {
+          oneByOne.makeTurn(moves.get(n));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void listenersAreAlertedOnceAfterTheLastMove() {
+    List<SanguineMove> moves = recordGame(3);
+    SanguineModel g = BasicSanguineUndoTests.newGame(3);
+    List<String> alerts = listen(g);
+    g.applyAll(moves.subList(0, 5));
+    assertEquals(List.of("turn " + g.getTurn()), alerts);
+    alerts.clear();
+    g.applyAll(List.of());
+    g.applyAll(new int[0], 0);
+    assertEquals(List.of(), alerts);
+    g.applyAll(encode(moves.subList(5, moves.size())), moves.size() - 5);
+    assertTrue(g.isGameOver());
+    assertEquals(List.of("game over"), alerts);
+  }
+
+  @Test
+  public void anIllegalMoveLeavesTheModelUnchanged() {
+    List<SanguineMove> moves = new ArrayList<>(recordGame(5).subList(0, 6));
+    SanguineModel g = BasicSanguineUndoTests.newGame(5);
+    g.applyAll(moves.subList(0, 2));
+    String before = BasicSanguineUndoTests.describe(g);
+    long hash = g.stateHash();
+    List<String> alerts = listen(g);
+    moves.add(new PlaceCard(0, 0, 99));
+    try {
+      g.applyAll(moves.subList(2, moves.size()));
+      fail("an illegal move was made");
+    } catch (IllegalStateException e) {
+      assertEquals(before, BasicSanguineUndoTests.describe(g));
+    }
+    int[] codes = encode(moves.subList(2, moves.size()));
+    try {
+      g.applyAll(codes, codes.length);
+      fail("an illegal move was made");
+    } catch (IllegalStateException e) {
+      assertEquals(before, BasicSanguineUndoTests.describe(g));
+    }
+    assertEquals(hash, g.stateHash());
+    assertEquals(List.of(), alerts);
+    g.applyAll(codes, codes.length - 1);
+    assertEquals(1, alerts.size());
+  }
+
+  @Test
+  public void aBatchAfterAnAppliedMoveIsUndoneWithIt() {
+    SanguineModel g = BasicSanguineUndoTests.newGame(2);
+    String start = BasicSanguineUndoTests.describe(g);
+    ReadOnlySanguineModel snapshot = g.snapshot();
+    List<String> alerts = listen(g);
+    g.register(new GameStateListener() {
+      @Override
+      public void moveMade(Player player, int move) {
+        alerts.add("move " + player);
+      }
+
+      @Override
+      public void alertTurn(Player player) {
+      }
+
+      @Override
+      public void gameOver() {
+      }
+
+      @Override
+      public void startGame() {
+      }
+    });
+    g.apply(new Pass());
+    g.applyAll(List.of(new Pass()));
+    assertTrue(g.isGameOver());
+    // the batch is undone with the applied move, so it alerts no one either
+    assertEquals(List.of(), alerts);
+    assertSame(snapshot, g.snapshot());
+    g.undo();
+    assertEquals(start, BasicSanguineUndoTests.describe(g));
+  }
+
+  @Test
+  public void aWrappedModelPassesOnTheSingleAlert() {
+    List<SanguineMove> moves = recordGame(7);
+    SanguineModel g = new ConcurrentSanguineModel(BasicSanguineUndoTests.newGame(7));
+    List<String> alerts = listen(g);
+    g.applyAll(moves);
+    assertEquals(List.of("game over"), alerts);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void aNullMoveThrows() {
+    List<SanguineMove> moves = new ArrayList<>();
+    moves.add(null);
+    BasicSanguineUndoTests.newGame(0).applyAll(moves);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void aCountPastTheCodesThrows() {
+    BasicSanguineUndoTests.newGame(0).applyAll(new int[] {MoveCodec.PASS}, 2);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void somethingOtherThanAMoveCodeThrows() {
+    BasicSanguineUndoTests.newGame(0).applyAll(new int[] {MoveCodec.PASS, -7}, 2);
+  }
+}
@@ -0,0 +1,122 @@
+package sanguine;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+import sanguine.controller.GameStateListener;
+import sanguine.model.BasicSanguine;
+import sanguine.model.Player;
+import sanguine.model.SanguineModel;
+import sanguine.model.moves.Pass;
+import sanguine.model.moves.SanguineMove;
+
+/**
+ * tests for {@link BasicSanguine#fork()}. States are compared with
+ * {@link BasicSanguineUndoTests#describe(sanguine.model.ReadOnlySanguineModel)}.
+ */
+public class BasicSanguineForkTests {
+
+  @Test
+  public void forkAndParentPlayIndependentlyThroughoutRandomGames() {
+    for (long seed = 0; seed < 30; seed++) {
+      SanguineModel g = BasicSanguineUndoTests.newGame(seed);
+      Random rng = new Random(seed);
+      while (!g.isGameOver()) {
+        String before = describe(g);
+        SanguineModel fork = g.fork();
+        assertEquals(before, describe(fork));
+
+        SanguineModel replay = fork.fork();
+        Random forkRng = new Random(seed + 1000);
+        while (!fork.isGameOver()) {
+          List<SanguineMove> moves = BasicSanguineUndoTests.legalMoves(fork);
+          fork.makeTurn(moves.get(forkRng.nextInt(moves.size())));
+        }
+        assertEquals(before, describe(g));
+        assertEquals(before, describe(replay));
+
+        List<SanguineMove> moves = BasicSanguineUndoTests.legalMoves(g);
+        g.makeTurn(moves.get(rng.nextInt(moves.size())));
+        assertEquals(before, describe(replay));
+      }
+    }
+  }
+
+  @Test
+  public void forkMatchesGamePlayedFromTheStart() {
+    for (long seed = 0; seed < 30; seed++) {
+      SanguineModel g = BasicSanguineUndoTests.newGame(seed);
+      List<SanguineMove> played = new ArrayList<>();
+      Random rng = new Random(seed);
+      for (int i = 0; i < 4 && !g.isGameOver(); i++) {
+        List<SanguineMove> moves = BasicSanguineUndoTests.legalMoves(g);
+        SanguineMove move = moves.get(rng.nextInt(moves.size()));
+        g.makeTurn(move);
+        played.add(move);
+      }
+
+      SanguineModel fork = g.fork();
+      SanguineModel replay = BasicSanguineUndoTests.newGame(seed);
+      for (SanguineMove move : played) {
+        replay.makeTurn(move);
+      }
+      while (!replay.isGameOver()) {
+        List<SanguineMove> moves = BasicSanguineUndoTests.legalMoves(replay);
+        SanguineMove move = moves.get(rng.nextInt(moves.size()));
+        replay.makeTurn(move);
+        fork.makeTurn(move);
+        assertEquals(describe(replay), describe(fork));
+      }
+    }
+  }
+
+  @Test
+  public void forkCanApplyAndUndo() {
+    SanguineModel g = BasicSanguineUndoTests.newGame(3);
+    SanguineModel fork = g.fork();
+    String before = describe(fork);
+    for (SanguineMove move : BasicSanguineUndoTests.legalMoves(fork)) {
+      fork.apply(move);
+      assertNotEquals(describe(g), describe(fork));
+      fork.undo();
+      assertEquals(before, describe(fork));
+    }
+    assertEquals(before, describe(g));
+  }
+
+  @Test
+  public void forkDoesNotAlertParentListeners() {
+    SanguineModel g = BasicSanguineUndoTests.newGame(1);
+    List<String> alerts = new ArrayList<>();
+    g.register(new GameStateListener() {
+      @Override
+      public void alertTurn(Player player) {
+        alerts.add("turn " + player);
+      }
+
+      @Override
+      public void gameOver() {
+        alerts.add("game over");
+      }
+
+      @Override
+      public void startGame() {
+        alerts.add("start");
+      }
+    });
+    SanguineModel fork = g.fork();
+    fork.makeTurn(new Pass());
+    fork.makeTurn(new Pass());
+    assertEquals(List.of(), alerts);
+    g.pass();
+    assertEquals(List.of("turn BLUE"), alerts);
+  }
+
+  private static String describe(SanguineModel g) {
+    return BasicSanguineUndoTests.describe(g);
+  }
+}
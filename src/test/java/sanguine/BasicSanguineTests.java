@@ -8,16 +8,22 @@ import static org.junit.Assert.fail;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
+import java.util.Random;
 import org.junit.Test;
 import sanguine.controller.GameStateListener;
 import sanguine.model.BasicSanguine;
 import sanguine.model.Card;
+import sanguine.model.CardFileReader;
 import sanguine.model.InfluenceGridTile;
 import sanguine.model.Player;
 import sanguine.model.SanguineCard;
 import sanguine.model.SanguineModel;
+import sanguine.model.moves.PackedPlacement;
 
 /**
  * a suite of tests for the {@link BasicSanguine} class.
@@ -238,6 +244,21 @@ public class BasicSanguineTests {
     assertTrue(g.isGameOver());
   }
 
+  @Test
+  public void remainingEmptyTiles_countsDownToGameOver() throws Exception {
+    Path deck = writeTempDeckNoInfluence(1);
+    SanguineModel g = new BasicSanguine(3, 1, 1, deck.toString(), deck.toString());
+    assertEquals(3, g.remainingEmptyTiles());
+    g.placeCard(0, 0, 0);
+    assertEquals(2, g.remainingEmptyTiles());
+    g.placeCard(0, 0, 2);
+    assertEquals(1, g.remainingEmptyTiles());
+    assertFalse(g.isGameOver());
+    g.pass();
+    assertEquals(1, g.remainingEmptyTiles());
+    assertFalse(g.isGameOver());
+  }
+
   @Test
   public void testScoreIncreasesAfterCardPlaced() throws Exception {
     Path deck = writeTempDeckNoInfluence(1);
@@ -254,6 +275,116 @@ public class BasicSanguineTests {
     assertEquals(0, g.getScore());
   }
 
+  @Test
+  public void testScoresMatchBoardThroughoutRandomGames() {
+    for (long seed = 0; seed < 20; seed++) {
+      SanguineModel g = new BasicSanguine(5, 3, 4, "./docs/example.deck", "./docs/example.deck",
+          true, seed);
+      Random rng = new Random(seed);
+      assertScoresMatchBoard(g);
+      while (!g.isGameOver()) {
+        Player turn = g.getTurn();
+        int idx = rng.nextInt(g.getHand(turn).size());
+        int row = rng.nextInt(g.height());
+        int col = rng.nextInt(g.width());
+        if (g.canPlayCard(turn, idx, row, col)) {
+          g.placeCard(idx, row, col);
+        } else if (rng.nextInt(8) == 0) {
+          g.pass();
+        }
+        assertScoresMatchBoard(g);
+      }
+    }
+  }
+
+  @Test
+  public void testLegalMovesMatchCanPlayCardThroughoutRandomGames() {
+    int[] buffer = new int[4 * 5 * 3];
+    for (long seed = 0; seed < 20; seed++) {
+      SanguineModel g = new BasicSanguine(5, 3, 4, "./docs/example.deck", "./docs/example.deck",
+          true, seed);
+      Random rng = new Random(seed);
+      while (!g.isGameOver()) {
+        Player turn = g.getTurn();
+        assertEquals(0, g.legalMoves(turn == Player.RED ? Player.BLUE : Player.RED, buffer));
+        int count = g.legalMoves(turn, buffer);
+        int expected = 0;
+        for (int idx = 0; idx < g.getHand(turn).size(); idx++) {
+          for (int row = 0; row < g.height(); row++) {
+            for (int col = 0; col < g.width(); col++) {
+              if (g.canPlayCard(turn, idx, row, col)) {
+                assertEquals(PackedPlacement.pack(idx, row, col), buffer[expected]);
+                expected += 1;
+              }
+            }
+          }
+        }
+        assertEquals(expected, count);
+
+        if (count == 0 || rng.nextInt(8) == 0) {
+          g.pass();
+        } else {
+          g.makeTurn(PackedPlacement.toMove(buffer[rng.nextInt(count)]));
+        }
+      }
+      assertEquals(0, g.legalMoves(Player.RED, buffer));
+    }
+  }
+
+  @Test
+  public void testSeededShuffleDealsLikeShufflingTheCardList() {
+    for (long seed = 0; seed < 20; seed++) {
+      List<Card> red = new ArrayList<>(CardFileReader.read("./docs/example.deck").reversed());
+      List<Card> blue = new ArrayList<>(CardFileReader.read("./docs/example.deck").reversed());
+      Random rng = new Random(seed);
+      Collections.shuffle(red, rng);
+      Collections.shuffle(blue, rng);
+
+      SanguineModel g = new BasicSanguine(5, 3, 4, "./docs/example.deck", "./docs/example.deck",
+          true, seed);
+      assertEquals(red.subList(red.size() - 4, red.size()).reversed(), g.getHand(Player.RED));
+      assertEquals(blue.subList(blue.size() - 4, blue.size()).reversed(),
+          g.getHand(Player.BLUE));
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testLegalMovesThrowsWhenBufferTooSmall() {
+    SanguineModel g = new BasicSanguine(5, 3, 4, "./docs/example.deck", "./docs/example.deck",
+        true, 1L);
+    g.legalMoves(Player.RED, new int[0]);
+  }
+
+  /**
+   * recomputes every row score and the total scores from the cards on the board, and checks them
+   * against the scores reported by the model.
+   */
+  private static void assertScoresMatchBoard(SanguineModel g) {
+    int red = 0;
+    int blue = 0;
+    for (int row = 0; row < g.height(); row++) {
+      int redRow = 0;
+      int blueRow = 0;
+      for (int col = 0; col < g.width(); col++) {
+        if (g.isCardAt(row, col)) {
+          if (g.ownerAt(row, col) == Player.RED) {
+            redRow += g.cardAt(row, col).value();
+          } else {
+            blueRow += g.cardAt(row, col).value();
+          }
+        }
+      }
+      assertEquals(redRow, g.getRowScore(Player.RED, row));
+      assertEquals(blueRow, g.getRowScore(Player.BLUE, row));
+      assertEquals(Math.max(redRow, blueRow), g.getScoreOfRow(row));
+      red += (redRow > blueRow) ? redRow : 0;
+      blue += (blueRow > redRow) ? blueRow : 0;
+    }
+    assertEquals(Math.max(red, blue), g.getScore());
+    assertEquals(red > blue ? Optional.of(Player.RED)
+        : blue > red ? Optional.of(Player.BLUE) : Optional.empty(), g.getWinning());
+  }
+
   @Test(expected = IllegalArgumentException.class)
   public void testGetRowWinnerThrowsExceptionWithOutOfBoundsRow() throws Exception {
     Path deck = writeTempDeckPlusCross(8);
@@ -0,0 +1,204 @@
+package sanguine;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+import sanguine.controller.GameStateListener;
+import sanguine.model.BasicSanguine;
+import sanguine.model.Player;
+import sanguine.model.ReadOnlySanguineModel;
+import sanguine.model.SanguineModel;
+import sanguine.model.moves.Pass;
+import sanguine.model.moves.PlaceCard;
+import sanguine.model.moves.SanguineMove;
+
+/**
+ * tests for {@link BasicSanguine#apply(SanguineMove)} and {@link BasicSanguine#undo()}. States
+ * are compared through {@link #describe(ReadOnlySanguineModel)}, which lists everything a player can
+ * observe about a model.
+ */
+public class BasicSanguineUndoTests {
+
+  @Test
+  public void applyThenUndoRestoresStateThroughoutRandomGames() {
+    for (long seed = 0; seed < 30; seed++) {
+      SanguineModel g = newGame(seed);
+      Random rng = new Random(seed);
+      while (!g.isGameOver()) {
+        String before = describe(g);
+        List<Integer> legalBefore = legalCodes(g);
+        List<SanguineMove> moves = legalMoves(g);
+        for (SanguineMove move : moves) {
+          g.apply(move);
+          g.undo();
+          assertEquals(before, describe(g));
+          assertEquals(legalBefore, legalCodes(g));
+        }
+        g.makeTurn(moves.get(rng.nextInt(moves.size())));
+      }
+    }
+  }
+
+  @Test
+  public void deepApplyThenUndoAllRestoresInitialState() {
+    for (long seed = 0; seed < 30; seed++) {
+      SanguineModel g = newGame(seed);
+      SanguineModel replay = newGame(seed);
+      Random rng = new Random(seed);
+      List<String> states = new ArrayList<>();
+      while (!g.isGameOver()) {
+        states.add(describe(g) + legalCodes(g));
+        List<SanguineMove> moves = legalMoves(g);
+        SanguineMove move = moves.get(rng.nextInt(moves.size()));
+        g.apply(move);
+        replay.makeTurn(move);
+        assertEquals(describe(replay), describe(g));
+      }
+      for (int i = states.size() - 1; i >= 0; i--) {
+        g.undo();
+        assertEquals(states.get(i), describe(g) + legalCodes(g));
+      }
+    }
+  }
+
+  @Test
+  public void illegalApplyLeavesModelUnchanged() {
+    SanguineModel g = newGame(1);
+    String before = describe(g);
+    try {
+      g.apply(new PlaceCard(1, 2, 0));
+      fail("Expected IllegalStateException for a tile RED doesn't own");
+    } catch (IllegalStateException expected) {
+    }
+    assertEquals(before, describe(g));
+    try {
+      g.undo();
+      fail("Expected IllegalStateException, there is nothing to undo");
+    } catch (IllegalStateException expected) {
+    }
+  }
+
+  @Test
+  public void applyingAMoveToAFinishedGameLeavesEarlierMovesUndoable() {
+    SanguineModel g = newGame(1);
+    String start = describe(g);
+    g.apply(new Pass());
+    String afterOnePass = describe(g);
+    g.apply(new Pass());
+    assertTrue(g.isGameOver());
+    try {
+      // unlike Pass, this move lets the model's IllegalStateException through
+      g.apply(SanguineModel::pass);
+      fail("Expected IllegalStateException, the game is over");
+    } catch (IllegalStateException expected) {
+    }
+    g.undo();
+    assertFalse(g.isGameOver());
+    assertEquals(afterOnePass, describe(g));
+    g.undo();
+    assertEquals(start, describe(g));
+  }
+
+  @Test
+  public void applyDoesNotAlertListeners() {
+    SanguineModel g = newGame(1);
+    List<String> alerts = new ArrayList<>();
+    g.register(new GameStateListener() {
+      @Override
+      public void alertTurn(Player player) {
+        alerts.add("turn " + player);
+      }
+
+      @Override
+      public void gameOver() {
+        alerts.add("game over");
+      }
+
+      @Override
+      public void startGame() {
+        alerts.add("start");
+      }
+    });
+    g.apply(new Pass());
+    g.apply(new Pass());
+    assertEquals(List.of(), alerts);
+    g.undo();
+    g.undo();
+    assertFalse(g.isGameOver());
+    g.pass();
+    assertEquals(List.of("turn BLUE"), alerts);
+  }
+
+  static SanguineModel newGame(long seed) {
+    return new BasicSanguine(5, 3, 4, "./docs/example.deck", "./docs/example.deck", true, seed);
+  }
+
+  /**
+   * returns every legal move for the current player, including passing.
+   */
+  static List<SanguineMove> legalMoves(SanguineModel g) {
+    List<SanguineMove> moves = new ArrayList<>();
+    Player turn = g.getTurn();
+    for (int idx = 0; idx < g.getHand(turn).size(); idx++) {
+      for (int row = 0; row < g.height(); row++) {
+        for (int col = 0; col < g.width(); col++) {
+          if (g.canPlayCard(turn, idx, row, col)) {
+            moves.add(new PlaceCard(row, col, idx));
+          }
+        }
+      }
+    }
+    moves.add(new Pass());
+    return moves;
+  }
+
+  /**
+   * returns the codes of the legal placements of the player whose turn it is, or none if the game
+   * is over.
+   */
+  static List<Integer> legalCodes(ReadOnlySanguineModel g) {
+    List<Integer> codes = new ArrayList<>();
+    if (!g.isGameOver()) {
+      int[] buffer = new int[1024];
+      int count = g.legalMoves(g.getTurn(), buffer);
+      for (int i = 0; i < count; i++) {
+        codes.add(buffer[i]);
+      }
+    }
+    return codes;
+  }
+
+  /**
+   * returns a description of everything observable about the given model.
+   */
+  static String describe(ReadOnlySanguineModel g) {
+    StringBuilder sb = new StringBuilder();
+    sb.append(g.isGameOver() ? "over" : g.getTurn()).append('\n');
+    for (Player player : Player.values()) {
+      sb.append(player).append(' ').append(g.getHand(player)).append('\n');
+    }
+    for (int row = 0; row < g.height(); row++) {
+      for (int col = 0; col < g.width(); col++) {
+        if (g.isCardAt(row, col)) {
+          sb.append(g.ownerAt(row, col)).append(':').append(g.cardAt(row, col).name());
+        } else if (g.hasOwner(row, col)) {
+          sb.append(g.ownerAt(row, col)).append(':').append(g.pawnsAt(row, col));
+        } else {
+          sb.append('_');
+        }
+        sb.append(' ');
+      }
+      sb.append(g.getRowScore(Player.RED, row)).append('/')
+          .append(g.getRowScore(Player.BLUE, row)).append('\n');
+    }
+    sb.append(g.getWinning()).append(' ').append(g.getScore()).append(' ')
+        .append(g.remainingEmptyTiles());
+    return sb.toString();
+  }
+}
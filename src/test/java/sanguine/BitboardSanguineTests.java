@@ -0,0 +1,329 @@
+package sanguine;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Random;
+import org.junit.Test;
+import sanguine.model.BasicSanguine;
+import sanguine.model.BitboardSanguine;
+import sanguine.model.Player;
+import sanguine.model.SanguineModel;
+import sanguine.model.moves.SanguineMove;
+
+/**
+ * a suite of tests for the {@link BitboardSanguine} class. Besides the rules checks, games are
+ * played on a {@link BitboardSanguine} and a {@link BasicSanguine} side by side to make sure the
+ * two implementations can't be told apart.
+ */
+public class BitboardSanguineTests {
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testEvenWidthThrowsException() {
+    new BitboardSanguine(6, 3, 1, "./docs/example.deck", "./docs/example.deck");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNotEnoughCardsThrowsException() {
+    new BitboardSanguine(7, 5, 1, "./docs/example.deck", "./docs/example.deck");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void test3OfSameCardRedDeckThrowsException() {
+    new BitboardSanguine(3, 3, 1, "./docs/3identical.deck", "./docs/example.deck");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testWidthOverMaxThrowsException() throws Exception {
+    Path deck = writeTempDeckNoInfluence(100);
+    new BitboardSanguine(BitboardSanguine.MAX_WIDTH + 1, 1, 1, deck.toString(),
+        deck.toString());
+  }
+
+  @Test
+  public void testMaxWidthBoardHasPawnsOnBothEdges() throws Exception {
+    Path deck = writeTempDeckNoInfluence(40);
+    SanguineModel g = new BitboardSanguine(BitboardSanguine.MAX_WIDTH - 1, 1, 1,
+        deck.toString(), deck.toString());
+    assertEquals(Player.RED, g.ownerAt(0, 0));
+    assertEquals(Player.BLUE, g.ownerAt(0, BitboardSanguine.MAX_WIDTH - 2));
+    assertFalse(g.hasOwner(0, 1));
+  }
+
+  @Test
+  public void placeCardThrowsWhenCardPresentOutOfBoundsAfterGameOver() throws Exception {
+    Path deck = writeTempDeckNoInfluence(8);
+    SanguineModel g = new BitboardSanguine(5, 3, 1, deck.toString(), deck.toString());
+
+    g.placeCard(0, 0, 0);
+    assertTrue(g.isCardAt(0, 0));
+    assertEquals(Player.RED, g.ownerAt(0, 0));
+
+    try {
+      g.placeCard(0, 0, 0);
+      fail("Expected IllegalStateException: card already at tile");
+    } catch (IllegalStateException expected) {
+    }
+    try {
+      g.placeCard(0, 0, 999);
+      fail("Expected IllegalArgumentException for OOB");
+    } catch (IllegalArgumentException expected) {
+    }
+
+    g.pass();
+    g.pass();
+    assertTrue(g.isGameOver());
+    try {
+      g.placeCard(0, 1, 0);
+      fail("Expected IllegalStateException after game over");
+    } catch (IllegalStateException expected) {
+    }
+  }
+
+  @Test
+  public void testScoreIncreasesAfterCardPlaced() throws Exception {
+    Path deck = writeTempDeckNoInfluence(8);
+    SanguineModel g = new BitboardSanguine(5, 3, 1, deck.toString(), deck.toString());
+    g.placeCard(0, 0, 0);
+    assertEquals(Player.RED, g.getRowWinner(0).get());
+    assertEquals(Optional.empty(), g.getRowWinner(1));
+    assertEquals(Player.RED, g.getWinning().get());
+    assertEquals(1, g.getScore());
+    g.placeCard(0, 0, 4);
+    assertEquals(Optional.empty(), g.getRowWinner(0));
+    assertEquals(Optional.empty(), g.getWinning());
+    assertEquals(0, g.getScore());
+  }
+
+  @Test
+  public void testPawnsAtCardTileThrowsException() throws Exception {
+    Path deck = writeTempDeckNoInfluence(8);
+    SanguineModel g = new BitboardSanguine(5, 3, 1, deck.toString(), deck.toString());
+    g.placeCard(0, 0, 0);
+    try {
+      g.pawnsAt(0, 0);
+      fail("Expected IllegalStateException for pawnsAt on card tile");
+    } catch (IllegalStateException expected) {
+    }
+  }
+
+  @Test
+  public void testRandomGamesMatchBasicSanguine() {
+    for (long seed = 0; seed < 50; seed++) {
+      SanguineModel expected = new BasicSanguine(5, 3, 4, "./docs/example.deck",
+          "./docs/example.deck", true, seed);
+      SanguineModel actual = new BitboardSanguine(5, 3, 4, "./docs/example.deck",
+          "./docs/example.deck", true, seed);
+      playSideBySide(expected, actual, new Random(seed));
+    }
+  }
+
+  @Test
+  public void testRandomInfluenceGridsMatchBasicSanguineOnEveryWidth() throws Exception {
+    for (int width : new int[] {3, 9, 33, 63}) {
+      Path deck = writeTempDeckRandomInfluence(width * 3, width);
+      for (long seed = 0; seed < 4; seed++) {
+        SanguineModel expected = new BasicSanguine(width, 5, 4, deck.toString(), deck.toString(),
+            true, seed);
+        SanguineModel actual = new BitboardSanguine(width, 5, 4, deck.toString(),
+            deck.toString(), true, seed);
+        playSideBySide(expected, actual, new Random(seed));
+      }
+    }
+  }
+
+  @Test
+  public void testApplyUndoAndForkMatchBasicSanguine() {
+    for (long seed = 0; seed < 20; seed++) {
+      SanguineModel actual = new BitboardSanguine(5, 3, 4, "./docs/example.deck",
+          "./docs/example.deck", true, seed);
+      applyAndForkSideBySide(BasicSanguineUndoTests.newGame(seed), actual, new Random(seed));
+    }
+  }
+
+  /**
+   * plays random legal moves on both models until the game ends. Every legal move of each turn is
+   * first applied to both models and undone, and must leave them equal and then back as they
+   * were, down to their hashes and legal moves. The move played is also made on a fork of
+   * {@code actual}, which must leave {@code actual} alone and then match it. Snapshots of
+   * {@code actual} and of its forks must describe the same game as the models themselves.
+   */
+  static void applyAndForkSideBySide(SanguineModel expected, SanguineModel actual, Random rng) {
+    while (!expected.isGameOver()) {
+      String before = BasicSanguineUndoTests.describe(actual);
+      List<Integer> legalBefore = BasicSanguineUndoTests.legalCodes(actual);
+      long hashBefore = actual.stateHash();
+      assertEquals(BasicSanguineUndoTests.describe(expected), before);
+      assertEquals(BasicSanguineUndoTests.legalCodes(expected), legalBefore);
+      assertEquals(before, BasicSanguineUndoTests.describe(actual.snapshot()));
+      assertEquals(hashBefore, actual.snapshot().stateHash());
+
+      List<SanguineMove> moves = BasicSanguineUndoTests.legalMoves(expected);
+      for (SanguineMove move : moves) {
+        expected.apply(move);
+        actual.apply(move);
+        assertEquals(BasicSanguineUndoTests.describe(expected),
+            BasicSanguineUndoTests.describe(actual));
+        assertEquals(BasicSanguineUndoTests.legalCodes(expected),
+            BasicSanguineUndoTests.legalCodes(actual));
+        assertEquals(expected.stateHash(), actual.stateHash());
+        expected.undo();
+        actual.undo();
+        assertEquals(before, BasicSanguineUndoTests.describe(actual));
+        assertEquals(legalBefore, BasicSanguineUndoTests.legalCodes(actual));
+        assertEquals(hashBefore, actual.stateHash());
+      }
+
+      SanguineMove move = moves.get(rng.nextInt(moves.size()));
+      SanguineModel fork = actual.fork();
+      fork.makeTurn(move);
+      assertEquals(before, BasicSanguineUndoTests.describe(actual));
+      expected.makeTurn(move);
+      actual.makeTurn(move);
+      assertEquals(BasicSanguineUndoTests.describe(actual), BasicSanguineUndoTests.describe(fork));
+      assertEquals(BasicSanguineUndoTests.describe(fork),
+          BasicSanguineUndoTests.describe(fork.snapshot()));
+      assertEquals(actual.stateHash(), fork.stateHash());
+    }
+  }
+
+  /**
+   * plays random legal moves on both models until the game ends, asserting that every observable
+   * part of the two models is equal after each move.
+   */
+  static void playSideBySide(SanguineModel expected, SanguineModel actual, Random rng) {
+    assertSameState(expected, actual);
+    while (!expected.isGameOver()) {
+      Player turn = expected.getTurn();
+      List<int[]> moves = new ArrayList<>();
+      long[] expectedTiles = new long[(expected.width() * expected.height() + 63) / 64];
+      long[] actualTiles = new long[expectedTiles.length];
+      for (int idx = 0; idx < expected.getHand(turn).size(); idx++) {
+        int count = expected.legalTiles(turn, idx, expectedTiles);
+        assertEquals(count, actual.legalTiles(turn, idx, actualTiles));
+        assertArrayEquals(expectedTiles, actualTiles);
+        for (int row = 0; row < expected.height(); row++) {
+          for (int col = 0; col < expected.width(); col++) {
+            boolean legal = expected.canPlayCard(turn, idx, row, col);
+            assertEquals(legal, actual.canPlayCard(turn, idx, row, col));
+            int tile = row * expected.width() + col;
+            assertEquals(legal, (expectedTiles[tile / 64] >>> (tile % 64) & 1) == 1);
+            if (legal) {
+              moves.add(new int[] {idx, row, col});
+              count -= 1;
+            }
+          }
+        }
+        assertEquals(0, count);
+      }
+
+      int[] expectedMoves = new int[moves.size()];
+      int[] actualMoves = new int[moves.size()];
+      assertEquals(moves.size(), expected.legalMoves(turn, expectedMoves));
+      assertEquals(moves.size(), actual.legalMoves(turn, actualMoves));
+      assertArrayEquals(expectedMoves, actualMoves);
+
+      if (moves.isEmpty() || rng.nextInt(10) == 0) {
+        expected.pass();
+        actual.pass();
+      } else {
+        int[] move = moves.get(rng.nextInt(moves.size()));
+        expected.placeCard(move[0], move[1], move[2]);
+        actual.placeCard(move[0], move[1], move[2]);
+      }
+      assertSameState(expected, actual);
+    }
+  }
+
+  private static void assertSameState(SanguineModel expected, SanguineModel actual) {
+    assertEquals(expected.isGameOver(), actual.isGameOver());
+    assertEquals(expected.remainingEmptyTiles(), actual.remainingEmptyTiles());
+    assertEquals(expected.stateHash(), actual.stateHash());
+    if (!expected.isGameOver()) {
+      assertEquals(expected.getTurn(), actual.getTurn());
+    }
+    for (Player player : Player.values()) {
+      assertEquals(expected.getHand(player), actual.getHand(player));
+    }
+    for (int row = 0; row < expected.height(); row++) {
+      for (int col = 0; col < expected.width(); col++) {
+        assertEquals(expected.hasOwner(row, col), actual.hasOwner(row, col));
+        assertEquals(expected.isCardAt(row, col), actual.isCardAt(row, col));
+        if (expected.hasOwner(row, col)) {
+          assertEquals(expected.ownerAt(row, col), actual.ownerAt(row, col));
+        }
+        if (expected.isCardAt(row, col)) {
+          assertEquals(expected.cardAt(row, col), actual.cardAt(row, col));
+        } else {
+          assertEquals(expected.pawnsAt(row, col), actual.pawnsAt(row, col));
+        }
+      }
+      for (Player player : Player.values()) {
+        assertEquals(expected.getRowScore(player, row), actual.getRowScore(player, row));
+      }
+      assertEquals(expected.getRowWinner(row), actual.getRowWinner(row));
+      assertEquals(expected.getScoreOfRow(row), actual.getScoreOfRow(row));
+    }
+    assertEquals(expected.getWinning(), actual.getWinning());
+    assertEquals(expected.getScore(), actual.getScore());
+  }
+
+  /**
+   * writes a temp deck configuration file with the given number of distinct cost 1 cards with no
+   * influence.
+   */
+  private Path writeTempDeckNoInfluence(int cards) throws IOException {
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < cards; i++) {
+      sb.append(String.format(Locale.US, "NoInf%d %d %d%n", i, 1, 1));
+      sb.append("XXXXX\n");
+      sb.append("XXXXX\n");
+      sb.append("XXCXX\n");
+      sb.append("XXXXX\n");
+      sb.append("XXXXX\n");
+    }
+    Path p = Files.createTempFile("deck-noinf-", ".config");
+    Files.write(p, sb.toString().getBytes());
+    p.toFile().deleteOnExit();
+    return p;
+  }
+
+  /**
+   * writes a deck of the given number of distinct cards, two copies each, with random costs and
+   * random influence grids, so the influence of a card reaches past every edge of the board.
+   */
+  private Path writeTempDeckRandomInfluence(int cards, long seed) throws IOException {
+    Random rng = new Random(seed);
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < cards; i++) {
+      StringBuilder card = new StringBuilder();
+      card.append(String.format(Locale.US, "Rand%d %d %d%n", i, 1 + rng.nextInt(3),
+          1 + rng.nextInt(5)));
+      for (int row = 0; row < 5; row++) {
+        for (int col = 0; col < 5; col++) {
+          if (row == 2 && col == 2) {
+            card.append('C');
+          } else {
+            card.append(rng.nextInt(3) == 0 ? 'I' : 'X');
+          }
+        }
+        card.append('\n');
+      }
+      sb.append(card).append(card);
+    }
+    Path p = Files.createTempFile("deck-rand-", ".config");
+    Files.write(p, sb.toString().getBytes());
+    p.toFile().deleteOnExit();
+    return p;
+  }
+}
@@ -0,0 +1,110 @@
+package sanguine;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+import sanguine.model.BitboardSanguine;
+import sanguine.model.BoardBuffer;
+import sanguine.model.Player;
+import sanguine.model.ReadOnlySanguineModel;
+import sanguine.model.SanguineModel;
+import sanguine.model.moves.SanguineMove;
+
+/**
+ * tests for {@link BoardBuffer} and
+ * {@link ReadOnlySanguineModel#copyBoardInto(BoardBuffer)}, which check that one buffer reused
+ * through random games always matches the tiles and row scores read from the model and, for
+ * {@link sanguine.model.BasicSanguine}, from its snapshots.
+ */
+public class BoardBufferTest {
+
+  @Test
+  public void copiesMatchTheModelThroughoutRandomGames() {
+    for (long seed = 0; seed < 20; seed++) {
+      playChecking(BasicSanguineUndoTests.newGame(seed), seed, true);
+      playChecking(new BitboardSanguine(5, 3, 4, "./docs/example.deck", "./docs/example.deck",
+          true, seed), seed, false);
+    }
+  }
+
+  @Test
+  public void emptyTilesHaveNoOwnerPawnsOrCard() {
+    BoardBuffer buffer = new BoardBuffer(5, 3);
+    BasicSanguineUndoTests.newGame(0).copyBoardInto(buffer);
+    assertNull(buffer.owner(0, 2));
+    assertNull(buffer.card(0, 2));
+    assertEquals(0, buffer.pawns(0, 2));
+    assertEquals(BoardBuffer.NONE, buffer.owners()[2]);
+    assertEquals(BoardBuffer.NONE, buffer.cardIds()[2]);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void bufferOfTheWrongSizeThrows() {
+    BasicSanguineUndoTests.newGame(0).copyBoardInto(new BoardBuffer(3, 5));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void nullBufferThrows() {
+    BasicSanguineUndoTests.newGame(0).copyBoardInto(null);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void tileOffTheBufferThrows() {
+    new BoardBuffer(5, 3).pawns(0, 5);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void emptyBoardThrows() {
+    new BoardBuffer(0, 3);
+  }
+
+  private static void playChecking(SanguineModel g, long seed, boolean snapshots) {
+    Random rng = new Random(seed);
+    BoardBuffer buffer = new BoardBuffer(g.width(), g.height());
+    while (true) {
+      g.copyBoardInto(buffer);
+      assertMatches(g, buffer);
+      if (snapshots) {
+        g.snapshot().copyBoardInto(buffer);
+        assertMatches(g, buffer);
+      }
+      if (g.isGameOver()) {
+        return;
+      }
+      List<SanguineMove> moves = BasicSanguineUndoTests.legalMoves(g);
+      g.makeTurn(moves.get(rng.nextInt(moves.size())));
+    }
+  }
+
+  private static void assertMatches(ReadOnlySanguineModel g, BoardBuffer buffer) {
+    for (int row = 0; row < g.height(); row++) {
+      for (int col = 0; col < g.width(); col++) {
+        int index = row * g.width() + col;
+        if (!g.hasOwner(row, col)) {
+          assertNull(buffer.owner(row, col));
+          assertEquals(BoardBuffer.NONE, buffer.owners()[index]);
+          assertEquals(0, buffer.pawns(row, col));
+          assertNull(buffer.card(row, col));
+          continue;
+        }
+        assertEquals(g.ownerAt(row, col), buffer.owner(row, col));
+        assertEquals(g.ownerAt(row, col).ordinal(), buffer.owners()[index]);
+        if (g.isCardAt(row, col)) {
+          assertEquals(g.cardAt(row, col), buffer.card(row, col));
+          assertEquals(g.cardAt(row, col).id(), buffer.cardIds()[index]);
+          assertEquals(0, buffer.pawns(row, col));
+        } else {
+          assertNull(buffer.card(row, col));
+          assertEquals(g.pawnsAt(row, col), buffer.pawns(row, col));
+          assertEquals(g.pawnsAt(row, col), buffer.pawns()[index]);
+        }
+      }
+      for (Player player : Player.values()) {
+        assertEquals(g.getRowScore(player, row), buffer.rowScore(player, row));
+      }
+    }
+  }
+}
@@ -0,0 +1,171 @@
+package sanguine;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import org.junit.Test;
+import sanguine.model.BoardCodec;
+import sanguine.model.Card;
+import sanguine.model.CardRegistry;
+import sanguine.model.GameState;
+import sanguine.model.InfluenceGridTile;
+import sanguine.model.Player;
+import sanguine.model.SanguineCard;
+import sanguine.model.SanguineModel;
+import sanguine.model.moves.SanguineMove;
+
+/**
+ * tests for the {@link BoardCodec} class, which round trip the states of random games of
+ * {@link sanguine.model.BasicSanguine}.
+ */
+public class BoardCodecTest {
+
+  /**
+   * a game on a 3x1 board, packed by another run of the program that read a red deck of Courier0
+   * (cost 1, value 2, influencing the tiles above and right of it), Courier1 (cost 2, value 1)
+   * and Courier2, and a blue deck of Courier3 (as Courier0, but value 5), Courier4 and Courier5,
+   * with hands of one card. RED placed Courier0 on (0, 0), BLUE placed Courier3 on (0, 2) and RED
+   * drew Courier1. No other test registers these cards.
+   */
+  private static final long[] PACKED_ELSEWHERE = {
+      0x0000404400100303L, 0x0000010000200001L, 0x0208040c0000ea47L, 0x0ea00de008600100L,
+      0x0e400ca00d200e40L, 0x0040008202800600L, 0x039003a803780218L, 0x0198039003280348L,
+      0x0086001000000028L, 0x00d200e400ea00deL, 0x0000006200e400caL};
+
+  @Test
+  public void encodeThenDecodeRestoresEveryStateOfRandomGames() {
+    for (long seed = 0; seed < 30; seed++) {
+      SanguineModel g = BasicSanguineUndoTests.newGame(seed);
+      Random rng = new Random(seed);
+      while (true) {
+        GameState state = g.snapshot();
+        GameState decoded = BoardCodec.decode(BoardCodec.encode(state));
+        assertEquals(BasicSanguineUndoTests.describe(g), BasicSanguineUndoTests.describe(decoded));
+        assertEquals(g.stateHash(), decoded.stateHash());
+        for (Player player : Player.values()) {
+          assertEquals(state.deckSize(player), decoded.deckSize(player));
+        }
+        assertEquals(state.consecutivePasses(), decoded.consecutivePasses());
+        assertEquals(state.getMaxHandSize(), decoded.getMaxHandSize());
+        if (g.isGameOver()) {
+          break;
+        }
+        List<SanguineMove> moves = BasicSanguineUndoTests.legalMoves(g);
+        g.makeTurn(moves.get(rng.nextInt(moves.size())));
+      }
+    }
+  }
+
+  @Test
+  public void singleTilesDecodeWithoutDecodingTheState() {
+    for (long seed = 0; seed < 10; seed++) {
+      SanguineModel g = BasicSanguineUndoTests.newGame(seed);
+      Random rng = new Random(seed);
+      while (!g.isGameOver()) {
+        long[] packed = BoardCodec.encode(g.snapshot());
+        assertEquals(g.width(), BoardCodec.width(packed));
+        assertEquals(g.height(), BoardCodec.height(packed));
+        for (int row = 0; row < g.height(); row++) {
+          for (int col = 0; col < g.width(); col++) {
+            assertEquals(g.isCardAt(row, col), BoardCodec.isCardAt(packed, row, col));
+            assertEquals(g.hasOwner(row, col), BoardCodec.hasOwner(packed, row, col));
+            if (g.hasOwner(row, col)) {
+              assertEquals(g.ownerAt(row, col), BoardCodec.ownerAt(packed, row, col));
+            }
+            if (g.isCardAt(row, col)) {
+              assertEquals(g.cardAt(row, col), BoardCodec.cardAt(packed, row, col));
+            } else {
+              assertEquals(g.pawnsAt(row, col), BoardCodec.pawnsAt(packed, row, col));
+            }
+          }
+        }
+        List<SanguineMove> moves = BasicSanguineUndoTests.legalMoves(g);
+        g.makeTurn(moves.get(rng.nextInt(moves.size())));
+      }
+    }
+  }
+
+  @Test
+  public void tilesTakeOnlyTheBitsTheirCodesNeed() {
+    GameState state = BasicSanguineUndoTests.newGame(0).snapshot();
+    Set<Card> cards = new HashSet<>(state.getHand(Player.RED));
+    cards.addAll(state.getHand(Player.BLUE));
+    long[] packed = BoardCodec.encode(state);
+    int codes = 7 + 2 * cards.size();
+    assertTrue((1 << BoardCodec.tileBits(packed)) >= codes);
+    assertTrue((1 << (BoardCodec.tileBits(packed) - 1)) < codes);
+  }
+
+  @Test
+  public void registeringMoreCardsDoesntChangeThePackedState() {
+    GameState state = BasicSanguineUndoTests.newGame(0).snapshot();
+    long[] packed = BoardCodec.encode(state);
+    int registered = CardRegistry.size();
+    for (int i = 0; i < 300; i++) {
+      CardRegistry.intern(new SanguineCard("BoardCodecExtra" + registered + "x" + i, 1, 1,
+          CardRegistryTest.centerOnlyGrid()));
+    }
+    assertArrayEquals(packed, BoardCodec.encode(state));
+    assertTrue(BoardCodec.tileBits(packed) <= 6);
+  }
+
+  @Test
+  public void aStatePackedByAnotherRunDecodesAgainstAFreshRegistry() {
+    for (int id = 0; id < CardRegistry.size(); id++) {
+      assertFalse(CardRegistry.byId(id).name().startsWith("Courier"));
+    }
+
+    GameState state = BoardCodec.decode(PACKED_ELSEWHERE.clone());
+
+    Card red = state.cardAt(0, 0);
+    assertEquals(Player.RED, state.ownerAt(0, 0));
+    assertEquals("Courier0", red.name());
+    assertEquals(1, red.cost());
+    assertEquals(2, red.value());
+    assertEquals(InfluenceGridTile.AFFECTED, red.tileAt(1, 2));
+    assertEquals(InfluenceGridTile.AFFECTED, red.tileAt(2, 3));
+    assertEquals(InfluenceGridTile.UNAFFECTED, red.tileAt(3, 2));
+    Card blue = state.cardAt(0, 2);
+    assertEquals(Player.BLUE, state.ownerAt(0, 2));
+    assertEquals("Courier3", blue.name());
+    assertEquals(5, blue.value());
+    assertEquals(Player.BLUE, state.ownerAt(0, 1));
+    assertEquals(1, state.pawnsAt(0, 1));
+    assertEquals(1, state.getHand(Player.RED).size());
+    Card held = state.getHand(Player.RED).get(0);
+    assertEquals("Courier1", held.name());
+    assertEquals(2, held.cost());
+    assertEquals(0, state.getHand(Player.BLUE).size());
+    assertEquals(Player.RED, state.getTurn());
+    assertEquals(2, state.getRowScore(Player.RED, 0));
+    assertEquals(5, state.getRowScore(Player.BLUE, 0));
+
+    assertSame(red, CardRegistry.intern(red));
+    assertEquals(blue, BoardCodec.cardAt(PACKED_ELSEWHERE, 0, 2));
+    assertArrayEquals(PACKED_ELSEWHERE, BoardCodec.encode(state));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void tileOffTheBoardThrows() {
+    long[] packed = BoardCodec.encode(BasicSanguineUndoTests.newGame(0).snapshot());
+    BoardCodec.pawnsAt(packed, 3, 0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void decodingSomethingElseThrows() {
+    BoardCodec.decode(new long[] {0, 0});
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void decodingTruncatedStateThrows() {
+    long[] packed = BoardCodec.encode(BasicSanguineUndoTests.newGame(0).snapshot());
+    BoardCodec.decode(java.util.Arrays.copyOf(packed, packed.length - 1));
+  }
+}
@@ -0,0 +1,79 @@
+package sanguine;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+import sanguine.model.Card;
+import sanguine.model.CardFileReader;
+import sanguine.model.CardRegistry;
+import sanguine.model.InfluenceGridTile;
+import sanguine.model.SanguineCard;
+
+/**
+ * Tests for the {@link CardRegistry} class.
+ */
+public class CardRegistryTest {
+
+  static List<List<InfluenceGridTile>> centerOnlyGrid() {
+    List<List<InfluenceGridTile>> grid = new ArrayList<>();
+    for (int row = 0; row < 5; row++) {
+      List<InfluenceGridTile> tiles = new ArrayList<>();
+      for (int col = 0; col < 5; col++) {
+        tiles.add(row == 2 && col == 2 ? InfluenceGridTile.PLACED : InfluenceGridTile.UNAFFECTED);
+      }
+      grid.add(tiles);
+    }
+    return grid;
+  }
+
+  @Test
+  public void internReturnsOneCanonicalInstancePerDistinctCard() {
+    Card a = new SanguineCard("RegistryA", 1, 2, centerOnlyGrid());
+    Card b = new SanguineCard("RegistryA", 1, 2, centerOnlyGrid());
+    Card c = new SanguineCard("RegistryA", 1, 3, centerOnlyGrid());
+    assertNotSame(a, b);
+
+    Card canonical = CardRegistry.intern(a);
+    assertSame(canonical, CardRegistry.intern(b));
+    assertSame(canonical, CardRegistry.intern(canonical));
+    assertNotEquals(canonical, CardRegistry.intern(c));
+    assertEquals(canonical, a);
+    assertEquals(a.id(), b.id());
+    assertNotEquals(a.id(), c.id());
+  }
+
+  @Test
+  public void idsAreDenseAndLookUpTheirCard() {
+    Card card = CardRegistry.intern(new SanguineCard("RegistryB", 2, 1, centerOnlyGrid()));
+    assertSame(card, CardRegistry.byId(card.id()));
+    for (int id = 0; id < CardRegistry.size(); id++) {
+      assertEquals(id, CardRegistry.byId(id).id());
+    }
+  }
+
+  @Test
+  public void cardFileReaderReturnsCanonicalCards() {
+    List<Card> first = CardFileReader.read("./docs/example.deck");
+    List<Card> second = CardFileReader.read("./docs/example.deck");
+    assertEquals(first.size(), second.size());
+    for (int i = 0; i < first.size(); i++) {
+      assertSame(first.get(i), second.get(i));
+      assertSame(first.get(i), CardRegistry.byId(first.get(i).id()));
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void byIdThrowsForUnknownId() {
+    CardRegistry.byId(CardRegistry.size());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void internNullThrows() {
+    CardRegistry.intern(null);
+  }
+}
@@ -0,0 +1,188 @@
+package sanguine;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.Test;
+import sanguine.controller.GameStateListener;
+import sanguine.controller.machineplayers.StrategyPlayer;
+import sanguine.model.BoardBuffer;
+import sanguine.model.Card;
+import sanguine.model.ConcurrentSanguineModel;
+import sanguine.model.Player;
+import sanguine.model.SanguineModel;
+import sanguine.model.moves.SanguineMove;
+import sanguine.model.strategy.FillFirstStrategy;
+
+/**
+ * tests for {@link ConcurrentSanguineModel}, including a stress test where one thread plays
+ * games while many others query them.
+ */
+public class ConcurrentSanguineModelTests {
+
+  private static final int READERS = 8;
+
+  @Test
+  public void readersAlwaysSeeConsistentBoardsWhileGamesArePlayed() throws Exception {
+    for (long seed = 0; seed < 5; seed++) {
+      SanguineModel shared = new ConcurrentSanguineModel(BasicSanguineUndoTests.newGame(seed));
+      SanguineModel replay = BasicSanguineUndoTests.newGame(seed);
+      // the legal moves of each player in every state the game goes through, by state hash
+      Map<Long, int[][]> legal = new ConcurrentHashMap<>();
+      recordLegalMoves(replay, legal);
+      AtomicBoolean done = new AtomicBoolean(false);
+      Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+      CountDownLatch started = new CountDownLatch(READERS);
+      List<Thread> readers = new ArrayList<>();
+      for (int i = 0; i < READERS; i++) {
+        Thread reader = new Thread(() -> {
+          started.countDown();
+          try {
+            BoardBuffer board = new BoardBuffer(shared.width(), shared.height());
+            int[] moves = new int[shared.getMaxHandSize() * shared.width() * shared.height()];
+            do {
+              shared.copyBoardInto(board);
+              assertConsistent(board);
+              for (int row = 0; row < shared.height(); row++) {
+                for (int col = 0; col < shared.width(); col++) {
+                  if (shared.isCardAt(row, col)) {
+                    // cards are never removed, so the card is still there
+                    assertTrue(shared.cardAt(row, col) != null);
+                  }
+                }
+              }
+              for (Player player : Player.values()) {
+                long hash = shared.stateHash();
+                int count = shared.legalMoves(player, moves);
+                if (shared.stateHash() == hash) {
+                  // no move was made in between, so the moves are those of the hashed state
+                  assertArrayEquals(legal.get(hash)[player.ordinal()],
+                      Arrays.copyOf(moves, count));
+                }
+                List<Card> hand = shared.getHand(player);
+                assertTrue(hand.size() <= shared.getMaxHandSize());
+              }
+            } while (!done.get());
+          } catch (Throwable t) {
+            failures.add(t);
+          }
+        });
+        readers.add(reader);
+        reader.start();
+      }
+
+      started.await();
+      Random rng = new Random(seed);
+      try {
+        while (!shared.isGameOver()) {
+          List<SanguineMove> moves = BasicSanguineUndoTests.legalMoves(replay);
+          SanguineMove move = moves.get(rng.nextInt(moves.size()));
+          replay.makeTurn(move);
+          recordLegalMoves(replay, legal);
+          shared.makeTurn(move);
+          Thread.yield();
+        }
+      } finally {
+        done.set(true);
+      }
+      for (Thread reader : readers) {
+        reader.join();
+      }
+
+      assertEquals(List.of(), new ArrayList<>(failures));
+      assertEquals(BasicSanguineUndoTests.describe(replay),
+          BasicSanguineUndoTests.describe(shared));
+      assertEquals(replay.stateHash(), shared.stateHash());
+    }
+  }
+
+  @Test
+  public void listenersCanMoveFromTheirCallbacks() {
+    SanguineModel shared = new ConcurrentSanguineModel(BasicSanguineUndoTests.newGame(4));
+    List<String> alerts = new ArrayList<>();
+    shared.register(new GameStateListener() {
+      @Override
+      public void alertTurn(Player player) {
+        alerts.add("turn " + player);
+      }
+
+      @Override
+      public void gameOver() {
+        alerts.add("game over");
+      }
+
+      @Override
+      public void startGame() {
+        alerts.add("start");
+      }
+    });
+    new StrategyPlayer(shared, Player.RED, new FillFirstStrategy());
+    new StrategyPlayer(shared, Player.BLUE, new FillFirstStrategy());
+    shared.startGame();
+
+    assertTrue(shared.isGameOver());
+    assertEquals("start", alerts.get(0));
+    assertEquals("turn RED", alerts.get(1));
+    assertEquals("game over", alerts.get(alerts.size() - 1));
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void illegalMovesStillThrow() {
+    SanguineModel shared = new ConcurrentSanguineModel(BasicSanguineUndoTests.newGame(0));
+    shared.placeCard(0, 0, 2);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void nullModelThrows() {
+    new ConcurrentSanguineModel(null);
+  }
+
+  /**
+   * records the legal moves of each player in the current state of the given game, by its hash.
+   */
+  private static void recordLegalMoves(SanguineModel game, Map<Long, int[][]> legal) {
+    int[] moves = new int[game.getMaxHandSize() * game.width() * game.height()];
+    int[][] byPlayer = new int[Player.values().length][];
+    for (Player player : Player.values()) {
+      byPlayer[player.ordinal()] = Arrays.copyOf(moves, game.legalMoves(player, moves));
+    }
+    legal.put(game.stateHash(), byPlayer);
+  }
+
+  /**
+   * asserts that every row score in the given board is the sum of the values of the cards its
+   * player has on the row, and that every owned tile without a card has 1 to 3 pawns.
+   */
+  private static void assertConsistent(BoardBuffer board) {
+    for (int row = 0; row < board.height(); row++) {
+      int red = 0;
+      int blue = 0;
+      for (int col = 0; col < board.width(); col++) {
+        Card card = board.card(row, col);
+        Player owner = board.owner(row, col);
+        if (card != null) {
+          if (owner == Player.RED) {
+            red += card.value();
+          } else {
+            blue += card.value();
+          }
+        } else if (owner != null) {
+          assertTrue(board.pawns(row, col) >= 1 && board.pawns(row, col) <= 3);
+        }
+      }
+      assertEquals(red, board.rowScore(Player.RED, row));
+      assertEquals(blue, board.rowScore(Player.BLUE, row));
+    }
+  }
+}
@@ -262,24 +262,13 @@ public class FillFirstStrategyTest {
     FillFirstStrategy strat = new FillFirstStrategy();
     SanguineMove move = strat.chooseMove(mock, Player.RED);
 
-    Assert.assertTrue(move instanceof PlaceCard);
+    Assert.assertEquals(new PlaceCard(1, 2, 1), move);
 
     String expected =
         """
         isGameOver
-        getHand RED
-        canPlayCard RED idx=0 row=0 col=0
-        canPlayCard RED idx=0 row=0 col=1
-        canPlayCard RED idx=0 row=0 col=2
-        canPlayCard RED idx=0 row=1 col=0
-        canPlayCard RED idx=0 row=1 col=1
-        canPlayCard RED idx=0 row=1 col=2
-        canPlayCard RED idx=1 row=0 col=0
-        canPlayCard RED idx=1 row=0 col=1
-        canPlayCard RED idx=1 row=0 col=2
-        canPlayCard RED idx=1 row=1 col=0
-        canPlayCard RED idx=1 row=1 col=1
-        canPlayCard RED idx=1 row=1 col=2
+        handSize RED
+        legalMoves RED
         """;
 
     Assert.assertEquals(expected, mock.getLog());
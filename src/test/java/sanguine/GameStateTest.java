@@ -0,0 +1,150 @@
+package sanguine;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.Test;
+import sanguine.model.GameState;
+import sanguine.model.Player;
+import sanguine.model.SanguineModel;
+import sanguine.model.ZobristHash;
+import sanguine.model.moves.Pass;
+import sanguine.model.moves.SanguineMove;
+
+/**
+ * tests for {@link GameState} snapshots taken by {@link sanguine.model.BasicSanguine}.
+ */
+public class GameStateTest {
+
+  @Test
+  public void snapshotsMatchTheModelAndNeverChangeThroughoutRandomGames() {
+    for (long seed = 0; seed < 30; seed++) {
+      SanguineModel g = BasicSanguineUndoTests.newGame(seed);
+      Random rng = new Random(seed);
+      List<GameState> snapshots = new ArrayList<>();
+      List<String> descriptions = new ArrayList<>();
+      while (true) {
+        GameState snapshot = g.snapshot();
+        assertEquals(BasicSanguineUndoTests.describe(g), describe(snapshot));
+        assertEquals(g.stateHash(), snapshot.stateHash());
+        snapshots.add(snapshot);
+        descriptions.add(describe(snapshot));
+        if (g.isGameOver()) {
+          break;
+        }
+        List<SanguineMove> moves = BasicSanguineUndoTests.legalMoves(g);
+        g.makeTurn(moves.get(rng.nextInt(moves.size())));
+      }
+      for (int i = 0; i < snapshots.size(); i++) {
+        assertEquals(descriptions.get(i), describe(snapshots.get(i)));
+      }
+    }
+  }
+
+  @Test
+  public void snapshotKnowsDecksPassesAndIsItsOwnSnapshot() {
+    SanguineModel g = BasicSanguineUndoTests.newGame(2);
+    GameState start = g.snapshot();
+    assertEquals(11, start.deckSize(Player.RED));
+    assertEquals(11, start.deckSize(Player.BLUE));
+    assertEquals(0, start.consecutivePasses());
+    assertSame(start, start.snapshot());
+
+    g.pass();
+    assertEquals(1, g.snapshot().consecutivePasses());
+    assertEquals(11, g.snapshot().deckSize(Player.BLUE));
+    assertEquals(0, start.consecutivePasses());
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void snapshotHandCannotBeChanged() {
+    SanguineModel g = BasicSanguineUndoTests.newGame(2);
+    g.snapshot().getHand(Player.RED).clear();
+  }
+
+  @Test
+  public void appliedMovesAreNotPublishedButForksTakeSnapshotsOnDemand() {
+    SanguineModel g = BasicSanguineUndoTests.newGame(4);
+    GameState before = g.snapshot();
+    g.apply(new Pass());
+    assertSame(before, g.snapshot());
+    g.undo();
+    assertSame(before, g.snapshot());
+
+    SanguineModel fork = g.fork();
+    fork.makeTurn(new Pass());
+    assertEquals(BasicSanguineUndoTests.describe(fork), describe(fork.snapshot()));
+    assertNotEquals(describe(before), describe(fork.snapshot()));
+    assertSame(before, g.snapshot());
+  }
+
+  @Test
+  public void spectatorThreadOnlySeesConsistentSnapshots() throws InterruptedException {
+    AtomicReference<SanguineModel> game = new AtomicReference<>();
+    AtomicBoolean done = new AtomicBoolean(false);
+    AtomicInteger checked = new AtomicInteger();
+    AtomicReference<Throwable> failure = new AtomicReference<>();
+    game.set(BasicSanguineUndoTests.newGame(0));
+
+    Thread spectator = new Thread(() -> {
+      try {
+        while (!done.get()) {
+          GameState snapshot = game.get().snapshot();
+          assertEquals(ZobristHash.of(snapshot), snapshot.stateHash());
+          assertRowScoresMatchCards(snapshot);
+          checked.incrementAndGet();
+        }
+      } catch (Throwable t) {
+        failure.set(t);
+      }
+    });
+    spectator.start();
+
+    for (long seed = 0; seed < 200 && failure.get() == null; seed++) {
+      SanguineModel g = BasicSanguineUndoTests.newGame(seed);
+      game.set(g);
+      Random rng = new Random(seed);
+      while (!g.isGameOver()) {
+        List<SanguineMove> moves = BasicSanguineUndoTests.legalMoves(g);
+        g.makeTurn(moves.get(rng.nextInt(moves.size())));
+      }
+    }
+    done.set(true);
+    spectator.join();
+
+    if (failure.get() != null) {
+      throw new AssertionError(failure.get());
+    }
+    assertTrue(checked.get() > 0);
+  }
+
+  private static void assertRowScoresMatchCards(GameState snapshot) {
+    for (int row = 0; row < snapshot.height(); row++) {
+      int red = 0;
+      int blue = 0;
+      for (int col = 0; col < snapshot.width(); col++) {
+        if (snapshot.isCardAt(row, col)) {
+          if (snapshot.ownerAt(row, col) == Player.RED) {
+            red += snapshot.cardAt(row, col).value();
+          } else {
+            blue += snapshot.cardAt(row, col).value();
+          }
+        }
+      }
+      assertEquals(red, snapshot.getRowScore(Player.RED, row));
+      assertEquals(blue, snapshot.getRowScore(Player.BLUE, row));
+    }
+  }
+
+  private static String describe(GameState snapshot) {
+    return BasicSanguineUndoTests.describe(snapshot);
+  }
+}
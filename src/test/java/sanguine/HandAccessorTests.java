@@ -0,0 +1,92 @@
+package sanguine;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+import sanguine.model.BitboardSanguine;
+import sanguine.model.Card;
+import sanguine.model.Player;
+import sanguine.model.SanguineModel;
+import sanguine.model.moves.SanguineMove;
+
+/**
+ * tests for {@link sanguine.model.ReadOnlySanguineModel#handSize(Player)},
+ * {@link sanguine.model.ReadOnlySanguineModel#handCardAt(Player, int)} and
+ * {@link sanguine.model.ReadOnlySanguineModel#handView(Player)} on both models.
+ */
+public class HandAccessorTests {
+
+  @Test
+  public void accessorsAndViewsMatchTheCopiedHandThroughoutRandomGames() {
+    for (long seed = 0; seed < 20; seed++) {
+      playChecking(BasicSanguineUndoTests.newGame(seed), seed);
+      playChecking(new BitboardSanguine(5, 3, 4, "./docs/example.deck", "./docs/example.deck",
+          true, seed), seed);
+    }
+  }
+
+  @Test
+  public void viewIsMadeOncePerPlayer() {
+    SanguineModel g = BasicSanguineUndoTests.newGame(0);
+    assertSame(g.handView(Player.RED), g.handView(Player.RED));
+    assertSame(g.handView(Player.BLUE), g.handView(Player.BLUE));
+  }
+
+  @Test
+  public void viewKeepsUpWithTheHandAfterAForkSharedIt() {
+    SanguineModel g = BasicSanguineUndoTests.newGame(2);
+    List<Card> view = g.handView(Player.RED);
+    SanguineModel fork = g.fork();
+    List<Card> before = fork.getHand(Player.RED);
+    g.placeCard(firstPlayableCard(g), 0, 0);
+    assertEquals(g.getHand(Player.RED), view);
+    assertEquals(before, fork.handView(Player.RED));
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void viewCannotBeChanged() {
+    BasicSanguineUndoTests.newGame(0).handView(Player.RED).remove(0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void cardPastTheEndOfTheHandThrows() {
+    SanguineModel g = BasicSanguineUndoTests.newGame(0);
+    g.handCardAt(Player.RED, g.handSize(Player.RED));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void nullPlayerThrows() {
+    BasicSanguineUndoTests.newGame(0).handSize(null);
+  }
+
+  private static void playChecking(SanguineModel g, long seed) {
+    Random rng = new Random(seed);
+    List<Card> redView = g.handView(Player.RED);
+    List<Card> blueView = g.handView(Player.BLUE);
+    while (!g.isGameOver()) {
+      for (Player player : Player.values()) {
+        List<Card> hand = g.getHand(player);
+        assertEquals(hand.size(), g.handSize(player));
+        for (int i = 0; i < hand.size(); i++) {
+          assertSame(hand.get(i), g.handCardAt(player, i));
+        }
+      }
+      assertEquals(g.getHand(Player.RED), redView);
+      assertEquals(g.getHand(Player.BLUE), blueView);
+      List<SanguineMove> moves = BasicSanguineUndoTests.legalMoves(g);
+      g.makeTurn(moves.get(rng.nextInt(moves.size())));
+    }
+  }
+
+  private static int firstPlayableCard(SanguineModel g) {
+    for (int i = 0; i < g.handSize(Player.RED); i++) {
+      if (g.canPlayCard(Player.RED, i, 0, 0)) {
+        return i;
+      }
+    }
+    throw new AssertionError("no card playable at (0, 0)");
+  }
+}
@@ -0,0 +1,133 @@
+package sanguine;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+import sanguine.model.ConcurrentSanguineModel;
+import sanguine.model.Player;
+import sanguine.model.ReadOnlySanguineModel;
+import sanguine.model.SanguineModel;
+import sanguine.model.SparseSanguine;
+import sanguine.model.moves.SanguineMove;
+
+/**
+ * tests for {@link ReadOnlySanguineModel#legalTiles} and the cached legal tiles behind
+ * {@link ReadOnlySanguineModel#canPlayCard} in {@link sanguine.model.BasicSanguine}.
+ */
+public class LegalTilesTests {
+
+  /**
+   * returns the legal tiles of the given card worked out from the tiles alone, without
+   * {@code canPlayCard}.
+   */
+  private static long[] expectedTiles(ReadOnlySanguineModel g, Player player, int indexInHand) {
+    long[] tiles = new long[(g.width() * g.height() + 63) / 64];
+    if (g.isGameOver() || g.getTurn() != player || indexInHand >= g.handSize(player)) {
+      return tiles;
+    }
+    int cost = g.handCardAt(player, indexInHand).cost();
+    for (int row = 0; row < g.height(); row++) {
+      for (int col = 0; col < g.width(); col++) {
+        if (!g.isCardAt(row, col) && g.hasOwner(row, col) && g.ownerAt(row, col) == player
+            && g.pawnsAt(row, col) >= cost) {
+          int tile = row * g.width() + col;
+          tiles[tile / 64] |= 1L << (tile % 64);
+        }
+      }
+    }
+    return tiles;
+  }
+
+  private static void assertLegalTiles(ReadOnlySanguineModel expected,
+                                       ReadOnlySanguineModel actual) {
+    long[] tiles = new long[(actual.width() * actual.height() + 63) / 64];
+    for (Player player : Player.values()) {
+      for (int idx = 0; idx < actual.getMaxHandSize() + 1; idx++) {
+        long[] legal = expectedTiles(expected, player, idx);
+        int count = actual.legalTiles(player, idx, tiles);
+        assertArrayEquals(legal, tiles);
+        int bits = 0;
+        for (long word : legal) {
+          bits += Long.bitCount(word);
+        }
+        assertEquals(bits, count);
+        for (int row = 0; row < actual.height(); row++) {
+          for (int col = 0; col < actual.width(); col++) {
+            int tile = row * actual.width() + col;
+            assertEquals((legal[tile / 64] >>> (tile % 64) & 1) == 1,
+                actual.canPlayCard(player, idx, row, col));
+          }
+        }
+      }
+    }
+  }
+
+  @Test
+  public void legalTilesFollowAppliedAndUndoneMoves() {
+    for (long seed = 0; seed < 10; seed++) {
+      SanguineModel g = BasicSanguineUndoTests.newGame(seed);
+      Random rng = new Random(seed);
+      int applied = 0;
+      for (int step = 0; step < 60; step++) {
+        assertLegalTiles(g, g);
+        if (applied > 0 && (g.isGameOver() || rng.nextInt(3) == 0)) {
+          g.undo();
+          applied -= 1;
+        } else if (!g.isGameOver()) {
+          List<SanguineMove> moves = BasicSanguineUndoTests.legalMoves(g);
+          g.apply(moves.get(rng.nextInt(moves.size())));
+          applied += 1;
+        }
+      }
+    }
+  }
+
+  @Test
+  public void legalTilesFollowForksOfAGame() {
+    SanguineModel g = BasicSanguineUndoTests.newGame(6);
+    Random rng = new Random(6);
+    for (int i = 0; i < 4; i++) {
+      List<SanguineMove> moves = BasicSanguineUndoTests.legalMoves(g);
+      g.makeTurn(moves.get(rng.nextInt(moves.size() - 1)));
+    }
+    assertLegalTiles(g, g);
+    SanguineModel fork = g.fork();
+    List<SanguineMove> moves = BasicSanguineUndoTests.legalMoves(fork);
+    fork.makeTurn(moves.get(0));
+    assertLegalTiles(fork, fork);
+    assertLegalTiles(g, g);
+  }
+
+  @Test
+  public void everyModelWritesTheSameTiles() {
+    String deck = "./docs/example.deck";
+    SanguineModel basic = BasicSanguineUndoTests.newGame(8);
+    SanguineModel sparse = new SparseSanguine(5, 3, 4, deck, deck, true, 8L);
+    SanguineModel concurrent = new ConcurrentSanguineModel(BasicSanguineUndoTests.newGame(8));
+    Random rng = new Random(8);
+    while (!basic.isGameOver()) {
+      assertLegalTiles(basic, basic.snapshot());
+      assertLegalTiles(basic, sparse);
+      assertLegalTiles(basic, concurrent);
+      List<SanguineMove> moves = BasicSanguineUndoTests.legalMoves(basic);
+      SanguineMove move = moves.get(rng.nextInt(moves.size()));
+      basic.makeTurn(move);
+      sparse.makeTurn(move);
+      concurrent.makeTurn(move);
+    }
+    assertLegalTiles(basic, sparse);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void aBufferTooSmallForTheBoardThrows() {
+    BasicSanguineUndoTests.newGame(0).legalTiles(Player.RED, 0, new long[0]);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void aNullPlayerThrows() {
+    BasicSanguineUndoTests.newGame(0).legalTiles(null, 0, new long[1]);
+  }
+}
@@ -71,24 +71,18 @@ public class MaxRowScoreStrategyTest {
     MaxRowScoreStrategy strat = new MaxRowScoreStrategy();
     SanguineMove move = strat.chooseMove(mock, Player.RED);
 
-    Assert.assertTrue(move instanceof PlaceCard);
+    Assert.assertEquals(new PlaceCard(0, 2, 1), move);
 
     String log = mock.getLog();
 
     String expected =
         """
         isGameOver
-        getHand RED
         getRowScore RED row=0
         getRowScore BLUE row=0
-        canPlayCard RED idx=0 row=0 col=0
-        canPlayCard RED idx=0 row=0 col=1
-        canPlayCard RED idx=0 row=0 col=2
-        canPlayCard RED idx=0 row=0 col=3
-        canPlayCard RED idx=0 row=0 col=4
-        canPlayCard RED idx=1 row=0 col=0
-        canPlayCard RED idx=1 row=0 col=1
-        canPlayCard RED idx=1 row=0 col=2
+        handSize RED
+        legalMoves RED
+        handCardAt RED idx=1
         """;
 
     Assert.assertEquals(expected, log);
@@ -118,10 +112,11 @@ public class MaxRowScoreStrategyTest {
 
     int idxScoreRed0 = log.indexOf("getRowScore RED row=0");
     int idxScoreBlue0 = log.indexOf("getRowScore BLUE row=0");
-    int idxCanPlay = log.indexOf("canPlayCard RED idx=0 row=0 col=0");
+    int idxLegalMoves = log.indexOf("legalMoves RED");
 
     Assert.assertTrue(idxScoreRed0 >= 0);
     Assert.assertTrue(idxScoreBlue0 > idxScoreRed0);
-    Assert.assertTrue(idxCanPlay > idxScoreBlue0);
+    Assert.assertTrue(idxLegalMoves > idxScoreBlue0);
+    Assert.assertEquals(idxLegalMoves, log.lastIndexOf("legalMoves RED"));
   }
 }
@@ -0,0 +1,185 @@
+package sanguine;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+import sanguine.controller.machineplayers.StrategyPlayer;
+import sanguine.model.BasicSanguine;
+import sanguine.model.BitboardSanguine;
+import sanguine.model.Player;
+import sanguine.model.ReadOnlySanguineModel;
+import sanguine.model.SanguineModel;
+import sanguine.model.SparseSanguine;
+import sanguine.model.moves.Pass;
+import sanguine.model.moves.SanguineMove;
+import sanguine.model.strategy.CombinationStrategy;
+import sanguine.model.strategy.FillFirstStrategy;
+import sanguine.model.strategy.MaxRowScoreStrategy;
+import sanguine.model.strategy.MctsStrategy;
+import sanguine.model.strategy.PlayoutPolicy;
+import sanguine.model.strategy.SanguineStrategy;
+import sanguine.model.strategy.SearchReport;
+
+/**
+ * tests for the {@link MctsStrategy} class.
+ */
+public class MctsStrategyTest {
+
+  private static MctsStrategy playingOut(int playouts, long seed) {
+    return new MctsStrategy(playouts, 60_000, PlayoutPolicy.PLACE_FIRST,
+        MctsStrategy.DEFAULT_EXPLORATION, new Random(seed));
+  }
+
+  @Test
+  public void aPlayoutBudgetPlaysThatManyGamesAndLeavesTheModelAlone() {
+    for (long seed = 0; seed < 6; seed++) {
+      SanguineModel g = MinimaxStrategyTest.gameAfter(seed, (int) seed);
+      if (g.isGameOver()) {
+        continue;
+      }
+      String before = BasicSanguineUndoTests.describe(g);
+      SearchReport report = playingOut(300, seed).search(g, g.getTurn());
+      assertEquals(before, BasicSanguineUndoTests.describe(g));
+      assertEquals(300, report.playouts());
+      assertTrue(BasicSanguineUndoTests.legalMoves(g).contains(report.move()));
+      assertTrue(report.winRate() >= 0 && report.winRate() <= 1);
+    }
+  }
+
+  @Test
+  public void aTimeBudgetEndsTheSearch() {
+    SanguineModel g = BasicSanguineUndoTests.newGame(1);
+    MctsStrategy strategy = new MctsStrategy(Integer.MAX_VALUE, 20, PlayoutPolicy.RANDOM,
+        MctsStrategy.DEFAULT_EXPLORATION, new Random(1));
+    long start = System.nanoTime();
+    SanguineMove move = strategy.chooseMove(g, Player.RED);
+    assertTrue(System.nanoTime() - start < 2_000_000_000L);
+    SearchReport report = strategy.lastReport();
+    assertEquals(move, report.move());
+    assertTrue(report.playouts() > 0);
+    assertTrue(report.playoutsPerSecond() > 0);
+    g.makeTurn(move);
+  }
+
+  @Test
+  public void theTreeStopsGrowingAtItsNodeBudget() {
+    SanguineModel g = BasicSanguineUndoTests.newGame(3);
+    MctsStrategy strategy = new MctsStrategy(2_000, 60_000, 40, PlayoutPolicy.PLACE_FIRST,
+        MctsStrategy.DEFAULT_EXPLORATION, new Random(3),
+        new CombinationStrategy(new MaxRowScoreStrategy(), new FillFirstStrategy()));
+    SearchReport report = strategy.search(g, Player.RED);
+    assertEquals(2_000, report.playouts());
+    assertTrue(strategy.treeSize() <= 40);
+    assertTrue(BasicSanguineUndoTests.legalMoves(g).contains(report.move()));
+  }
+
+  @Test
+  public void aStrategyPlayerPassesOnEverySearchReport() {
+    SanguineModel g = BasicSanguineUndoTests.newGame(5);
+    List<SearchReport> reports = new ArrayList<>();
+    StrategyPlayer red = new StrategyPlayer(g, Player.RED, playingOut(100, 5), reports::add);
+    new StrategyPlayer(g, Player.BLUE, new FillFirstStrategy());
+    g.startGame();
+    assertTrue(g.isGameOver());
+    assertTrue(reports.size() > 0);
+    assertEquals(reports.get(reports.size() - 1), red.lastReport());
+    for (SearchReport report : reports) {
+      assertTrue(report.playouts() > 0);
+    }
+  }
+
+  @Test
+  public void theSameSeedChoosesTheSameMove() {
+    for (long seed = 0; seed < 4; seed++) {
+      SanguineModel g = MinimaxStrategyTest.gameAfter(seed, 2);
+      if (g.isGameOver()) {
+        continue;
+      }
+      assertEquals(playingOut(200, seed).chooseMove(g, g.getTurn()),
+          playingOut(200, seed).chooseMove(g, g.getTurn()));
+    }
+  }
+
+  @Test
+  public void modelsThatCantBeForkedAreLeftToTheFallback() {
+    SanguineModel g = MinimaxStrategyTest.gameAfter(2, 3);
+    SanguineStrategy fallback = new CombinationStrategy(new MaxRowScoreStrategy(),
+        new FillFirstStrategy());
+    ReadOnlySanguineModel snapshot = g.snapshot();
+    assertFalse(snapshot.canFork());
+    SearchReport report = playingOut(50, 2).search(snapshot, g.getTurn());
+    assertEquals(fallback.chooseMove(g, g.getTurn()), report.move());
+    assertEquals(0, report.playouts());
+  }
+
+  @Test
+  public void theFastModelsAreSearchedLikeBasicSanguine() {
+    for (long seed = 0; seed < 4; seed++) {
+      SanguineModel basic = BasicSanguineUndoTests.newGame(seed);
+      List<SanguineModel> fast = List.of(
+          new BitboardSanguine(5, 3, 4, "./docs/example.deck", "./docs/example.deck", true, seed),
+          new SparseSanguine(5, 3, 4, "./docs/example.deck", "./docs/example.deck", true, seed));
+      SearchReport expected = playingOut(200, seed).search(basic, Player.RED);
+      for (SanguineModel g : fast) {
+        assertTrue(g.canFork());
+        String before = BasicSanguineUndoTests.describe(g);
+        SearchReport report = playingOut(200, seed).search(g, Player.RED);
+        assertEquals(before, BasicSanguineUndoTests.describe(g));
+        assertEquals(200, report.playouts());
+        assertEquals(expected.move(), report.move());
+      }
+    }
+  }
+
+  @Test
+  public void searchingBeatsTheFillFirstStrategy() {
+    int margin = 0;
+    for (long seed = 0; seed < 6; seed++) {
+      SanguineModel g = new BasicSanguine(5, 3, 4, "./docs/example.deck",
+          "./docs/example.deck", true, seed);
+      Player searcher = (seed % 2 == 0) ? Player.RED : Player.BLUE;
+      new StrategyPlayer(g, searcher, playingOut(400, seed));
+      new StrategyPlayer(g, MinimaxStrategyTest.opponent(searcher), new FillFirstStrategy());
+      g.startGame();
+      assertTrue(g.isGameOver());
+      margin += MinimaxStrategyTest.pointsWon(g, searcher);
+    }
+    assertTrue("searching lost by " + -margin, margin > 0);
+  }
+
+  @Test
+  public void itPassesWhenItIsntItsTurn() {
+    SanguineModel g = BasicSanguineUndoTests.newGame(0);
+    assertEquals(new Pass(), playingOut(50, 0).chooseMove(g, Player.BLUE));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void aPlayoutBudgetThatIsntPositiveThrows() {
+    new MctsStrategy(0, 100, PlayoutPolicy.RANDOM, 1, new Random());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void aNodeBudgetThatIsntPositiveThrows() {
+    new MctsStrategy(10, 100, 0, PlayoutPolicy.RANDOM, 1, new Random(), new FillFirstStrategy());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void aNegativeExplorationThrows() {
+    new MctsStrategy(10, 100, PlayoutPolicy.RANDOM, -1, new Random());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void aNullPolicyThrows() {
+    new MctsStrategy(10, 100, null, 1, new Random());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void aNullModelThrows() {
+    new MctsStrategy().chooseMove(null, Player.RED);
+  }
+}
@@ -0,0 +1,204 @@
+package sanguine;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+import sanguine.controller.machineplayers.StrategyPlayer;
+import sanguine.model.BasicSanguine;
+import sanguine.model.BitboardSanguine;
+import sanguine.model.Player;
+import sanguine.model.ReadOnlySanguineModel;
+import sanguine.model.SanguineModel;
+import sanguine.model.SparseSanguine;
+import sanguine.model.moves.Pass;
+import sanguine.model.moves.SanguineMove;
+import sanguine.model.strategy.CombinationStrategy;
+import sanguine.model.strategy.FillFirstStrategy;
+import sanguine.model.strategy.MaxRowScoreStrategy;
+import sanguine.model.strategy.MinimaxStrategy;
+import sanguine.model.strategy.RowMarginEvaluation;
+import sanguine.model.strategy.SanguineStrategy;
+
+/**
+ * tests for the {@link MinimaxStrategy} class.
+ */
+public class MinimaxStrategyTest {
+
+  private static final RowMarginEvaluation EVALUATION = new RowMarginEvaluation();
+
+  private static MinimaxStrategy searchingTo(int depth) {
+    return new MinimaxStrategy(60_000, depth, EVALUATION,
+        new CombinationStrategy(new MaxRowScoreStrategy(), new FillFirstStrategy()));
+  }
+
+  static Player opponent(Player player) {
+    return (player == Player.RED) ? Player.BLUE : Player.RED;
+  }
+
+  static int pointsWon(ReadOnlySanguineModel g, Player player) {
+    int points = 0;
+    for (int row = 0; row < g.height(); row++) {
+      int mine = g.getRowScore(player, row);
+      int theirs = g.getRowScore(opponent(player), row);
+      points += (mine > theirs) ? mine : (theirs > mine) ? -theirs : 0;
+    }
+    return points;
+  }
+
+  /**
+   * returns the score of the game for the given player to move, by plain minimax without
+   * pruning, scored as {@link MinimaxStrategy} scores games.
+   */
+  private static int minimax(SanguineModel g, Player side, int depth) {
+    if (g.isGameOver()) {
+      return (1 << 16) * pointsWon(g, side);
+    }
+    if (depth == 0) {
+      return EVALUATION.evaluate(g, side);
+    }
+    int best = Integer.MIN_VALUE;
+    for (SanguineMove move : BasicSanguineUndoTests.legalMoves(g)) {
+      g.apply(move);
+      best = Math.max(best, -minimax(g, opponent(side), depth - 1));
+      g.undo();
+    }
+    return best;
+  }
+
+  /**
+   * returns a game after the given number of random placements.
+   */
+  static SanguineModel gameAfter(long seed, int placements) {
+    SanguineModel g = BasicSanguineUndoTests.newGame(seed);
+    Random rng = new Random(seed);
+    for (int i = 0; i < placements && !g.isGameOver(); i++) {
+      List<SanguineMove> moves = BasicSanguineUndoTests.legalMoves(g);
+      g.makeTurn(moves.get(rng.nextInt(Math.max(1, moves.size() - 1))));
+    }
+    return g;
+  }
+
+  @Test
+  public void theChosenMoveHasTheMinimaxScore() {
+    for (long seed = 0; seed < 6; seed++) {
+      for (int depth = 1; depth <= 3; depth++) {
+        SanguineModel g = gameAfter(seed, (int) seed * 2);
+        if (g.isGameOver()) {
+          continue;
+        }
+        Player turn = g.getTurn();
+        String before = BasicSanguineUndoTests.describe(g);
+        SanguineMove move = searchingTo(depth).chooseMove(g, turn);
+        assertEquals(before, BasicSanguineUndoTests.describe(g));
+
+        int best = minimax(g, turn, depth);
+        g.apply(move);
+        assertEquals(best, -minimax(g, opponent(turn), depth - 1));
+      }
+    }
+  }
+
+  @Test
+  public void searchStopsOnceEveryLineReachesTheEnd() {
+    int searched = 0;
+    for (long seed = 0; seed < 10; seed++) {
+      SanguineModel g = BasicSanguineUndoTests.newGame(seed);
+      while (!g.isGameOver() && g.remainingEmptyTiles() > 3) {
+        g.makeTurn(BasicSanguineUndoTests.legalMoves(g).get(0));
+      }
+      if (g.isGameOver()) {
+        continue;
+      }
+      MinimaxStrategy strategy = searchingTo(MinimaxStrategy.DEFAULT_MAX_DEPTH);
+      strategy.chooseMove(g, g.getTurn());
+      assertTrue(strategy.searchedDepth() < MinimaxStrategy.DEFAULT_MAX_DEPTH);
+      searched += 1;
+    }
+    assertTrue(searched > 0);
+  }
+
+  @Test
+  public void aMoveIsChosenWhenTimeRunsOut() {
+    SanguineModel g = BasicSanguineUndoTests.newGame(1);
+    MinimaxStrategy strategy = new MinimaxStrategy(20);
+    long start = System.nanoTime();
+    SanguineMove move = strategy.chooseMove(g, Player.RED);
+    assertTrue(System.nanoTime() - start < 2_000_000_000L);
+    assertTrue(strategy.searchedDepth() >= 1);
+    assertTrue(strategy.searchedDepth() < MinimaxStrategy.DEFAULT_MAX_DEPTH);
+    g.makeTurn(move);
+  }
+
+  @Test
+  public void modelsThatCantBeForkedAreLeftToTheFallback() {
+    SanguineModel g = gameAfter(2, 3);
+    SanguineStrategy fallback = new CombinationStrategy(new MaxRowScoreStrategy(),
+        new FillFirstStrategy());
+    ReadOnlySanguineModel snapshot = g.snapshot();
+    assertFalse(snapshot.canFork());
+    assertEquals(fallback.chooseMove(g, g.getTurn()),
+        new MinimaxStrategy(50).chooseMove(snapshot, g.getTurn()));
+  }
+
+  @Test
+  public void theFastModelsAreSearchedLikeBasicSanguine() {
+    for (long seed = 0; seed < 4; seed++) {
+      SanguineModel basic = BasicSanguineUndoTests.newGame(seed);
+      SanguineModel bitboard = new BitboardSanguine(5, 3, 4, "./docs/example.deck",
+          "./docs/example.deck", true, seed);
+      SanguineModel sparse = new SparseSanguine(5, 3, 4, "./docs/example.deck",
+          "./docs/example.deck", true, seed);
+      while (!basic.isGameOver()) {
+        Player turn = basic.getTurn();
+        SanguineMove move = searchingTo(2).chooseMove(basic, turn);
+        assertEquals(move, searchingTo(2).chooseMove(bitboard, turn));
+        assertEquals(move, searchingTo(2).chooseMove(sparse, turn));
+        basic.makeTurn(move);
+        bitboard.makeTurn(move);
+        sparse.makeTurn(move);
+      }
+      assertEquals(BasicSanguineUndoTests.describe(basic),
+          BasicSanguineUndoTests.describe(bitboard));
+      assertEquals(BasicSanguineUndoTests.describe(basic),
+          BasicSanguineUndoTests.describe(sparse));
+    }
+  }
+
+  @Test
+  public void searchingBeatsTheGreedyStrategy() {
+    int margin = 0;
+    for (long seed = 0; seed < 6; seed++) {
+      SanguineModel g = new BasicSanguine(5, 3, 4, "./docs/example.deck",
+          "./docs/example.deck", true, seed);
+      Player searcher = (seed % 2 == 0) ? Player.RED : Player.BLUE;
+      new StrategyPlayer(g, searcher, searchingTo(3));
+      new StrategyPlayer(g, opponent(searcher), new CombinationStrategy(
+          new MaxRowScoreStrategy(), new FillFirstStrategy()));
+      g.startGame();
+      assertTrue(g.isGameOver());
+      margin += pointsWon(g, searcher);
+    }
+    assertTrue("searching lost by " + -margin, margin > 0);
+  }
+
+  @Test
+  public void itPassesWhenItIsntItsTurn() {
+    SanguineModel g = BasicSanguineUndoTests.newGame(0);
+    assertEquals(new Pass(),
+        new MinimaxStrategy(50).chooseMove(g, Player.BLUE));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void aTimeThatIsntPositiveThrows() {
+    new MinimaxStrategy(0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void aNullModelThrows() {
+    new MinimaxStrategy().chooseMove(null, Player.RED);
+  }
+}
@@ -0,0 +1,101 @@
+package sanguine;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+import sanguine.model.SanguineModel;
+import sanguine.model.moves.MoveCodec;
+import sanguine.model.moves.MoveResult;
+import sanguine.model.moves.PackedPlacement;
+import sanguine.model.moves.Pass;
+import sanguine.model.moves.PlaceCard;
+import sanguine.model.moves.SanguineMove;
+
+/**
+ * tests for the {@link MoveCodec} class and {@link SanguineModel#makeTurn(int)}.
+ */
+public class MoveCodecTest {
+
+  @Test
+  public void movesSurviveEncodingAndDecoding() {
+    assertEquals(new Pass(), MoveCodec.decode(MoveCodec.encode(new Pass())));
+    for (int idx = 0; idx <= PackedPlacement.MAX_HAND_INDEX; idx += 9) {
+      for (int row = 0; row <= PackedPlacement.MAX_COORDINATE; row += 211) {
+        for (int col = 0; col <= PackedPlacement.MAX_COORDINATE; col += 307) {
+          PlaceCard move = new PlaceCard(row, col, idx);
+          int code = MoveCodec.encode(move);
+          assertTrue(MoveCodec.isPlacement(code));
+          assertFalse(MoveCodec.isPass(code));
+          assertEquals(move, MoveCodec.decode(code));
+          assertEquals(move.hashCode(), MoveCodec.decode(code).hashCode());
+        }
+      }
+    }
+  }
+
+  @Test
+  public void passIsTheOnlyNegativeMove() {
+    assertTrue(MoveCodec.isMove(MoveCodec.PASS));
+    assertTrue(MoveCodec.isPass(MoveCodec.PASS));
+    assertFalse(MoveCodec.isPlacement(MoveCodec.PASS));
+    assertFalse(MoveCodec.isMove(-2));
+    assertFalse(MoveCodec.isMove(Integer.MIN_VALUE));
+    assertEquals("pass", MoveCodec.toString(MoveCodec.PASS));
+    assertEquals("2@1,4", MoveCodec.toString(MoveCodec.placement(2, 1, 4)));
+  }
+
+  @Test
+  public void codesMatchPackedPlacements() {
+    assertEquals(PackedPlacement.pack(3, 2, 1), MoveCodec.placement(3, 2, 1));
+    assertEquals(MoveCodec.placement(3, 2, 1), MoveCodec.encode(new PlaceCard(2, 1, 3)));
+  }
+
+  @Test
+  public void makingCodesPlaysLikeMakingMovesThroughoutRandomGames() {
+    for (long seed = 0; seed < 20; seed++) {
+      SanguineModel byObject = BasicSanguineUndoTests.newGame(seed);
+      SanguineModel byCode = BasicSanguineUndoTests.newGame(seed);
+      Random rng = new Random(seed);
+      int[] placements = new int[byCode.getMaxHandSize() * byCode.width() * byCode.height()];
+      while (!byObject.isGameOver()) {
+        List<SanguineMove> moves = BasicSanguineUndoTests.legalMoves(byObject);
+        int count = byCode.legalMoves(byCode.getTurn(), placements);
+        assertEquals(moves.size() - 1, count);
+        SanguineMove move = moves.get(rng.nextInt(moves.size()));
+        int code = MoveCodec.encode(move);
+        byObject.makeTurn(move);
+        if (rng.nextBoolean()) {
+          byCode.makeTurn(code);
+        } else {
+          assertEquals(MoveResult.OK, byCode.tryMakeTurn(byCode.getTurn(), code));
+        }
+        assertEquals(BasicSanguineUndoTests.describe(byObject),
+            BasicSanguineUndoTests.describe(byCode));
+      }
+    }
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void makingAnIllegalCodeThrows() {
+    BasicSanguineUndoTests.newGame(0).makeTurn(MoveCodec.placement(0, 0, 2));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void makingSomethingElseThrows() {
+    BasicSanguineUndoTests.newGame(0).makeTurn(-5);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void decodingSomethingElseThrows() {
+    MoveCodec.decode(-5);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void encodingAnUnknownMoveThrows() {
+    MoveCodec.encode(model -> model.pass());
+  }
+}
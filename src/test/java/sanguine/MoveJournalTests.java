@@ -0,0 +1,237 @@
+package sanguine;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+import sanguine.model.BasicSanguine;
+import sanguine.model.MoveJournal;
+import sanguine.model.SanguineModel;
+import sanguine.model.moves.SanguineMove;
+
+/**
+ * tests for the {@link MoveJournal} class.
+ */
+public class MoveJournalTests {
+
+  private static final String DECK = "./docs/example.deck";
+
+  /**
+   * returns the path of a journal file that doesn't exist yet, deleted when the tests end.
+   */
+  private static Path newJournalPath() throws IOException {
+    Path dir = Files.createTempDirectory("sanguine");
+    dir.toFile().deleteOnExit();
+    Path file = dir.resolve("game.journal");
+    file.toFile().deleteOnExit();
+    return file;
+  }
+
+  private static MoveJournal create(Path file, long seed) {
+    return MoveJournal.create(file, 5, 3, 4, DECK, DECK, seed);
+  }
+
+  /**
+   * makes the given number of random legal moves on the game, or fewer if the game ends.
+   */
+  private static void play(SanguineModel game, Random rng, int moves) {
+    for (int i = 0; i < moves && !game.isGameOver(); i++) {
+      List<SanguineMove> legal = BasicSanguineUndoTests.legalMoves(game);
+      game.makeTurn(legal.get(rng.nextInt(Math.max(1, legal.size() - 1))));
+    }
+  }
+
+  @Test
+  public void aNewGameIsTheGameOfItsSetup() throws IOException {
+    try (MoveJournal journal = create(newJournalPath(), 11)) {
+      SanguineModel game = journal.newGame();
+      assertEquals(BasicSanguineUndoTests.describe(
+          new BasicSanguine(5, 3, 4, DECK, DECK, true, 11L)),
+          BasicSanguineUndoTests.describe(game));
+      assertEquals(0, journal.moveCount());
+    }
+  }
+
+  @Test
+  public void aGameIsRebuiltAfterEveryMove() throws IOException {
+    for (long seed = 0; seed < 5; seed++) {
+      Path file = newJournalPath();
+      Random rng = new Random(seed);
+      try (MoveJournal journal = create(file, seed)) {
+        SanguineModel game = journal.newGame();
+        int moves = 0;
+        while (!game.isGameOver()) {
+          play(game, rng, 1);
+          moves += 1;
+          // the journal is left open, as if the JVM died here
+          try (MoveJournal reopened = MoveJournal.open(file)) {
+            assertEquals(moves, reopened.moveCount());
+            assertEquals(BasicSanguineUndoTests.describe(game),
+                BasicSanguineUndoTests.describe(reopened.newGame()));
+          }
+        }
+      }
+      Files.delete(file);
+    }
+  }
+
+  @Test
+  public void aRebuiltGameCarriesOnJournaling() throws IOException {
+    Path file = newJournalPath();
+    Random rng = new Random(4);
+    try (MoveJournal journal = create(file, 4)) {
+      play(journal.newGame(), rng, 4);
+    }
+    SanguineModel game;
+    try (MoveJournal journal = MoveJournal.open(file)) {
+      game = journal.newGame();
+      play(game, rng, 4);
+      assertEquals(8, journal.moveCount());
+    }
+    try (MoveJournal journal = MoveJournal.open(file)) {
+      assertEquals(8, journal.moveCount());
+      assertEquals(BasicSanguineUndoTests.describe(game),
+          BasicSanguineUndoTests.describe(journal.newGame()));
+    }
+  }
+
+  @Test
+  public void aBatchOfMovesIsJournaled() throws IOException {
+    Path file = newJournalPath();
+    SanguineModel recorder = new BasicSanguine(5, 3, 4, DECK, DECK, true, 9L);
+    List<SanguineMove> moves = new ArrayList<>();
+    Random rng = new Random(9);
+    for (int i = 0; i < 6; i++) {
+      List<SanguineMove> legal = BasicSanguineUndoTests.legalMoves(recorder);
+      moves.add(legal.get(rng.nextInt(legal.size() - 1)));
+      recorder.makeTurn(moves.get(i));
+    }
+    try (MoveJournal journal = create(file, 9)) {
+      journal.newGame().applyAll(moves);
+      assertEquals(6, journal.moveCount());
+    }
+    try (MoveJournal journal = MoveJournal.open(file)) {
+      assertEquals(BasicSanguineUndoTests.describe(recorder),
+          BasicSanguineUndoTests.describe(journal.newGame()));
+    }
+  }
+
+  @Test
+  public void aTornRecordIsCut() throws IOException {
+    Path file = newJournalPath();
+    SanguineModel game;
+    try (MoveJournal journal = create(file, 2)) {
+      game = journal.newGame();
+      play(game, new Random(2), 3);
+    }
+    long length = Files.size(file);
+    Files.write(file, new byte[] {'M', 0, 0}, StandardOpenOption.APPEND);
+    try (MoveJournal journal = MoveJournal.open(file)) {
+      assertEquals(3, journal.moveCount());
+      assertEquals(length, Files.size(file));
+      assertEquals(BasicSanguineUndoTests.describe(game),
+          BasicSanguineUndoTests.describe(journal.newGame()));
+    }
+  }
+
+  @Test
+  public void zeroesLeftByACrashAreCut() throws IOException {
+    Path file = newJournalPath();
+    try (MoveJournal journal = create(file, 3)) {
+      play(journal.newGame(), new Random(3), 2);
+    }
+    long length = Files.size(file);
+    Files.write(file, new byte[64], StandardOpenOption.APPEND);
+    try (MoveJournal journal = MoveJournal.open(file)) {
+      assertEquals(2, journal.moveCount());
+    }
+    assertEquals(length, Files.size(file));
+  }
+
+  @Test
+  public void closingSyncsOnce() throws IOException {
+    Path file = newJournalPath();
+    MoveJournal journal = create(file, 1);
+    journal.setSyncInterval(Long.MAX_VALUE);
+    play(journal.newGame(), new Random(1), 3);
+    journal.close();
+    journal.close();
+    assertEquals(3, MoveJournal.open(file).moveCount());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void creatingOverAnExistingFileThrows() throws IOException {
+    Path file = newJournalPath();
+    create(file, 0).close();
+    create(file, 0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void openingSomethingElseThrows() throws IOException {
+    Path file = newJournalPath();
+    Files.write(file, new byte[] {1, 2, 3, 4, 5, 6, 7, 8});
+    MoveJournal.open(file);
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void makingTheGameTwiceThrows() throws IOException {
+    try (MoveJournal journal = create(newJournalPath(), 0)) {
+      journal.newGame();
+      journal.newGame();
+    }
+  }
+
+  @Test
+  public void movesAfterClosingAreMadeButNotJournaled() throws IOException {
+    Path file = newJournalPath();
+    MoveJournal journal = create(file, 0);
+    SanguineModel game = journal.newGame();
+    play(game, new Random(0), 2);
+    journal.close();
+    play(game, new Random(0), 2);
+    assertEquals(2, journal.moveCount());
+    assertEquals(2, MoveJournal.open(file).moveCount());
+  }
+
+  @Test
+  public void aGameIsRebuiltOnTheModelItWasPlayedOn() throws IOException {
+    for (MoveJournal.ModelKind kind : MoveJournal.ModelKind.values()) {
+      Path file = newJournalPath();
+      SanguineModel game;
+      try (MoveJournal journal = MoveJournal.create(file, kind, 5, 3, 4, DECK, DECK, 6)) {
+        game = journal.newGame();
+        play(game, new Random(6), 5);
+      }
+      try (MoveJournal journal = MoveJournal.open(file)) {
+        assertEquals(kind, journal.modelKind());
+        SanguineModel rebuilt = journal.newGame();
+        assertEquals(game.getClass(), rebuilt.getClass());
+        assertEquals(BasicSanguineUndoTests.describe(game),
+            BasicSanguineUndoTests.describe(rebuilt));
+      }
+    }
+  }
+
+  @Test
+  public void movesBeforeAPauseAreSyncedOnceTheIntervalPasses() throws IOException,
+      InterruptedException {
+    try (MoveJournal journal = create(newJournalPath(), 5)) {
+      journal.setSyncInterval(200_000_000L);
+      SanguineModel game = journal.newGame();
+      play(game, new Random(5), 1);
+      // no later turn comes to sync the move
+      long deadline = System.nanoTime() + 5_000_000_000L;
+      while (!journal.isSynced() && System.nanoTime() < deadline) {
+        Thread.sleep(10);
+      }
+      assertTrue(journal.isSynced());
+    }
+  }
+}
@@ -0,0 +1,114 @@
+package sanguine;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+import sanguine.model.Player;
+import sanguine.model.SanguineModel;
+import sanguine.model.moves.MoveResult;
+import sanguine.model.moves.Pass;
+import sanguine.model.moves.PlaceCard;
+import sanguine.model.moves.SanguineMove;
+
+/**
+ * tests for {@link SanguineModel#tryPlaceCard}, {@link SanguineModel#tryPass} and
+ * {@link SanguineModel#tryMakeTurn}, which check that each illegal move is reported with the right
+ * {@link MoveResult} and leaves the game unchanged.
+ */
+public class MoveResultTests {
+
+  @Test
+  public void resultIsOkExactlyWhenTheCardCanBePlayedThroughoutRandomGames() {
+    for (long seed = 0; seed < 20; seed++) {
+      SanguineModel g = BasicSanguineUndoTests.newGame(seed);
+      Random rng = new Random(seed);
+      while (!g.isGameOver()) {
+        for (Player player : Player.values()) {
+          for (int idx = 0; idx < g.getMaxHandSize(); idx++) {
+            for (int row = 0; row < g.height(); row++) {
+              for (int col = 0; col < g.width(); col++) {
+                boolean legal = idx < g.handSize(player)
+                    && g.canPlayCard(player, idx, row, col);
+                assertEquals(legal, g.placeCardResult(player, idx, row, col) == MoveResult.OK);
+              }
+            }
+          }
+        }
+        List<SanguineMove> moves = BasicSanguineUndoTests.legalMoves(g);
+        SanguineMove move = moves.get(rng.nextInt(moves.size()));
+        assertEquals(MoveResult.OK, g.tryMakeTurn(g.getTurn(), move));
+      }
+    }
+  }
+
+  @Test
+  public void illegalPlacementsAreReportedAndChangeNothing() {
+    SanguineModel g = BasicSanguineUndoTests.newGame(0);
+    String before = BasicSanguineUndoTests.describe(g);
+    assertEquals(MoveResult.NOT_YOUR_TURN, g.tryPlaceCard(Player.BLUE, 0, 0, 4));
+    assertEquals(MoveResult.INVALID_COORDINATES, g.tryPlaceCard(Player.RED, 0, 3, 0));
+    assertEquals(MoveResult.INVALID_COORDINATES, g.tryPlaceCard(Player.RED, 0, 0, -1));
+    assertEquals(MoveResult.INVALID_HAND_INDEX, g.tryPlaceCard(Player.RED, 4, 0, 0));
+    assertEquals(MoveResult.NOT_OWNED, g.tryPlaceCard(Player.RED, 0, 0, 2));
+    assertEquals(MoveResult.NOT_OWNED, g.tryPlaceCard(Player.RED, 0, 0, 4));
+    assertEquals(MoveResult.NOT_YOUR_TURN, g.tryPass(Player.BLUE));
+    assertEquals(before, BasicSanguineUndoTests.describe(g));
+  }
+
+  @Test
+  public void placingOnACardIsOccupiedAndExpensiveCardsNeedPawns() {
+    for (long seed = 0; seed < 20; seed++) {
+      SanguineModel g = BasicSanguineUndoTests.newGame(seed);
+      Player red = g.getTurn();
+      int played = -1;
+      for (int idx = 0; idx < g.handSize(red) && played < 0; idx++) {
+        if (g.canPlayCard(red, idx, 1, 0)) {
+          played = idx;
+        }
+      }
+      if (played < 0) {
+        continue;
+      }
+      for (int idx = 0; idx < g.handSize(red); idx++) {
+        if (g.handCardAt(red, idx).cost() > g.pawnsAt(1, 0)) {
+          assertEquals(MoveResult.INSUFFICIENT_PAWNS, g.placeCardResult(red, idx, 1, 0));
+        }
+      }
+      assertEquals(MoveResult.OK, g.tryPlaceCard(red, played, 1, 0));
+      assertEquals(MoveResult.OK, g.tryPass(Player.BLUE));
+      String before = BasicSanguineUndoTests.describe(g);
+      assertEquals(MoveResult.OCCUPIED, g.tryPlaceCard(red, 0, 1, 0));
+      assertEquals(before, BasicSanguineUndoTests.describe(g));
+    }
+  }
+
+  @Test
+  public void movesCannotBeMadeOnceTheGameIsOver() {
+    SanguineModel g = BasicSanguineUndoTests.newGame(0);
+    assertEquals(MoveResult.OK, g.tryMakeTurn(Player.RED, new Pass()));
+    assertEquals(MoveResult.OK, g.tryMakeTurn(Player.BLUE, new Pass()));
+    assertEquals(MoveResult.GAME_OVER, g.tryPass(Player.RED));
+    assertEquals(MoveResult.GAME_OVER, g.tryMakeTurn(Player.RED, new PlaceCard(0, 0, 0)));
+  }
+
+  @Test
+  public void movesWithoutTheirOwnCheckFallBackToAffect() {
+    SanguineModel g = BasicSanguineUndoTests.newGame(0);
+    SanguineMove passing = model -> model.pass();
+    SanguineMove failing = model -> {
+      throw new IllegalArgumentException("never legal");
+    };
+    assertEquals(MoveResult.NOT_YOUR_TURN, g.tryMakeTurn(Player.BLUE, passing));
+    assertEquals(MoveResult.ILLEGAL_MOVE, g.tryMakeTurn(Player.RED, failing));
+    assertEquals(MoveResult.OK, g.tryMakeTurn(Player.RED, passing));
+    assertNotEquals(Player.RED, g.getTurn());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void nullMoveThrows() {
+    BasicSanguineUndoTests.newGame(0).tryMakeTurn(Player.RED, null);
+  }
+}
@@ -2,13 +2,16 @@ package sanguine;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import org.junit.Test;
 import sanguine.model.Card;
+import sanguine.model.InfluenceFootprint;
 import sanguine.model.InfluenceGridTile;
+import sanguine.model.Player;
 import sanguine.model.SanguineCard;
 
 /**
@@ -122,4 +125,75 @@ public class SanguineCardTest {
     assertEquals(3, c.cost());
     assertEquals(9, c.value());
   }
+
+  @Test
+  public void footprint_onlyHoldsAffectedTiles() {
+    Card c = new SanguineCard("Plus", 1, 7, plusGrid());
+    InfluenceFootprint red = c.footprint(Player.RED);
+    assertEquals(3, red.size());
+    assertEquals((1 << 6) | (1 << 13) | (1 << 17), red.mask());
+
+    assertEquals(-1, red.rowOffset(0));
+    assertEquals(-1, red.colOffset(0));
+    assertEquals(0, red.rowOffset(1));
+    assertEquals(1, red.colOffset(1));
+    assertEquals(1, red.rowOffset(2));
+    assertEquals(0, red.colOffset(2));
+  }
+
+  @Test
+  public void footprint_mirroredForBlue() {
+    Card c = new SanguineCard("Plus", 1, 7, plusGrid());
+    InfluenceFootprint blue = c.footprint(Player.BLUE);
+    assertEquals(3, blue.size());
+    assertEquals((1 << 8) | (1 << 11) | (1 << 17), blue.mask());
+
+    assertEquals(-1, blue.rowOffset(0));
+    assertEquals(1, blue.colOffset(0));
+    assertEquals(0, blue.rowOffset(1));
+    assertEquals(-1, blue.colOffset(1));
+    assertEquals(1, blue.rowOffset(2));
+    assertEquals(0, blue.colOffset(2));
+  }
+
+  @Test
+  public void footprint_compiledOnce() {
+    Card c = new SanguineCard("Plus", 1, 7, plusGrid());
+    assertSame(c.footprint(Player.RED), c.footprint(Player.RED));
+    assertSame(c.footprint(Player.BLUE), c.footprint(Player.BLUE));
+  }
+
+  @Test
+  public void footprint_holdsEveryTileOfAGridThatIsAllAffected() {
+    Card c = new Card() {
+      @Override
+      public String name() {
+        return "All";
+      }
+
+      @Override
+      public int cost() {
+        return 1;
+      }
+
+      @Override
+      public int value() {
+        return 1;
+      }
+
+      @Override
+      public InfluenceGridTile tileAt(int row, int col) {
+        return InfluenceGridTile.AFFECTED;
+      }
+    };
+    InfluenceFootprint red = InfluenceFootprint.of(c, Player.RED);
+    assertEquals(25, red.size());
+    assertEquals((1 << 25) - 1, red.mask());
+    assertEquals(25, InfluenceFootprint.of(c, Player.BLUE).size());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void footprint_throwsOnNullPlayer() {
+    new SanguineCard("Plus", 1, 7, plusGrid()).footprint(null);
+  }
 }
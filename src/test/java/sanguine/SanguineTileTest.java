@@ -5,6 +5,7 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
+import java.lang.management.ManagementFactory;
 import java.util.ArrayList;
 import java.util.List;
 import org.junit.Test;
@@ -12,6 +13,7 @@ import sanguine.model.Card;
 import sanguine.model.InfluenceGridTile;
 import sanguine.model.Player;
 import sanguine.model.SanguineCard;
+import sanguine.model.SanguineModel;
 import sanguine.model.SanguineTile;
 
 /**
@@ -60,6 +62,27 @@ public class SanguineTileTest {
     gameTile.addPawn(Player.RED);
   }
 
+  @Test
+  public void testRestoreRemovesCardAndSetsPawns() {
+    init();
+    gameTile.addPawn(Player.RED);
+    gameTile.addCard(card, Player.RED);
+    gameTile.restore(Player.RED, 2);
+    assertFalse(gameTile.hasCard());
+    assertEquals(Player.RED, gameTile.owner());
+    assertEquals(2, gameTile.pawns());
+
+    gameTile.restore(null, 0);
+    assertFalse(gameTile.hasOwner());
+    assertEquals(0, gameTile.pawns());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testRestoreOwnerWithoutPawnsThrowsException() {
+    init();
+    gameTile.restore(Player.BLUE, 0);
+  }
+
   @Test
   public void testGetCard() {
     init();
@@ -252,4 +275,48 @@ public class SanguineTileTest {
     t.addCard(c, Player.BLUE);
     assertTrue("Two-arg addCard must set hasCard()==true", t.hasCard());
   }
+
+  @Test
+  public void addPawn_allocatesNothingThroughoutARealGame() {
+    com.sun.management.ThreadMXBean threads =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    int[] moves = new int[1024];
+
+    applyAndUndoEveryMove(BasicSanguineUndoTests.newGame(0), moves, threads);
+    long allocated = applyAndUndoEveryMove(BasicSanguineUndoTests.newGame(1), moves, threads);
+
+    assertEquals(0, allocated);
+  }
+
+  /**
+   * plays the given game to the end, applying and undoing every legal move of every turn before
+   * making the first one, so every card placed adds pawns to real tiles of the board through
+   * {@link SanguineTile#addPawn(Player)}. Returns the bytes the thread allocated while applying
+   * and undoing, counting the least of three sweeps of each turn so that objects the JIT puts
+   * back on the heap when it deoptimizes aren't counted; making the moves publishes snapshots, so
+   * it isn't measured.
+   */
+  private static long applyAndUndoEveryMove(SanguineModel game, int[] moves,
+                                            com.sun.management.ThreadMXBean threads) {
+    long allocated = 0;
+    while (!game.isGameOver()) {
+      int count = game.legalMoves(game.getTurn(), moves);
+      long least = Long.MAX_VALUE;
+      for (int sweep = 0; sweep < 3; sweep++) {
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < count; i++) {
+          game.apply(moves[i]);
+          game.undo();
+        }
+        least = Math.min(least, threads.getCurrentThreadAllocatedBytes() - before);
+      }
+      allocated += least;
+      if (count == 0) {
+        game.pass();
+      } else {
+        game.makeTurn(moves[0]);
+      }
+    }
+    return allocated;
+  }
 }
@@ -0,0 +1,138 @@
+package sanguine;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import org.junit.Test;
+import sanguine.model.BasicSanguine;
+import sanguine.model.Player;
+import sanguine.model.SanguineModel;
+import sanguine.model.SparseSanguine;
+import sanguine.model.moves.MoveCodec;
+
+/**
+ * a suite of tests for the {@link SparseSanguine} class. Games are played on a
+ * {@link SparseSanguine} and a {@link BasicSanguine} side by side with
+ * {@link BitboardSanguineTests#playSideBySide} to make sure the two implementations can't be told
+ * apart, including on boards too wide for a {@link sanguine.model.BitboardSanguine}.
+ */
+public class SparseSanguineTests {
+
+  @Test(expected = IllegalArgumentException.class)
+  public void evenWidthThrows() {
+    new SparseSanguine(6, 3, 1, "./docs/example.deck", "./docs/example.deck");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void tooFewCardsThrows() {
+    new SparseSanguine(7, 5, 1, "./docs/example.deck", "./docs/example.deck");
+  }
+
+  @Test
+  public void testRandomGamesMatchBasicSanguine() {
+    for (long seed = 0; seed < 50; seed++) {
+      SanguineModel expected = new BasicSanguine(5, 3, 4, "./docs/example.deck",
+          "./docs/example.deck", true, seed);
+      SanguineModel actual = new SparseSanguine(5, 3, 4, "./docs/example.deck",
+          "./docs/example.deck", true, seed);
+      BitboardSanguineTests.playSideBySide(expected, actual, new Random(seed));
+    }
+  }
+
+  @Test
+  public void testApplyUndoAndForkMatchBasicSanguine() {
+    for (long seed = 0; seed < 20; seed++) {
+      SanguineModel actual = new SparseSanguine(5, 3, 4, "./docs/example.deck",
+          "./docs/example.deck", true, seed);
+      BitboardSanguineTests.applyAndForkSideBySide(BasicSanguineUndoTests.newGame(seed), actual,
+          new Random(seed));
+    }
+  }
+
+  @Test
+  public void undoingMovesForgetsTheTilesTheyInfluenced() throws IOException {
+    Path deck = writeTempDeck(120);
+    int[] moves = new int[1024];
+    for (long seed = 0; seed < 20; seed++) {
+      SparseSanguine g = new SparseSanguine(71, 3, 5, deck.toString(), deck.toString(), true,
+          seed);
+      Random rng = new Random(seed);
+      List<String> states = new ArrayList<>();
+      List<Integer> stored = new ArrayList<>();
+      while (!g.isGameOver()) {
+        states.add(BasicSanguineUndoTests.describe(g));
+        stored.add(g.storedTiles());
+        int count = g.legalMoves(g.getTurn(), moves);
+        g.apply(count == 0 ? MoveCodec.PASS : moves[rng.nextInt(count)]);
+      }
+      for (int i = states.size() - 1; i >= 0; i--) {
+        g.undo();
+        assertEquals(states.get(i), BasicSanguineUndoTests.describe(g));
+        assertEquals((int) stored.get(i), g.storedTiles());
+      }
+      assertEquals(2 * 3, g.storedTiles());
+    }
+  }
+
+  @Test
+  public void testRandomGamesOnWideBoardsMatchBasicSanguine() throws IOException {
+    Path deck = writeTempDeck(120);
+    for (long seed = 0; seed < 3; seed++) {
+      SanguineModel expected = new BasicSanguine(71, 3, 5, deck.toString(), deck.toString(),
+          true, seed);
+      SanguineModel actual = new SparseSanguine(71, 3, 5, deck.toString(), deck.toString(),
+          true, seed);
+      BitboardSanguineTests.playSideBySide(expected, actual, new Random(seed));
+    }
+  }
+
+  @Test
+  public void onlyOwnedTilesAreStored() throws IOException {
+    Path deck = writeTempDeck(30_000);
+    SparseSanguine g = new SparseSanguine(401, 149, 5, deck.toString(), deck.toString(), true,
+        0L);
+    assertEquals(2 * 149, g.storedTiles());
+    assertEquals(401 * 149, g.remainingEmptyTiles());
+
+    g.placeCard(0, 10, 0);
+    assertEquals(Player.RED, g.ownerAt(10, 0));
+    assertTrue(g.isCardAt(10, 0));
+    assertEquals(2, g.pawnsAt(9, 0));
+    assertEquals(2, g.pawnsAt(11, 0));
+    assertEquals(1, g.pawnsAt(10, 1));
+    assertEquals(2 * 149 + 1, g.storedTiles());
+
+    int[] moves = new int[g.getMaxHandSize() * 149];
+    assertEquals(5 * 149, g.legalMoves(Player.BLUE, moves));
+    assertEquals(0, g.legalMoves(Player.RED, moves));
+  }
+
+  /**
+   * writes a deck of the given number of distinct cards, two copies each, that all influence the
+   * four tiles next to them.
+   */
+  private static Path writeTempDeck(int cards) throws IOException {
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < cards; i++) {
+      for (int copy = 0; copy < 2; copy++) {
+        sb.append(String.format(Locale.US, "Cross%d %d %d%n", i, 1, 1 + i % 3));
+        sb.append("XXXXX\n");
+        sb.append("XXIXX\n");
+        sb.append("XICIX\n");
+        sb.append("XXIXX\n");
+        sb.append("XXXXX\n");
+      }
+    }
+    Path p = Files.createTempFile("deck-cross-", ".config");
+    Files.write(p, sb.toString().getBytes());
+    p.toFile().deleteOnExit();
+    return p;
+  }
+}
@@ -1,7 +1,9 @@
 package sanguine;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import java.util.List;
 import java.util.Optional;
@@ -12,6 +14,9 @@ import sanguine.model.Card;
 import sanguine.model.Player;
 import sanguine.model.ReadOnlySanguineModel;
 import sanguine.model.SanguineModel;
+import sanguine.model.moves.MoveResult;
+import sanguine.model.moves.Pass;
+import sanguine.model.moves.PlaceCard;
 import sanguine.model.moves.SanguineMove;
 import sanguine.model.strategy.SanguineStrategy;
 
@@ -182,6 +187,36 @@ public class StrategyPlayerTest {
     assertFalse("Move should NOT be applied on other player's turn", move.affectCalled);
   }
 
+  @Test
+  public void alertTurn_withAnIllegalMove_throwsAndLeavesTheModelAlone() {
+    SanguineModel model = BasicSanguineUndoTests.newGame(0);
+    String before = BasicSanguineUndoTests.describe(model);
+    // the middle column has no pawns at the start of a game
+    StrategyPlayer sp = new StrategyPlayer(model, Player.RED,
+        new FakeStrategy(new PlaceCard(0, 2, 0)));
+    try {
+      sp.alertTurn(Player.RED);
+      fail("an illegal move from the strategy was not reported");
+    } catch (IllegalStateException e) {
+      assertTrue(e.getMessage().contains(MoveResult.NOT_OWNED.reason()));
+    }
+    assertEquals(before, BasicSanguineUndoTests.describe(model));
+    assertEquals(Player.RED, model.getTurn());
+  }
+
+  @Test
+  public void alertTurn_afterTheGameEnded_doesNothing() {
+    SanguineModel model = BasicSanguineUndoTests.newGame(0);
+    model.pass();
+    model.pass();
+    FakeStrategy strategy = new FakeStrategy(new Pass());
+    StrategyPlayer sp = new StrategyPlayer(model, Player.RED, strategy);
+
+    sp.alertTurn(Player.RED);
+
+    assertFalse("a stale alert should not consult the strategy", strategy.chooseCalled);
+  }
+
   @Test
   public void gameOver_doesNothing() {
     FakeModel model = new FakeModel();
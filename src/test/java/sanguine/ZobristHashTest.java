@@ -0,0 +1,109 @@
+package sanguine;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+import sanguine.model.BasicSanguine;
+import sanguine.model.SanguineModel;
+import sanguine.model.ZobristHash;
+import sanguine.model.moves.SanguineMove;
+
+/**
+ * tests for {@link ZobristHash} and the hash {@link BasicSanguine} keeps up to date.
+ */
+public class ZobristHashTest {
+
+  @Test
+  public void incrementalHashMatchesRecomputationThroughoutRandomGames() {
+    for (long seed = 0; seed < 50; seed++) {
+      SanguineModel g = BasicSanguineUndoTests.newGame(seed);
+      Random rng = new Random(seed);
+      assertEquals(ZobristHash.of(g), g.stateHash());
+      while (!g.isGameOver()) {
+        List<SanguineMove> moves = BasicSanguineUndoTests.legalMoves(g);
+        g.makeTurn(moves.get(rng.nextInt(moves.size())));
+        assertEquals(ZobristHash.of(g), g.stateHash());
+      }
+    }
+  }
+
+  @Test
+  public void hashIsRestoredByUndoAndSharedByForks() {
+    for (long seed = 0; seed < 20; seed++) {
+      SanguineModel g = BasicSanguineUndoTests.newGame(seed);
+      Random rng = new Random(seed);
+      while (!g.isGameOver()) {
+        long before = g.stateHash();
+        List<SanguineMove> moves = BasicSanguineUndoTests.legalMoves(g);
+        for (SanguineMove move : moves) {
+          g.apply(move);
+          assertEquals(ZobristHash.of(g), g.stateHash());
+          assertNotEquals(before, g.stateHash());
+          g.undo();
+          assertEquals(before, g.stateHash());
+        }
+        SanguineModel fork = g.fork();
+        assertEquals(before, fork.stateHash());
+        fork.makeTurn(moves.get(rng.nextInt(moves.size())));
+        assertEquals(ZobristHash.of(fork), fork.stateHash());
+        assertEquals(before, g.stateHash());
+
+        g.makeTurn(moves.get(rng.nextInt(moves.size())));
+      }
+    }
+  }
+
+  @Test
+  public void aPendingPassChangesTheHash() throws IOException {
+    // RED's deck runs out after its third card, so whether RED places that card before or after
+    // passing, both games reach the same board, hands and turn, with BLUE to move
+    SanguineModel passedLast = centerOnlyGame();
+    SanguineModel placedLast = centerOnlyGame();
+    for (SanguineModel g : List.of(passedLast, placedLast)) {
+      g.placeCard(0, 0, 0);
+      g.placeCard(0, 0, 4);
+      g.placeCard(0, 1, 0);
+      g.placeCard(0, 1, 4);
+    }
+    passedLast.placeCard(0, 2, 0);
+    passedLast.placeCard(0, 2, 4);
+    passedLast.pass();
+    placedLast.pass();
+    placedLast.placeCard(0, 2, 4);
+    placedLast.placeCard(0, 2, 0);
+
+    assertEquals(BasicSanguineUndoTests.describe(placedLast),
+        BasicSanguineUndoTests.describe(passedLast));
+    assertEquals(1, passedLast.consecutivePasses());
+    assertEquals(0, placedLast.consecutivePasses());
+    assertEquals(ZobristHash.of(passedLast), passedLast.stateHash());
+    assertEquals(ZobristHash.of(placedLast), placedLast.stateHash());
+    assertNotEquals(placedLast.stateHash(), passedLast.stateHash());
+  }
+
+  /**
+   * returns an unshuffled game on a 5x3 board with hands of one card, where RED has three cards
+   * and BLUE twelve, none of which influence any tile.
+   */
+  private static SanguineModel centerOnlyGame() throws IOException {
+    return new BasicSanguine(5, 3, 1, writeDeck("R", 3), writeDeck("B", 12), false, null);
+  }
+
+  private static String writeDeck(String prefix, int cards) throws IOException {
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < cards; i++) {
+      sb.append(prefix).append(i).append(" 1 1\n")
+          .append("XXXXX\nXXXXX\nXXCXX\nXXXXX\nXXXXX\n");
+    }
+    Path p = Files.createTempFile("deck_", ".config");
+    Files.writeString(p, sb.toString());
+    p.toFile().deleteOnExit();
+    return p.toString();
+  }
+}